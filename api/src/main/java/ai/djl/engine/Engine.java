@@ -220,6 +220,33 @@ public abstract class Engine {
      */
     public abstract GradientCollector newGradientCollector();
 
+    /**
+     * Sets whether the operations on the current thread are recorded for the backward pass of the
+     * {@link GradientCollector}.
+     *
+     * <p>The results of operations that are not recorded have no gradient, and the engine does not
+     * keep their inputs for the backward pass.
+     *
+     * @param recording {@code true} to record the operations
+     * @return the previous recording state
+     */
+    public boolean setGradientRecording(boolean recording) {
+        throw new UnsupportedOperationException("Not supported.");
+    }
+
+    /**
+     * Sets the number of threads the engine uses to run an operator called from the current thread.
+     *
+     * <p>Depending on the engine, the setting applies to the current thread or to the whole
+     * process. Running several inference threads, each with its own intra-op threads,
+     * oversubscribes the CPU unless their total stays within the number of cores.
+     *
+     * @param numThreads the number of intra-op threads
+     */
+    public void setNumThreads(int numThreads) {
+        throw new UnsupportedOperationException("Not supported.");
+    }
+
     /**
      * Returns a new instance of {@link ParameterServer}.
      *
@@ -240,6 +267,30 @@ public abstract class Engine {
      */
     public abstract void setRandomSeed(int seed);
 
+    /**
+     * Returns the state of the random number generator of the engine for the given {@link Device}.
+     *
+     * <p>Unlike {@link #setRandomSeed(int)}, restoring the state with {@link
+     * #setRandomState(Device, byte[])} replays the random numbers from where the state was
+     * returned, without changing the seed set by the user.
+     *
+     * @param device the {@link Device} of the random number generator
+     * @return the state, or {@code null} if the engine can't return the state for the device
+     */
+    public byte[] getRandomState(Device device) {
+        return null;
+    }
+
+    /**
+     * Restores the state of the random number generator of the engine for the given {@link Device}.
+     *
+     * @param device the {@link Device} of the random number generator
+     * @param state the state returned by {@link #getRandomState(Device)}
+     */
+    public void setRandomState(Device device, byte[] state) {
+        throw new UnsupportedOperationException("Not supported.");
+    }
+
     /** Prints debug information about the environment for debugging environment issues. */
     @SuppressWarnings("PMD.SystemPrintln")
     public static void debugEnvironment() {
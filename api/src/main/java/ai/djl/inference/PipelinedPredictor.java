@@ -0,0 +1,530 @@
+/*
+ * Copyright 2021 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.inference;
+
+import ai.djl.Model;
+import ai.djl.metric.Metrics;
+import ai.djl.ndarray.NDList;
+import ai.djl.ndarray.NDManager;
+import ai.djl.nn.Block;
+import ai.djl.training.ParameterStore;
+import ai.djl.translate.Batchifier;
+import ai.djl.translate.TranslateException;
+import ai.djl.translate.Translator;
+import ai.djl.translate.TranslatorContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@code PipelinedPredictor} runs inference asynchronously in three pipelined stages.
+ *
+ * <p>The pre-processing ({@link Translator#processInput(TranslatorContext, Object)}) and
+ * post-processing ({@link Translator#processOutput(TranslatorContext, NDList)}) stages run on their
+ * own thread pools, while a single inference thread runs the {@link Block} of the model. The
+ * inference thread combines the inputs that are ready into batches of up to {@code maxBatchSize}
+ * using the {@link Batchifier} of the translator, so CPU-bound pre-processing and post-processing
+ * overlap with the forward pass of the engine.
+ *
+ * <p>The number of in-flight requests is bounded by the queue capacity, {@link
+ * #predictAsync(Object)} blocks the caller when the pipeline is full.
+ *
+ * <p>The translator must be thread-safe because it is called from multiple threads concurrently.
+ *
+ * @param <I> the input type
+ * @param <O> the output type
+ */
+public class PipelinedPredictor<I, O> implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(PipelinedPredictor.class);
+
+    private Model model;
+    private Translator<I, O> translator;
+    private NDManager manager;
+    private Block block;
+    private ParameterStore parameterStore;
+    private int maxBatchSize;
+    private Metrics metrics;
+    private volatile boolean prepared;
+    private volatile boolean closed;
+
+    private ExecutorService preprocessPool;
+    private ExecutorService postprocessPool;
+    private Thread inferenceThread;
+    private BlockingQueue<Item> readyQueue;
+    private Semaphore inflight;
+
+    PipelinedPredictor(Builder<I, O> builder) {
+        model = builder.model;
+        translator = builder.translator;
+        maxBatchSize = builder.maxBatchSize;
+        manager = model.getNDManager().newSubManager();
+        manager.setName("pipelinedPredictor");
+        block = model.getBlock();
+        parameterStore = new ParameterStore(manager, false);
+
+        String name = model.getName();
+        preprocessPool =
+                Executors.newFixedThreadPool(
+                        builder.preprocessThreads, newThreadFactory(name + "-preprocess"));
+        postprocessPool =
+                Executors.newFixedThreadPool(
+                        builder.postprocessThreads, newThreadFactory(name + "-postprocess"));
+        readyQueue = new LinkedBlockingQueue<>();
+        inflight = new Semaphore(builder.queueCapacity);
+        inferenceThread = newThreadFactory(name + "-inference").newThread(this::runInference);
+        inferenceThread.start();
+    }
+
+    /**
+     * Creates a builder to build a {@code PipelinedPredictor}.
+     *
+     * @param <I> the input type
+     * @param <O> the output type
+     * @return a new builder
+     */
+    public static <I, O> Builder<I, O> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Predicts an item asynchronously.
+     *
+     * <p>This method blocks if the number of in-flight requests has reached the queue capacity.
+     *
+     * @param input the input
+     * @return a {@code CompletableFuture} of the output object defined by the user, it completes
+     *     exceptionally with a {@link TranslateException} if the prediction fails
+     */
+    public CompletableFuture<O> predictAsync(I input) {
+        CompletableFuture<O> future = new CompletableFuture<>();
+        if (closed) {
+            future.completeExceptionally(new TranslateException("Predictor is closed."));
+            return future;
+        }
+        try {
+            inflight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.completeExceptionally(new TranslateException(e));
+            return future;
+        }
+        future.whenComplete((o, t) -> inflight.release());
+        Item item = new Item(input, future);
+        try {
+            preprocessPool.execute(() -> preprocess(item));
+        } catch (RejectedExecutionException e) {
+            item.fail(e);
+        }
+        return future;
+    }
+
+    /**
+     * Predicts a batch asynchronously.
+     *
+     * @param inputs a list of inputs
+     * @return a {@code CompletableFuture} of the list of output objects defined by the user
+     */
+    public CompletableFuture<List<O>> batchPredictAsync(List<I> inputs) {
+        List<CompletableFuture<O>> futures = new ArrayList<>(inputs.size());
+        for (I input : inputs) {
+            futures.add(predictAsync(input));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .thenApply(
+                        v -> {
+                            List<O> ret = new ArrayList<>(futures.size());
+                            for (CompletableFuture<O> future : futures) {
+                                ret.add(future.join());
+                            }
+                            return ret;
+                        });
+    }
+
+    /**
+     * Attaches a Metrics param to use for benchmark.
+     *
+     * @param metrics the Metrics class
+     */
+    public void setMetrics(Metrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        preprocessPool.shutdown();
+        try {
+            preprocessPool.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        inferenceThread.interrupt();
+        try {
+            inferenceThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        postprocessPool.shutdown();
+        try {
+            postprocessPool.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        manager.close();
+    }
+
+    private void prepare() throws Exception {
+        if (!prepared) {
+            synchronized (this) {
+                if (!prepared) {
+                    translator.prepare(manager, model);
+                    prepared = true;
+                }
+            }
+        }
+    }
+
+    private void preprocess(Item item) {
+        try {
+            prepare();
+            long begin = System.nanoTime();
+            item.input = translator.processInput(item.ctx, item.rawInput);
+            addMetric("Preprocess", begin);
+            readyQueue.put(item);
+        } catch (Exception e) {
+            item.fail(e);
+        }
+    }
+
+    private void runInference() {
+        List<Item> items = new ArrayList<>(maxBatchSize);
+        while (!closed || !readyQueue.isEmpty()) {
+            try {
+                Item item = readyQueue.poll(100, TimeUnit.MILLISECONDS);
+                if (item == null) {
+                    continue;
+                }
+                items.add(item);
+            } catch (InterruptedException e) {
+                if (readyQueue.isEmpty()) {
+                    break;
+                }
+                continue;
+            }
+            readyQueue.drainTo(items, maxBatchSize - 1);
+            Batchifier batchifier = translator.getBatchifier();
+            if (batchifier == null) {
+                for (Item item : items) {
+                    inferSingle(item);
+                }
+            } else {
+                inferBatch(items, batchifier);
+            }
+            items.clear();
+        }
+        for (Item item : readyQueue) {
+            item.fail(new TranslateException("Predictor is closed."));
+        }
+    }
+
+    private void inferSingle(Item item) {
+        try {
+            long begin = System.nanoTime();
+            NDList result = block.forward(parameterStore, item.input, false);
+            addMetric("Inference", begin);
+            postprocess(item, result, null);
+        } catch (Exception e) {
+            item.fail(e);
+        }
+    }
+
+    private void inferBatch(List<Item> items, Batchifier batchifier) {
+        NDManager batchManager = manager.newSubManager();
+        try {
+            long begin = System.nanoTime();
+            NDList[] inputs = new NDList[items.size()];
+            for (int i = 0; i < inputs.length; ++i) {
+                inputs[i] = items.get(i).input;
+            }
+            NDList batch = batchifier.batchify(inputs);
+            batch.attach(batchManager);
+            NDList result = block.forward(parameterStore, batch, false);
+            result.attach(batchManager);
+            NDList[] outputs = batchifier.unbatchify(result);
+            addMetric("Inference", begin);
+            if (outputs.length != items.size()) {
+                throw new TranslateException(
+                        "Batch size mismatch, expected "
+                                + items.size()
+                                + " but got "
+                                + outputs.length);
+            }
+            AtomicInteger pending = new AtomicInteger(outputs.length);
+            for (int i = 0; i < outputs.length; ++i) {
+                postprocess(items.get(i), outputs[i], () -> closeBatch(pending, batchManager));
+            }
+        } catch (Exception e) {
+            batchManager.close();
+            for (Item item : items) {
+                item.fail(e);
+            }
+        }
+    }
+
+    private void postprocess(Item item, NDList output, Runnable onDone) {
+        try {
+            postprocessPool.execute(
+                    () -> {
+                        try {
+                            long begin = System.nanoTime();
+                            O ret = translator.processOutput(item.ctx, output);
+                            addMetric("Postprocess", begin);
+                            item.complete(ret);
+                        } catch (Exception e) {
+                            item.fail(e);
+                        } finally {
+                            if (onDone != null) {
+                                onDone.run();
+                            }
+                        }
+                    });
+        } catch (RejectedExecutionException e) {
+            item.fail(e);
+            if (onDone != null) {
+                onDone.run();
+            }
+        }
+    }
+
+    private void closeBatch(AtomicInteger pending, NDManager batchManager) {
+        if (pending.decrementAndGet() == 0) {
+            batchManager.close();
+        }
+    }
+
+    private void addMetric(String name, long begin) {
+        if (metrics != null) {
+            metrics.addMetric(name, System.nanoTime() - begin, "nano");
+        }
+    }
+
+    private static ThreadFactory newThreadFactory(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return r -> {
+            Thread thread = new Thread(r, prefix + '-' + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private final class Item {
+
+        I rawInput;
+        NDList input;
+        PipelineContext ctx;
+        CompletableFuture<O> future;
+
+        Item(I rawInput, CompletableFuture<O> future) {
+            this.rawInput = rawInput;
+            this.future = future;
+            ctx = new PipelineContext();
+        }
+
+        void complete(O output) {
+            ctx.close();
+            future.complete(output);
+        }
+
+        void fail(Throwable t) {
+            ctx.close();
+            if (t instanceof TranslateException) {
+                future.completeExceptionally(t);
+            } else {
+                logger.debug("Prediction failed", t);
+                future.completeExceptionally(new TranslateException(t));
+            }
+        }
+    }
+
+    private final class PipelineContext implements TranslatorContext {
+
+        private NDManager ctxManager;
+        private Map<String, Object> attachments;
+
+        PipelineContext() {
+            ctxManager = manager.newSubManager();
+            ctxManager.setName("pipelinedPredictor ctx");
+            attachments = new ConcurrentHashMap<>();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Model getModel() {
+            return model;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public NDManager getNDManager() {
+            return ctxManager;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Metrics getMetrics() {
+            return metrics;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void close() {
+            ctxManager.close();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Object getAttachment(String key) {
+            return attachments.get(key);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void setAttachment(String key, Object value) {
+            attachments.put(key, value);
+        }
+    }
+
+    /**
+     * The Builder to construct a {@link PipelinedPredictor}.
+     *
+     * @param <I> the input type
+     * @param <O> the output type
+     */
+    public static final class Builder<I, O> {
+
+        Model model;
+        Translator<I, O> translator;
+        int preprocessThreads = Runtime.getRuntime().availableProcessors();
+        int postprocessThreads = Runtime.getRuntime().availableProcessors();
+        int maxBatchSize = 1;
+        int queueCapacity = 100;
+
+        Builder() {}
+
+        /**
+         * Sets the model to run inference on.
+         *
+         * @param model the model
+         * @return this builder
+         */
+        public Builder<I, O> setModel(Model model) {
+            this.model = model;
+            return this;
+        }
+
+        /**
+         * Sets the translator to use for pre-processing and post-processing.
+         *
+         * @param translator the translator, it must be thread-safe
+         * @return this builder
+         */
+        public Builder<I, O> setTranslator(Translator<I, O> translator) {
+            this.translator = translator;
+            return this;
+        }
+
+        /**
+         * Sets the number of pre-processing threads.
+         *
+         * @param preprocessThreads the number of pre-processing threads
+         * @return this builder
+         */
+        public Builder<I, O> optPreprocessThreads(int preprocessThreads) {
+            this.preprocessThreads = preprocessThreads;
+            return this;
+        }
+
+        /**
+         * Sets the number of post-processing threads.
+         *
+         * @param postprocessThreads the number of post-processing threads
+         * @return this builder
+         */
+        public Builder<I, O> optPostprocessThreads(int postprocessThreads) {
+            this.postprocessThreads = postprocessThreads;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of inputs the inference stage combines into one batch.
+         *
+         * <p>Inputs are only combined if the translator has a {@link Batchifier}.
+         *
+         * @param maxBatchSize the maximum batch size
+         * @return this builder
+         */
+        public Builder<I, O> optMaxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of in-flight requests before {@link
+         * PipelinedPredictor#predictAsync(Object)} blocks.
+         *
+         * @param queueCapacity the maximum number of in-flight requests
+         * @return this builder
+         */
+        public Builder<I, O> optQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * Builds the {@link PipelinedPredictor} with the provided data.
+         *
+         * @return a {@link PipelinedPredictor}
+         */
+        public PipelinedPredictor<I, O> build() {
+            if (model == null || translator == null) {
+                throw new IllegalArgumentException("model and translator must be set.");
+            }
+            if (preprocessThreads <= 0 || postprocessThreads <= 0) {
+                throw new IllegalArgumentException("Number of threads must be positive.");
+            }
+            if (maxBatchSize <= 0 || queueCapacity <= 0) {
+                throw new IllegalArgumentException(
+                        "maxBatchSize and queueCapacity must be positive.");
+            }
+            return new PipelinedPredictor<>(this);
+        }
+    }
+}
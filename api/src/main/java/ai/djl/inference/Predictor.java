@@ -21,6 +21,7 @@ import ai.djl.ndarray.NDList;
 import ai.djl.ndarray.NDManager;
 import ai.djl.nn.Block;
 import ai.djl.training.ParameterStore;
+import ai.djl.translate.BatchBuffer;
 import ai.djl.translate.Batchifier;
 import ai.djl.translate.TranslateException;
 import ai.djl.translate.Translator;
@@ -81,6 +82,7 @@ public class Predictor<I, O> implements AutoCloseable {
     private boolean prepared;
     private Model model;
     private NDManager manager;
+    private BatchBuffer batchBuffer;
     Metrics metrics;
     protected Block block;
     protected ParameterStore parameterStore;
@@ -130,10 +132,7 @@ public class Predictor<I, O> implements AutoCloseable {
     public List<O> batchPredict(List<I> inputs) throws TranslateException {
         long begin = System.nanoTime();
         try (PredictorContext context = new PredictorContext()) {
-            if (!prepared) {
-                translator.prepare(manager, model);
-                prepared = true;
-            }
+            prepareTranslator();
             Batchifier batchifier = translator.getBatchifier();
             if (batchifier == null) {
                 List<O> ret = new ArrayList<>(inputs.size());
@@ -171,6 +170,22 @@ public class Predictor<I, O> implements AutoCloseable {
         }
     }
 
+    /**
+     * Prepares the translator of this predictor if it has not been prepared yet.
+     *
+     * @throws TranslateException if the translator failed to prepare
+     */
+    @SuppressWarnings("PMD.AvoidRethrowingException")
+    void prepare() throws TranslateException {
+        try {
+            prepareTranslator();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new TranslateException(e);
+        }
+    }
+
     /**
      * Attaches a Metrics param to use for benchmark.
      *
@@ -180,6 +195,25 @@ public class Predictor<I, O> implements AutoCloseable {
         this.metrics = metrics;
     }
 
+    /**
+     * Sets whether to write the samples of a batch into arrays that are reused between calls.
+     *
+     * <p>When enabled, {@link #batchPredict(List)} does not allocate new input arrays for batches
+     * of a shape it has seen before. The input arrays are overwritten by the next call, so it must
+     * only be enabled if the {@link Block} does not keep references to its inputs.
+     *
+     * @param reuse {@code true} to reuse the input arrays
+     * @see BatchBuffer
+     */
+    public void setReuseBatchBuffer(boolean reuse) {
+        if (reuse && batchBuffer == null) {
+            batchBuffer = new BatchBuffer(manager);
+        } else if (!reuse && batchBuffer != null) {
+            batchBuffer.close();
+            batchBuffer = null;
+        }
+    }
+
     private void waitToRead(NDList list) {
         for (NDArray array : list) {
             if (array instanceof LazyNDArray) {
@@ -195,7 +229,7 @@ public class Predictor<I, O> implements AutoCloseable {
         for (int i = 0; i < batchSize; ++i) {
             preprocessed[i] = translator.processInput(ctx, inputs.get(i));
         }
-        return translator.getBatchifier().batchify(preprocessed);
+        return translator.getBatchifier().batchify(preprocessed, batchBuffer);
     }
 
     @SuppressWarnings("PMD.SignatureDeclareThrowsException")
@@ -238,9 +272,20 @@ public class Predictor<I, O> implements AutoCloseable {
         }
     }
 
+    private void prepareTranslator() throws Exception {
+        if (!prepared) {
+            translator.prepare(manager, model);
+            prepared = true;
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public void close() {
+        if (batchBuffer != null) {
+            batchBuffer.close();
+            batchBuffer = null;
+        }
         manager.close();
     }
 
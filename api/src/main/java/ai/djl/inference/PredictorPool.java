@@ -0,0 +1,375 @@
+/*
+ * Copyright 2021 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.inference;
+
+import ai.djl.Model;
+import ai.djl.metric.Metrics;
+import ai.djl.translate.TranslateException;
+import ai.djl.translate.Translator;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A bounded pool of {@link Predictor}s that share a {@link Model} and a {@link Translator}.
+ *
+ * <p>Creating a predictor allocates a new {@link ai.djl.ndarray.NDManager} and {@link
+ * ai.djl.training.ParameterStore}, and the first prediction pays for {@link
+ * Translator#prepare(ai.djl.ndarray.NDManager, Model)}. The pool keeps returned predictors so that
+ * they can be reused by other threads. At most {@code maxSize} predictors are borrowed at the same
+ * time, and idle predictors are closed after {@code maxIdleTime}.
+ *
+ * <pre>
+ * Predictor&lt;I, O&gt; predictor = pool.borrow();
+ * try {
+ *     O output = predictor.predict(input);
+ * } finally {
+ *     pool.release(predictor);
+ * }
+ * </pre>
+ *
+ * @param <I> the input type
+ * @param <O> the output type
+ */
+public class PredictorPool<I, O> implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(PredictorPool.class);
+
+    private Model model;
+    private Translator<I, O> translator;
+    private int maxSize;
+    private long maxIdleTime;
+    private Metrics metrics;
+    private boolean reuseBatchBuffer;
+
+    private Deque<Entry<I, O>> idle;
+    private Semaphore permits;
+    private boolean closed;
+
+    PredictorPool(Builder<I, O> builder) {
+        model = builder.model;
+        translator = builder.translator;
+        maxSize = builder.maxSize;
+        maxIdleTime = builder.maxIdleTime;
+        metrics = builder.metrics;
+        reuseBatchBuffer = builder.reuseBatchBuffer;
+        idle = new ArrayDeque<>();
+        permits = new Semaphore(maxSize);
+    }
+
+    /**
+     * Creates a builder to build a {@code PredictorPool}.
+     *
+     * @param model the model the predictors are created from
+     * @param translator the translator of the predictors
+     * @param <I> the input type
+     * @param <O> the output type
+     * @return a new builder
+     */
+    public static <I, O> Builder<I, O> builder(Model model, Translator<I, O> translator) {
+        return new Builder<>(model, translator);
+    }
+
+    /**
+     * Borrows a predictor from the pool, waiting if {@code maxSize} predictors are in use.
+     *
+     * @return a predictor that must be returned with {@link #release(Predictor)}
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public Predictor<I, O> borrow() throws InterruptedException {
+        long begin = System.nanoTime();
+        permits.acquire();
+        return acquired(begin);
+    }
+
+    /**
+     * Borrows a predictor from the pool, waiting up to the specified time if {@code maxSize}
+     * predictors are in use.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit the time unit of the {@code timeout} argument
+     * @return a predictor that must be returned with {@link #release(Predictor)}, or {@code null}
+     *     if no predictor became available in time
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public Predictor<I, O> borrow(long timeout, TimeUnit unit) throws InterruptedException {
+        long begin = System.nanoTime();
+        if (!permits.tryAcquire(timeout, unit)) {
+            return null;
+        }
+        return acquired(begin);
+    }
+
+    /**
+     * Returns a borrowed predictor to the pool.
+     *
+     * @param predictor the predictor borrowed from this pool
+     */
+    public void release(Predictor<I, O> predictor) {
+        boolean keep;
+        synchronized (this) {
+            keep = !closed;
+            if (keep) {
+                idle.push(new Entry<>(predictor, System.currentTimeMillis()));
+            }
+        }
+        if (!keep) {
+            predictor.close();
+        }
+        permits.release();
+        evictIdle();
+    }
+
+    /**
+     * Creates predictors and prepares their translators ahead of the first request.
+     *
+     * @param count the number of predictors to warm up, capped by the pool size
+     * @throws TranslateException if the translator failed to prepare
+     */
+    public void warmup(int count) throws TranslateException {
+        int size = Math.min(count, maxSize);
+        for (int i = getIdleCount(); i < size; ++i) {
+            Predictor<I, O> predictor = newPredictor();
+            try {
+                predictor.prepare();
+            } catch (TranslateException e) {
+                predictor.close();
+                throw e;
+            }
+            synchronized (this) {
+                if (closed) {
+                    predictor.close();
+                    return;
+                }
+                idle.addLast(new Entry<>(predictor, System.currentTimeMillis()));
+            }
+        }
+    }
+
+    /**
+     * Returns the maximum number of predictors that can be borrowed at the same time.
+     *
+     * @return the maximum number of predictors that can be borrowed at the same time
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns the number of predictors that are currently borrowed.
+     *
+     * @return the number of predictors that are currently borrowed
+     */
+    public int getActiveCount() {
+        return maxSize - permits.availablePermits();
+    }
+
+    /**
+     * Returns the number of idle predictors kept in the pool.
+     *
+     * @return the number of idle predictors kept in the pool
+     */
+    public synchronized int getIdleCount() {
+        return idle.size();
+    }
+
+    /**
+     * Closes the predictors that have been idle for longer than {@code maxIdleTime}.
+     *
+     * <p>This is called whenever a predictor is borrowed or returned, but can also be called
+     * periodically to release resources of a pool that is no longer used.
+     */
+    public void evictIdle() {
+        if (maxIdleTime <= 0) {
+            return;
+        }
+        long expire = System.currentTimeMillis() - maxIdleTime;
+        Deque<Entry<I, O>> evicted = new ArrayDeque<>();
+        synchronized (this) {
+            // the least recently used predictors are at the tail
+            while (!idle.isEmpty() && idle.peekLast().lastUsed < expire) {
+                evicted.add(idle.pollLast());
+            }
+        }
+        if (!evicted.isEmpty()) {
+            logger.debug("Closing {} idle predictors of {}", evicted.size(), model.getName());
+            for (Entry<I, O> entry : evicted) {
+                entry.predictor.close();
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        Deque<Entry<I, O>> toClose;
+        synchronized (this) {
+            closed = true;
+            toClose = idle;
+            idle = new ArrayDeque<>();
+        }
+        for (Entry<I, O> entry : toClose) {
+            entry.predictor.close();
+        }
+    }
+
+    private Predictor<I, O> acquired(long begin) {
+        Predictor<I, O> predictor;
+        try {
+            synchronized (this) {
+                if (closed) {
+                    throw new IllegalStateException("PredictorPool is closed.");
+                }
+                // reuse the most recently used predictor, its memory is most likely still warm
+                Entry<I, O> entry = idle.poll();
+                predictor = entry == null ? null : entry.predictor;
+            }
+            if (predictor == null) {
+                predictor = newPredictor();
+            }
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        if (metrics != null) {
+            metrics.addMetric("BorrowWait", System.nanoTime() - begin, "nano");
+        }
+        evictIdle();
+        return predictor;
+    }
+
+    private Predictor<I, O> newPredictor() {
+        Predictor<I, O> predictor = model.newPredictor(translator);
+        if (reuseBatchBuffer) {
+            predictor.setReuseBatchBuffer(true);
+        }
+        return predictor;
+    }
+
+    private static final class Entry<I, O> {
+
+        Predictor<I, O> predictor;
+        long lastUsed;
+
+        Entry(Predictor<I, O> predictor, long lastUsed) {
+            this.predictor = predictor;
+            this.lastUsed = lastUsed;
+        }
+    }
+
+    /**
+     * The Builder to construct a {@link PredictorPool}.
+     *
+     * @param <I> the input type
+     * @param <O> the output type
+     */
+    public static final class Builder<I, O> {
+
+        Model model;
+        Translator<I, O> translator;
+        int maxSize = Runtime.getRuntime().availableProcessors();
+        long maxIdleTime = 60_000;
+        int warmup;
+        Metrics metrics;
+        boolean reuseBatchBuffer;
+
+        Builder(Model model, Translator<I, O> translator) {
+            this.model = model;
+            this.translator = translator;
+        }
+
+        /**
+         * Sets the maximum number of predictors that can be borrowed at the same time.
+         *
+         * @param maxSize the maximum number of predictors that can be borrowed at the same time
+         * @return this builder
+         */
+        public Builder<I, O> optMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        /**
+         * Sets the time after which an idle predictor is closed, a non-positive value keeps idle
+         * predictors until the pool is closed.
+         *
+         * @param maxIdleTime the maximum idle time
+         * @param unit the time unit of the {@code maxIdleTime} argument
+         * @return this builder
+         */
+        public Builder<I, O> optMaxIdleTime(long maxIdleTime, TimeUnit unit) {
+            this.maxIdleTime = unit.toMillis(maxIdleTime);
+            return this;
+        }
+
+        /**
+         * Sets the number of predictors to create and prepare when the pool is built.
+         *
+         * @param warmup the number of predictors to warm up
+         * @return this builder
+         */
+        public Builder<I, O> optWarmup(int warmup) {
+            this.warmup = warmup;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Metrics} to record the time spent waiting for a predictor.
+         *
+         * @param metrics the Metrics class
+         * @return this builder
+         */
+        public Builder<I, O> optMetrics(Metrics metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
+        /**
+         * Sets whether the predictors write the samples of a batch into arrays that are reused
+         * between calls.
+         *
+         * @param reuseBatchBuffer {@code true} to reuse the input arrays
+         * @return this builder
+         * @see Predictor#setReuseBatchBuffer(boolean)
+         */
+        public Builder<I, O> optReuseBatchBuffer(boolean reuseBatchBuffer) {
+            this.reuseBatchBuffer = reuseBatchBuffer;
+            return this;
+        }
+
+        /**
+         * Builds the {@link PredictorPool} with the provided data.
+         *
+         * @return a {@link PredictorPool}
+         * @throws TranslateException if the translator failed to prepare during warmup
+         */
+        public PredictorPool<I, O> build() throws TranslateException {
+            if (maxSize <= 0) {
+                throw new IllegalArgumentException("maxSize must be positive.");
+            }
+            PredictorPool<I, O> pool = new PredictorPool<>(this);
+            if (warmup > 0) {
+                try {
+                    pool.warmup(warmup);
+                } catch (TranslateException e) {
+                    pool.close();
+                    throw e;
+                }
+            }
+            return pool;
+        }
+    }
+}
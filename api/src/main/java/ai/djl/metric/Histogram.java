@@ -0,0 +1,305 @@
+/*
+ * Copyright 2021 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.metric;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A fixed-size, lock-free histogram of non-negative {@code long} values such as latencies.
+ *
+ * <p>Values are counted in log-linear buckets: every power of two range is split into {@code
+ * 2^(precision - 1)} buckets of equal width, so the memory used is fixed and the relative error of
+ * a percentile is at most {@code 2^-precision} regardless of how many values are recorded.
+ * Recording a value is a single atomic increment, which makes the histogram safe to share between
+ * threads. Histograms can also be recorded per thread and combined with {@link #merge(Histogram)}.
+ *
+ * <p>A histogram created with a window only reports the values recorded during the current and the
+ * previous window, older values are dropped.
+ *
+ * @see Metrics
+ */
+public class Histogram {
+
+    private static final int DEFAULT_PRECISION = 7;
+
+    private int precision;
+    private int subBucketCount;
+    private int subBucketHalf;
+    private int bucketCount;
+    private long window;
+
+    private volatile Buckets current;
+    private volatile Buckets previous;
+    private volatile long windowStart;
+
+    /** Constructs a {@code Histogram} with a relative error below 1% that never drops values. */
+    public Histogram() {
+        this(DEFAULT_PRECISION, 0, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Constructs a {@code Histogram} with the specified precision and window.
+     *
+     * @param precision the number of significant bits of the bucket boundaries, between 1 and 10
+     * @param window the duration of the window, or 0 to keep all values
+     * @param unit the time unit of the {@code window} argument
+     */
+    public Histogram(int precision, long window, TimeUnit unit) {
+        if (precision < 1 || precision > 10) {
+            throw new IllegalArgumentException("precision must be between 1 and 10.");
+        }
+        this.precision = precision;
+        subBucketCount = 1 << precision;
+        subBucketHalf = subBucketCount >> 1;
+        bucketCount = index(Long.MAX_VALUE) + 1;
+        this.window = unit.toMillis(window);
+        current = new Buckets(bucketCount);
+        windowStart = System.currentTimeMillis();
+    }
+
+    /**
+     * Records a value, negative values are recorded as 0.
+     *
+     * @param value the value to record
+     */
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        rotate();
+        current.record(index(value), value);
+    }
+
+    /**
+     * Adds all values of another histogram to this histogram.
+     *
+     * @param other the histogram to merge, it must have the same precision
+     */
+    public void merge(Histogram other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("Cannot merge histograms of different precision.");
+        }
+        rotate();
+        Buckets target = current;
+        for (Buckets source : other.snapshot()) {
+            if (source == null || source.count.sum() == 0) {
+                continue;
+            }
+            for (int i = 0; i < bucketCount; ++i) {
+                long count = source.counts.get(i);
+                if (count > 0) {
+                    target.counts.addAndGet(i, count);
+                }
+            }
+            target.count.add(source.count.sum());
+            target.sum.add(source.sum.sum());
+            target.updateMin(source.min.get());
+            target.updateMax(source.max.get());
+        }
+    }
+
+    /**
+     * Returns the number of recorded values.
+     *
+     * @return the number of recorded values
+     */
+    public long getCount() {
+        long count = 0;
+        for (Buckets buckets : snapshot()) {
+            if (buckets != null) {
+                count += buckets.count.sum();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the smallest recorded value, or 0 if no value was recorded.
+     *
+     * @return the smallest recorded value
+     */
+    public long getMin() {
+        long min = Long.MAX_VALUE;
+        for (Buckets buckets : snapshot()) {
+            if (buckets != null) {
+                min = Math.min(min, buckets.min.get());
+            }
+        }
+        return min == Long.MAX_VALUE ? 0 : min;
+    }
+
+    /**
+     * Returns the largest recorded value, or 0 if no value was recorded.
+     *
+     * @return the largest recorded value
+     */
+    public long getMax() {
+        long max = 0;
+        for (Buckets buckets : snapshot()) {
+            if (buckets != null) {
+                max = Math.max(max, buckets.max.get());
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Returns the average of the recorded values, or 0 if no value was recorded.
+     *
+     * @return the average of the recorded values
+     */
+    public double getMean() {
+        long count = 0;
+        double sum = 0;
+        for (Buckets buckets : snapshot()) {
+            if (buckets != null) {
+                count += buckets.count.sum();
+                sum += buckets.sum.sum();
+            }
+        }
+        return count == 0 ? 0 : sum / count;
+    }
+
+    /**
+     * Returns the value at the specified percentile, or 0 if no value was recorded.
+     *
+     * @param percentile the percentile between 0 and 100
+     * @return the value at the specified percentile
+     */
+    public long getPercentile(double percentile) {
+        Buckets[] snapshot = snapshot();
+        long[] counts = new long[bucketCount];
+        long total = 0;
+        for (Buckets buckets : snapshot) {
+            if (buckets != null) {
+                for (int i = 0; i < bucketCount; ++i) {
+                    long count = buckets.counts.get(i);
+                    counts[i] += count;
+                    total += count;
+                }
+            }
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(Math.min(percentile, 100) / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < bucketCount; ++i) {
+            seen += counts[i];
+            if (seen >= rank) {
+                long value = lowerBound(i) + (bucketWidth(i) - 1) / 2;
+                return Math.max(getMin(), Math.min(getMax(), value));
+            }
+        }
+        return getMax();
+    }
+
+    /** Removes all recorded values. */
+    public synchronized void reset() {
+        current = new Buckets(bucketCount);
+        previous = null;
+        windowStart = System.currentTimeMillis();
+    }
+
+    private void rotate() {
+        if (window <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (now - windowStart < window) {
+            return;
+        }
+        synchronized (this) {
+            long elapsed = now - windowStart;
+            if (elapsed < window) {
+                return;
+            }
+            // a new array is allocated instead of clearing the old one, so that concurrent
+            // writers that still hold the old reference cannot corrupt the new window
+            previous = elapsed < 2 * window ? current : null;
+            current = new Buckets(bucketCount);
+            windowStart = now;
+        }
+    }
+
+    private Buckets[] snapshot() {
+        rotate();
+        return new Buckets[] {current, previous};
+    }
+
+    private int index(long value) {
+        if (value < subBucketCount) {
+            return (int) value;
+        }
+        int shift = 64 - Long.numberOfLeadingZeros(value) - precision;
+        return shift * subBucketHalf + (int) (value >>> shift);
+    }
+
+    private long lowerBound(int index) {
+        if (index < subBucketCount) {
+            return index;
+        }
+        int shift = (index - subBucketCount) / subBucketHalf + 1;
+        return (long) (index - shift * subBucketHalf) << shift;
+    }
+
+    private long bucketWidth(int index) {
+        if (index < subBucketCount) {
+            return 1;
+        }
+        int shift = (index - subBucketCount) / subBucketHalf + 1;
+        return 1L << shift;
+    }
+
+    private static final class Buckets {
+
+        AtomicLongArray counts;
+        LongAdder count;
+        LongAdder sum;
+        AtomicLong min;
+        AtomicLong max;
+
+        Buckets(int size) {
+            counts = new AtomicLongArray(size);
+            count = new LongAdder();
+            sum = new LongAdder();
+            min = new AtomicLong(Long.MAX_VALUE);
+            max = new AtomicLong(Long.MIN_VALUE);
+        }
+
+        void record(int index, long value) {
+            counts.incrementAndGet(index);
+            count.increment();
+            sum.add(value);
+            updateMin(value);
+            updateMax(value);
+        }
+
+        void updateMin(long value) {
+            long prev = min.get();
+            while (value < prev && !min.compareAndSet(prev, value)) {
+                prev = min.get();
+            }
+        }
+
+        void updateMax(long value) {
+            long prev = max.get();
+            while (value > prev && !max.compareAndSet(prev, value)) {
+                prev = max.get();
+            }
+        }
+    }
+}
@@ -16,10 +16,12 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -35,6 +37,12 @@ import java.util.stream.Collectors;
  * performance indicators (KPIs) during inference and training runs. These KPIs include various
  * latencies, CPU and GPU memory consumption, losses, etc.
  *
+ * <p>Keeping every sample grows without bound for long running predictors. Metrics that are backed
+ * by a {@link Histogram} only keep the latest {@link Metric} and record the values into the
+ * histogram, which uses fixed memory and answers {@link #percentile(String, int)} and {@link
+ * #mean(String)} without sorting. Use {@link #Metrics(Supplier)} to back all integral metrics by
+ * histograms, or {@link #setHistogram(String, Histogram)} to back individual metrics.
+ *
  * <p>For more details about using the metrics, see the <a
  * href="https://github.com/awslabs/djl/blob/master/docs/how_to_collect_metrics.md">metrics
  * tutorial</a>.
@@ -44,10 +52,30 @@ public class Metrics {
     private static final MetricValueComparator VALUE_COMPARATOR = new MetricValueComparator();
 
     private Map<String, List<Metric>> metrics;
+    private Map<String, Histogram> histograms;
+    private Map<String, Metric> latest;
+    private Supplier<Histogram> histogramFactory;
 
     /** Constructs an empty {@code Metrics} instance. */
     public Metrics() {
+        this(null);
+    }
+
+    /**
+     * Constructs an empty {@code Metrics} instance that records metrics with integral values into
+     * histograms.
+     *
+     * <p>Metrics with floating point values, such as losses and accuracies, are still kept as
+     * individual samples.
+     *
+     * @param histogramFactory the factory to create a {@link Histogram} for a new metric name, or
+     *     {@code null} to keep every sample
+     */
+    public Metrics(Supplier<Histogram> histogramFactory) {
+        this.histogramFactory = histogramFactory;
         metrics = new ConcurrentHashMap<>();
+        histograms = new ConcurrentHashMap<>();
+        latest = new ConcurrentHashMap<>();
     }
 
     /**
@@ -56,6 +84,16 @@ public class Metrics {
      * @param metric the {@link Metric} to be added
      */
     public void addMetric(Metric metric) {
+        String name = metric.getMetricName();
+        Histogram histogram = histograms.get(name);
+        if (histogram == null && histogramFactory != null && isIntegral(metric.getValue())) {
+            histogram = histograms.computeIfAbsent(name, k -> histogramFactory.get());
+        }
+        if (histogram != null) {
+            histogram.record(metric.getValue().longValue());
+            latest.put(name, metric);
+            return;
+        }
         List<Metric> list =
                 metrics.computeIfAbsent(
                         metric.getMetricName(),
@@ -91,16 +129,57 @@ public class Metrics {
      * @return {@code true} if the metrics object has a metric with the given name
      */
     public boolean hasMetric(String name) {
-        return metrics.containsKey(name);
+        return metrics.containsKey(name) || latest.containsKey(name);
+    }
+
+    /**
+     * Backs the metric with the specified name by a {@link Histogram}.
+     *
+     * <p>Samples of the metric that were added before are kept, but further samples are only
+     * recorded in the histogram.
+     *
+     * @param name the name of the metric
+     * @param histogram the histogram to record the values into
+     */
+    public void setHistogram(String name, Histogram histogram) {
+        histograms.put(name, histogram);
+        List<Metric> list = metrics.remove(name);
+        if (list != null) {
+            synchronized (list) {
+                for (Metric metric : list) {
+                    histogram.record(metric.getValue().longValue());
+                }
+                if (!list.isEmpty()) {
+                    latest.put(name, list.get(list.size() - 1));
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the {@link Histogram} of the metric with the specified name.
+     *
+     * @param name the name of the metric
+     * @return the {@link Histogram} of the metric, or {@code null} if the metric is not backed by a
+     *     histogram
+     */
+    public Histogram getHistogram(String name) {
+        return histograms.get(name);
     }
 
     /**
      * Returns all {@link Metric}s with the specified metric name.
      *
+     * <p>Only the latest {@link Metric} is returned for a metric backed by a {@link Histogram}.
+     *
      * @param name the name of the metric
      * @return a list of {@link Metric} with the specified metric name
      */
     public List<Metric> getMetric(String name) {
+        Metric metric = latest.get(name);
+        if (metric != null) {
+            return Collections.singletonList(metric);
+        }
         List<Metric> list = metrics.get(name);
         if (list == null) {
             return Collections.emptyList();
@@ -114,7 +193,12 @@ public class Metrics {
      * @return a set of {@link String} metric names
      */
     public Set<String> getMetricNames() {
-        return metrics.keySet();
+        if (latest.isEmpty()) {
+            return metrics.keySet();
+        }
+        Set<String> names = new HashSet<>(metrics.keySet());
+        names.addAll(latest.keySet());
+        return names;
     }
 
     /**
@@ -125,6 +209,10 @@ public class Metrics {
      * @throws IllegalArgumentException if the given name is not found
      */
     public Metric latestMetric(String name) {
+        Metric metric = latest.get(name);
+        if (metric != null) {
+            return metric;
+        }
         List<Metric> list = metrics.get(name);
         if (list == null || list.isEmpty()) {
             throw new IllegalArgumentException("Could not find metric: " + name);
@@ -140,6 +228,11 @@ public class Metrics {
      * @return the {@link Metric} object at specified {@code percentile}
      */
     public Metric percentile(String metricName, int percentile) {
+        Metric last = latest.get(metricName);
+        if (last != null) {
+            long value = histograms.get(metricName).getPercentile(percentile);
+            return new Metric(metricName, value, last.getUnit());
+        }
         List<Metric> metric = metrics.get(metricName);
         if (metric == null || metrics.isEmpty()) {
             throw new IllegalArgumentException("Metric name not found: " + metricName);
@@ -158,6 +251,9 @@ public class Metrics {
      * @return the average value of the specified metric
      */
     public double mean(String metricName) {
+        if (latest.containsKey(metricName)) {
+            return histograms.get(metricName).getMean();
+        }
         List<Metric> metric = metrics.get(metricName);
         if (metric == null || metrics.isEmpty()) {
             throw new IllegalArgumentException("Metric name not found: " + metricName);
@@ -166,6 +262,13 @@ public class Metrics {
         return metric.stream().collect(Collectors.averagingDouble(m -> m.getValue().doubleValue()));
     }
 
+    private static boolean isIntegral(Number value) {
+        return value instanceof Long
+                || value instanceof Integer
+                || value instanceof Short
+                || value instanceof Byte;
+    }
+
     /** Comparator based on {@code Metric}'s value field. */
     private static final class MetricValueComparator implements Comparator<Metric>, Serializable {
 
@@ -12,16 +12,29 @@
  */
 package ai.djl.modality;
 
+import ai.djl.util.Pair;
 import ai.djl.util.PairList;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
-/** A class stores the generic input data for inference. */
+/**
+ * A class stores the generic input data for inference.
+ *
+ * <p>Data can be added as a {@code byte[]} or as a {@link ByteBuffer} view. A view is not copied
+ * unless the data is accessed through {@link #getContent()}, so translators that read the data with
+ * {@link #getAsByteBuffer(String)} or {@link #getAsInputStream(String)} can decode it directly from
+ * the buffer it was received in.
+ */
 public class Input {
 
     private String requestId;
     private Map<String, String> properties;
     private PairList<String, byte[]> content;
+    // maps the placeholders in content to the data added as ByteBuffer
+    private Map<byte[], ByteBuffer> buffers;
 
     /**
      * Constructs a {@code Input} with specified {@code requestId}.
@@ -88,14 +101,62 @@ public class Input {
     /**
      * Returns the content of the input.
      *
-     * <p>A {@code Input} may contains multiple data.
+     * <p>A {@code Input} may contains multiple data. Data that was added as a {@link ByteBuffer} is
+     * copied into the content at the position it was added.
      *
      * @return the content of the input
      */
     public PairList<String, byte[]> getContent() {
+        if (buffers != null) {
+            PairList<String, byte[]> list = new PairList<>(content.size());
+            for (Pair<String, byte[]> pair : content) {
+                byte[] buf = pair.getValue();
+                ByteBuffer bb = buffers.get(buf);
+                if (bb != null) {
+                    bb = bb.duplicate();
+                    buf = new byte[bb.remaining()];
+                    bb.get(buf);
+                }
+                list.add(pair.getKey(), buf);
+            }
+            content = list;
+            buffers = null;
+        }
         return content;
     }
 
+    /**
+     * Returns the data with the specified key as a {@link ByteBuffer} without copying it.
+     *
+     * @param key the key of the data
+     * @return the data with the specified key, or {@code null} if the key is not found
+     */
+    public ByteBuffer getAsByteBuffer(String key) {
+        if (content == null) {
+            return null;
+        }
+        byte[] buf = content.get(key);
+        if (buf == null) {
+            return null;
+        }
+        ByteBuffer bb = buffers == null ? null : buffers.get(buf);
+        return bb == null ? ByteBuffer.wrap(buf) : bb.duplicate();
+    }
+
+    /**
+     * Returns the data with the specified key as an {@link InputStream} without copying it.
+     *
+     * @param key the key of the data
+     * @return the data with the specified key, or {@code null} if the key is not found
+     */
+    public InputStream getAsInputStream(String key) {
+        ByteBuffer bb = getAsByteBuffer(key);
+        if (bb == null) {
+            return null;
+        }
+        return new ByteBufferInputStream(bb);
+    }
+
     /**
      * Sets the content of the input.
      *
@@ -103,6 +164,7 @@ public class Input {
      */
     public void setContent(PairList<String, byte[]> content) {
         this.content = content;
+        buffers = null;
     }
 
     /**
@@ -127,6 +189,28 @@ public class Input {
         content.add(key, data);
     }
 
+    /**
+     * Adds a key/value pair to the input content without copying the data.
+     *
+     * <p>The input keeps a view of the buffer from its current position to its limit. The caller
+     * must keep the buffer valid until the input is no longer used.
+     *
+     * @param key key with which the specified data is to be added
+     * @param data data to be added with the specified key
+     */
+    public void addData(String key, ByteBuffer data) {
+        if (content == null) {
+            content = new PairList<>();
+        }
+        if (buffers == null) {
+            buffers = new IdentityHashMap<>();
+        }
+        // an empty array keeps the position of the data in the content until it is copied
+        byte[] placeholder = new byte[0];
+        buffers.put(placeholder, data.slice());
+        content.add(key, placeholder);
+    }
+
     /**
      * Inserts the specified element at the specified position in the input.
      *
@@ -139,4 +223,50 @@ public class Input {
         }
         content.add(index, null, data);
     }
+
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private ByteBuffer bb;
+
+        ByteBufferInputStream(ByteBuffer bb) {
+            this.bb = bb;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int read() {
+            if (!bb.hasRemaining()) {
+                return -1;
+            }
+            return bb.get() & 0xFF;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!bb.hasRemaining()) {
+                return -1;
+            }
+            int size = Math.min(len, bb.remaining());
+            bb.get(b, off, size);
+            return size;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public long skip(long n) {
+            int size = (int) Math.max(0, Math.min(n, bb.remaining()));
+            bb.position(bb.position() + size);
+            return size;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int available() {
+            return bb.remaining();
+        }
+    }
 }
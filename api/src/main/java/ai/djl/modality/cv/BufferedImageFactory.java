@@ -29,12 +29,19 @@ import java.awt.FontMetrics;
 import java.awt.Graphics2D;
 import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
+import java.awt.image.ComponentSampleModel;
+import java.awt.image.DataBuffer;
 import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferInt;
+import java.awt.image.SampleModel;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.awt.image.WritableRaster;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URL;
 import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.stream.IntStream;
@@ -43,6 +50,8 @@ import javax.imageio.ImageIO;
 /** {@code BufferedImageFactory} is the default implementation of {@link ImageFactory}. */
 public class BufferedImageFactory extends ImageFactory {
 
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
     static {
         if (System.getProperty("apple.awt.UIElement") == null) {
             // disables coffee cup image showing up on macOS
@@ -201,35 +210,70 @@ public class BufferedImageFactory extends ImageFactory {
             }
 
             ByteBuffer bb = manager.allocateDirect(channel * height * width);
-            if (image.getType() == BufferedImage.TYPE_BYTE_GRAY) {
-                byte[] data = ((DataBufferByte) image.getData().getDataBuffer()).getData();
-                for (byte gray : data) {
-                    bb.put(gray);
-                    if (flag != Flag.GRAYSCALE) {
-                        bb.put(gray);
-                        bb.put(gray);
+            PixelReader reader = new PixelReader(image);
+            byte[] row = SCRATCH.get().bytes(width * 3);
+            for (int y = 0; y < height; ++y) {
+                reader.readRow(y, row);
+                if (flag == Flag.GRAYSCALE) {
+                    for (int x = 0; x < width; ++x) {
+                        int red = row[x * 3] & 0xFF;
+                        int green = row[x * 3 + 1] & 0xFF;
+                        int blue = row[x * 3 + 2] & 0xFF;
+                        row[x] = (byte) ((red + green + blue) / 3);
                     }
                 }
-            } else {
-                // get an array of integer pixels in the default RGB color mode
-                int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
-                for (int rgb : pixels) {
-                    int red = (rgb >> 16) & 0xFF;
-                    int green = (rgb >> 8) & 0xFF;
-                    int blue = rgb & 0xFF;
-
-                    if (flag == Flag.GRAYSCALE) {
-                        int gray = (red + green + blue) / 3;
-                        bb.put((byte) gray);
-                    } else {
-                        bb.put((byte) red);
-                        bb.put((byte) green);
-                        bb.put((byte) blue);
+                bb.put(row, 0, width * channel);
+            }
+            bb.rewind();
+            return manager.create(bb, new Shape(height, width, channel), DataType.UINT8);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public NDArray toTensor(NDManager manager, Flag flag, float[] mean, float[] std) {
+            int width = image.getWidth();
+            int height = image.getHeight();
+            int channel = flag == Flag.GRAYSCALE ? 1 : 3;
+            int area = width * height;
+
+            // a lookup table per channel fuses the scaling and the normalization
+            float[][] table = new float[channel][256];
+            for (int c = 0; c < channel; ++c) {
+                float m = mean == null || std == null ? 0f : mean[c];
+                float s = mean == null || std == null ? 1f : std[c];
+                for (int i = 0; i < 256; ++i) {
+                    table[c][i] = (i / 255f - m) / s;
+                }
+            }
+
+            ByteBuffer bb = manager.allocateDirect(channel * area * 4);
+            FloatBuffer fb = bb.asFloatBuffer();
+            PixelReader reader = new PixelReader(image);
+            Scratch scratch = SCRATCH.get();
+            byte[] row = scratch.bytes(width * 3);
+            float[] plane = scratch.floats(width);
+            for (int y = 0; y < height; ++y) {
+                reader.readRow(y, row);
+                for (int c = 0; c < channel; ++c) {
+                    float[] lookup = table[c];
+                    for (int x = 0; x < width; ++x) {
+                        int value;
+                        if (flag == Flag.GRAYSCALE) {
+                            int red = row[x * 3] & 0xFF;
+                            int green = row[x * 3 + 1] & 0xFF;
+                            int blue = row[x * 3 + 2] & 0xFF;
+                            value = (red + green + blue) / 3;
+                        } else {
+                            value = row[x * 3 + c] & 0xFF;
+                        }
+                        plane[x] = lookup[value];
                     }
+                    fb.position(c * area + y * width);
+                    fb.put(plane, 0, width);
                 }
             }
             bb.rewind();
-            return manager.create(bb, new Shape(height, width, channel), DataType.UINT8);
+            return manager.create(bb, new Shape(channel, height, width), DataType.FLOAT32);
         }
 
         /** {@inheritDoc} */
@@ -353,4 +397,151 @@ public class BufferedImageFactory extends ImageFactory {
             gR.dispose();
         }
     }
+
+    /**
+     * Reads rows of RGB pixels from the raster of a {@link BufferedImage}.
+     *
+     * <p>The common interleaved byte and packed int layouts are read from the {@link DataBuffer}
+     * directly, other layouts are converted by the color model with {@link BufferedImage#getRGB}.
+     */
+    private static final class PixelReader {
+
+        private BufferedImage image;
+        private int width;
+        private byte[] bytes;
+        private int[] ints;
+        private int base;
+        private int scanlineStride;
+        private int pixelStride;
+        private int[] offsets;
+
+        PixelReader(BufferedImage image) {
+            this.image = image;
+            width = image.getWidth();
+            WritableRaster raster = image.getRaster();
+            SampleModel model = raster.getSampleModel();
+            DataBuffer buffer = raster.getDataBuffer();
+            int translateX = raster.getSampleModelTranslateX();
+            int translateY = raster.getSampleModelTranslateY();
+            switch (image.getType()) {
+                case BufferedImage.TYPE_3BYTE_BGR:
+                case BufferedImage.TYPE_4BYTE_ABGR:
+                case BufferedImage.TYPE_BYTE_GRAY:
+                    if (buffer instanceof DataBufferByte
+                            && buffer.getNumBanks() == 1
+                            && model instanceof ComponentSampleModel) {
+                        ComponentSampleModel csm = (ComponentSampleModel) model;
+                        bytes = ((DataBufferByte) buffer).getData();
+                        scanlineStride = csm.getScanlineStride();
+                        pixelStride = csm.getPixelStride();
+                        int[] bandOffsets = csm.getBandOffsets();
+                        offsets =
+                                bandOffsets.length >= 3
+                                        ? new int[] {bandOffsets[0], bandOffsets[1], bandOffsets[2]}
+                                        : new int[] {
+                                            bandOffsets[0], bandOffsets[0], bandOffsets[0]
+                                        };
+                        base =
+                                buffer.getOffset()
+                                        - translateY * scanlineStride
+                                        - translateX * pixelStride;
+                    }
+                    break;
+                case BufferedImage.TYPE_INT_RGB:
+                case BufferedImage.TYPE_INT_ARGB:
+                case BufferedImage.TYPE_INT_BGR:
+                    if (buffer instanceof DataBufferInt
+                            && buffer.getNumBanks() == 1
+                            && model instanceof SinglePixelPackedSampleModel) {
+                        SinglePixelPackedSampleModel sppsm = (SinglePixelPackedSampleModel) model;
+                        ints = ((DataBufferInt) buffer).getData();
+                        scanlineStride = sppsm.getScanlineStride();
+                        offsets = sppsm.getBitOffsets();
+                        base = buffer.getOffset() - translateY * scanlineStride - translateX;
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        /**
+         * Reads a row of pixels as interleaved RGB bytes.
+         *
+         * @param y the row to read
+         * @param row the array to store {@code width * 3} bytes
+         */
+        void readRow(int y, byte[] row) {
+            if (bytes != null) {
+                int r = offsets[0];
+                int g = offsets[1];
+                int b = offsets[2];
+                int pos = base + y * scanlineStride;
+                for (int x = 0; x < width; ++x) {
+                    int i = x * 3;
+                    int p = pos + x * pixelStride;
+                    row[i] = bytes[p + r];
+                    row[i + 1] = bytes[p + g];
+                    row[i + 2] = bytes[p + b];
+                }
+                return;
+            }
+            int[] pixels;
+            int pos;
+            int r;
+            int g;
+            int b;
+            if (ints != null) {
+                pixels = ints;
+                pos = base + y * scanlineStride;
+                r = offsets[0];
+                g = offsets[1];
+                b = offsets[2];
+            } else {
+                // get the pixels in the default RGB color model
+                pixels = SCRATCH.get().ints(width);
+                image.getRGB(0, y, width, 1, pixels, 0, width);
+                pos = 0;
+                r = 16;
+                g = 8;
+                b = 0;
+            }
+            for (int x = 0; x < width; ++x) {
+                int i = x * 3;
+                int rgb = pixels[pos + x];
+                row[i] = (byte) (rgb >>> r);
+                row[i + 1] = (byte) (rgb >>> g);
+                row[i + 2] = (byte) (rgb >>> b);
+            }
+        }
+    }
+
+    /** Per thread buffers that are reused to convert images. */
+    private static final class Scratch {
+
+        private byte[] bytes = new byte[0];
+        private int[] ints = new int[0];
+        private float[] floats = new float[0];
+
+        byte[] bytes(int size) {
+            if (bytes.length < size) {
+                bytes = new byte[size];
+            }
+            return bytes;
+        }
+
+        int[] ints(int size) {
+            if (ints.length < size) {
+                ints = new int[size];
+            }
+            return ints;
+        }
+
+        float[] floats(int size) {
+            if (floats.length < size) {
+                floats = new float[size];
+            }
+            return floats;
+        }
+    }
 }
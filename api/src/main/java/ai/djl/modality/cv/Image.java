@@ -16,6 +16,8 @@ import ai.djl.modality.cv.output.DetectedObjects;
 import ai.djl.modality.cv.output.Joints;
 import ai.djl.ndarray.NDArray;
 import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.types.DataType;
+import ai.djl.ndarray.types.Shape;
 import java.io.IOException;
 import java.io.OutputStream;
 
@@ -84,6 +86,37 @@ public interface Image {
      */
     NDArray toNDArray(NDManager manager, Flag flag);
 
+    /**
+     * Converts image to a float32 {@link NDArray} of shape CHW with values in {@code [0, 1]}, and
+     * optionally normalizes every channel with {@code (value - mean) / std}.
+     *
+     * <p>This is equivalent to {@link #toNDArray(NDManager, Flag)} followed by the {@link
+     * ai.djl.modality.cv.transform.ToTensor} and {@link ai.djl.modality.cv.transform.Normalize}
+     * transforms of an engine that uses the CHW layout. Implementations may convert the pixels in a
+     * single pass without creating the intermediate arrays.
+     *
+     * @param manager a {@link NDManager} to create the new NDArray with
+     * @param flag the color mode
+     * @param mean the mean of every channel, or {@code null} to skip the normalization
+     * @param std the standard deviation of every channel, or {@code null} to skip the normalization
+     * @return {@link NDArray}
+     */
+    default NDArray toTensor(NDManager manager, Flag flag, float[] mean, float[] std) {
+        NDArray tensor;
+        try (NDArray array = toNDArray(manager, flag)) {
+            tensor = array.transpose(2, 0, 1).toType(DataType.FLOAT32, false).divi(255);
+        }
+        if (mean != null && std != null) {
+            long channels = tensor.getShape().get(0);
+            Shape shape = new Shape(channels, 1, 1);
+            try (NDArray m = manager.create(mean, shape);
+                    NDArray s = manager.create(std, shape)) {
+                tensor.subi(m).divi(s);
+            }
+        }
+        return tensor;
+    }
+
     /**
      * Save the image to file.
      *
@@ -20,6 +20,7 @@ import ai.djl.modality.cv.transform.Resize;
 import ai.djl.modality.cv.transform.ToTensor;
 import ai.djl.ndarray.NDArray;
 import ai.djl.ndarray.NDList;
+import ai.djl.ndarray.NDManager;
 import ai.djl.translate.Batchifier;
 import ai.djl.translate.Pipeline;
 import ai.djl.translate.Transform;
@@ -80,8 +81,31 @@ public abstract class BaseImageTranslator<T> implements Translator<Image, T> {
      */
     @Override
     public NDList processInput(TranslatorContext ctx, Image input) {
-        NDArray array = input.toNDArray(ctx.getNDManager(), flag);
-        return pipeline.transform(new NDList(array));
+        NDManager manager = ctx.getNDManager();
+        List<Transform> transforms = pipeline.getTransforms();
+        if (transforms.isEmpty()
+                || !(transforms.get(0) instanceof ToTensor)
+                || "TensorFlow".equals(manager.getEngine().getEngineName())) {
+            NDArray array = input.toNDArray(manager, flag);
+            return pipeline.transform(new NDList(array));
+        }
+
+        // converts the image and applies a following Normalize in a single pass, TensorFlow is
+        // excluded because its ToTensor keeps the HWC layout
+        int channels = flag == Image.Flag.GRAYSCALE ? 1 : 3;
+        float[] mean = null;
+        float[] std = null;
+        int start = 1;
+        if (transforms.size() > 1 && transforms.get(1) instanceof Normalize) {
+            Normalize normalize = (Normalize) transforms.get(1);
+            if (normalize.getMean().length == channels && normalize.getStd().length == channels) {
+                mean = normalize.getMean();
+                std = normalize.getStd();
+                start = 2;
+            }
+        }
+        NDArray array = input.toTensor(manager, flag, mean, std);
+        return pipeline.transform(new NDList(array), start);
     }
 
     protected static String getStringValue(Map<String, ?> arguments, String key, String def) {
@@ -0,0 +1,401 @@
+/*
+ * Copyright 2021 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.ndarray;
+
+import ai.djl.ndarray.types.DataType;
+import ai.djl.ndarray.types.Shape;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An {@link NDList} stored in a file that is memory mapped instead of read.
+ *
+ * <p>The file starts with an index of the name, {@link DataType}, {@link Shape} and position of
+ * every array, followed by the data of the arrays, each aligned to 64 bytes. Opening the file only
+ * reads the index, and the data of an array is mapped when it is requested, so that a large file is
+ * neither copied to the heap nor loaded at once.
+ *
+ * <p>The data is mapped copy-on-write, engines that create the arrays on the mapped memory can
+ * change them, and the changes are not written back to the file. A file that can't be opened for
+ * writing is copied to native memory instead.
+ *
+ * <pre>
+ * MappedNDList.write(list, path);
+ * try (MappedNDList mapped = MappedNDList.open(path)) {
+ *     NDArray embedding = mapped.get(manager, "embedding");
+ * }
+ * </pre>
+ */
+public final class MappedNDList implements AutoCloseable {
+
+    static final String MAGIC_NUMBER = "NDLM";
+    static final int VERSION = 1;
+    static final int ALIGNMENT = 64;
+
+    private static final int HEADER_SIZE = 17;
+
+    private FileChannel channel;
+    private boolean writable;
+    private ByteOrder byteOrder;
+    private List<Entry> entries;
+
+    private MappedNDList(
+            FileChannel channel, boolean writable, ByteOrder byteOrder, List<Entry> entries) {
+        this.channel = channel;
+        this.writable = writable;
+        this.byteOrder = byteOrder;
+        this.entries = entries;
+    }
+
+    /**
+     * Writes an {@link NDList} to a file that can be opened with {@link #open(Path)}.
+     *
+     * <p>The arrays are written one by one, so at most the data of one array is copied to memory.
+     *
+     * @param list the {@code NDList} to write
+     * @param file the file to write to
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(NDList list, Path file) throws IOException {
+        List<Entry> index = new ArrayList<>(list.size());
+        int indexSize = 0;
+        for (NDArray array : list) {
+            DataType dataType = array.getDataType();
+            if (dataType.getNumOfBytes() <= 0) {
+                throw new IllegalArgumentException("Unsupported data type: " + dataType);
+            }
+            Entry entry = new Entry(array.getName(), dataType, array.getShape());
+            entry.length = array.size() * dataType.getNumOfBytes();
+            index.add(entry);
+            indexSize += entry.indexSize();
+        }
+
+        long offset = align(HEADER_SIZE + indexSize);
+        for (Entry entry : index) {
+            entry.offset = offset;
+            offset = align(offset + entry.length);
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE + indexSize);
+        header.put(MAGIC_NUMBER.getBytes(StandardCharsets.US_ASCII));
+        header.putInt(VERSION);
+        header.put((byte) (ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN ? 1 : 0));
+        header.putInt(index.size());
+        header.putInt(indexSize);
+        for (Entry entry : index) {
+            entry.encode(header);
+        }
+        header.flip();
+
+        try (FileChannel out =
+                FileChannel.open(
+                        file,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING,
+                        StandardOpenOption.WRITE)) {
+            writeFully(out, header, 0);
+            for (int i = 0; i < index.size(); ++i) {
+                Entry entry = index.get(i);
+                ByteBuffer bb = list.get(i).toByteBuffer();
+                if (bb.remaining() != entry.length) {
+                    throw new IllegalStateException(
+                            "Unexpected data size of NDArray: " + bb.remaining());
+                }
+                writeFully(out, bb, entry.offset);
+            }
+            if (out.size() < offset) {
+                // pads the end of the file, so that the last array can be mapped aligned
+                writeFully(out, ByteBuffer.allocate(1), offset - 1);
+            }
+        }
+    }
+
+    /**
+     * Opens a file written by {@link #write(NDList, Path)}.
+     *
+     * @param file the file to open
+     * @return a {@code MappedNDList} that must be closed after use
+     * @throws IOException if the file cannot be read
+     */
+    public static MappedNDList open(Path file) throws IOException {
+        FileChannel channel;
+        boolean writable;
+        try {
+            // a private mapping requires a channel opened for writing, the file is not changed
+            channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            writable = true;
+        } catch (IOException e) {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+            writable = false;
+        }
+        try {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_SIZE) {
+                throw new IllegalArgumentException("Malformed NDList file: " + file);
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            byte[] magic = new byte[4];
+            header.get(magic);
+            if (!MAGIC_NUMBER.equals(new String(magic, StandardCharsets.US_ASCII))) {
+                throw new IllegalArgumentException("Malformed NDList file: " + file);
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unexpected NDList file version " + version);
+            }
+            ByteOrder byteOrder =
+                    header.get() == 1 ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+            int size = header.getInt();
+            int indexSize = header.getInt();
+            if (size < 0 || indexSize < 0 || HEADER_SIZE + (long) indexSize > fileSize) {
+                throw new IllegalArgumentException("Malformed NDList file: " + file);
+            }
+
+            ByteBuffer index = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE, indexSize);
+            List<Entry> entries = new ArrayList<>();
+            for (int i = 0; i < size; ++i) {
+                Entry entry = Entry.decode(index);
+                if (entry.offset < 0
+                        || entry.length < 0
+                        || entry.length > Integer.MAX_VALUE
+                        || entry.offset + entry.length > fileSize) {
+                    throw new IllegalArgumentException("Malformed NDList file: " + file);
+                }
+                entries.add(entry);
+            }
+            return new MappedNDList(channel, writable, byteOrder, entries);
+        } catch (BufferUnderflowException e) {
+            channel.close();
+            throw new IllegalArgumentException("Malformed NDList file: " + file, e);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the number of arrays in the file.
+     *
+     * @return the number of arrays in the file
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the names of the arrays in the file, {@code null} for arrays without a name.
+     *
+     * @return the names of the arrays in the file
+     */
+    public List<String> getNames() {
+        List<String> names = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            names.add(entry.name);
+        }
+        return Collections.unmodifiableList(names);
+    }
+
+    /**
+     * Returns the {@link Shape} of the array at the specified position without loading it.
+     *
+     * @param index the position of the array
+     * @return the {@code Shape} of the array
+     */
+    public Shape getShape(int index) {
+        return entries.get(index).shape;
+    }
+
+    /**
+     * Returns the {@link DataType} of the array at the specified position without loading it.
+     *
+     * @param index the position of the array
+     * @return the {@code DataType} of the array
+     */
+    public DataType getDataType(int index) {
+        return entries.get(index).dataType;
+    }
+
+    /**
+     * Creates the array at the specified position from the mapped file.
+     *
+     * @param manager the {@link NDManager} to create the array
+     * @param index the position of the array
+     * @return the {@link NDArray}
+     * @throws IOException if the file cannot be mapped
+     */
+    public NDArray get(NDManager manager, int index) throws IOException {
+        Entry entry = entries.get(index);
+        ByteBuffer bb = map(entry);
+        NDArray array = manager.create(entry.dataType.asDataType(bb), entry.shape, entry.dataType);
+        array.setName(entry.name);
+        return array;
+    }
+
+    /**
+     * Creates the first array with the specified name from the mapped file.
+     *
+     * @param manager the {@link NDManager} to create the array
+     * @param name the name of the array
+     * @return the {@link NDArray}, or {@code null} if there is no array with the name
+     * @throws IOException if the file cannot be mapped
+     */
+    public NDArray get(NDManager manager, String name) throws IOException {
+        for (int i = 0; i < entries.size(); ++i) {
+            if (name.equals(entries.get(i).name)) {
+                return get(manager, i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Creates all arrays of the file.
+     *
+     * @param manager the {@link NDManager} to create the arrays
+     * @return the {@link NDList}
+     * @throws IOException if the file cannot be mapped
+     */
+    public NDList toNDList(NDManager manager) throws IOException {
+        NDList list = new NDList(entries.size());
+        for (int i = 0; i < entries.size(); ++i) {
+            list.add(get(manager, i));
+        }
+        return list;
+    }
+
+    /**
+     * Closes the file.
+     *
+     * <p>Arrays created before remain valid, the mapped memory is released once they no longer
+     * reference it.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private ByteBuffer map(Entry entry) throws IOException {
+        if (entry.length == 0) {
+            return ByteBuffer.allocateDirect(0).order(byteOrder);
+        }
+        if (writable) {
+            // engines may share the memory of the buffer, so the pages must be writable
+            ByteBuffer bb = channel.map(FileChannel.MapMode.PRIVATE, entry.offset, entry.length);
+            return bb.order(byteOrder);
+        }
+        ByteBuffer bb = channel.map(FileChannel.MapMode.READ_ONLY, entry.offset, entry.length);
+        ByteBuffer copy = ByteBuffer.allocateDirect(bb.remaining());
+        copy.put(bb).rewind();
+        return copy.order(byteOrder);
+    }
+
+    private static long align(long offset) {
+        return (offset + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+    }
+
+    private static void writeFully(FileChannel out, ByteBuffer bb, long position)
+            throws IOException {
+        while (bb.hasRemaining()) {
+            position += out.write(bb, position);
+        }
+    }
+
+    private static final class Entry {
+
+        String name;
+        DataType dataType;
+        Shape shape;
+        long offset;
+        long length;
+
+        Entry(String name, DataType dataType, Shape shape) {
+            this.name = name;
+            this.dataType = dataType;
+            this.shape = shape;
+        }
+
+        int indexSize() {
+            int size = 4 + 4 + dataType.name().length() + 4 + 8 * shape.dimension() + 16;
+            if (name != null) {
+                size += name.getBytes(StandardCharsets.UTF_8).length;
+            }
+            return size;
+        }
+
+        void encode(ByteBuffer bb) {
+            putString(bb, name);
+            putString(bb, dataType.name());
+            bb.putInt(shape.dimension());
+            for (long dim : shape.getShape()) {
+                bb.putLong(dim);
+            }
+            bb.putLong(offset);
+            bb.putLong(length);
+        }
+
+        static Entry decode(ByteBuffer bb) {
+            String name = getString(bb);
+            String type = getString(bb);
+            if (type == null) {
+                throw new IllegalArgumentException("Missing data type");
+            }
+            DataType dataType = DataType.valueOf(type);
+            int dimension = bb.getInt();
+            if (dimension < 0 || dimension > bb.remaining() / 8) {
+                throw new IllegalArgumentException("Invalid dimension: " + dimension);
+            }
+            long[] dims = new long[dimension];
+            for (int i = 0; i < dimension; ++i) {
+                dims[i] = bb.getLong();
+            }
+            Entry entry = new Entry(name, dataType, new Shape(dims));
+            entry.offset = bb.getLong();
+            entry.length = bb.getLong();
+            return entry;
+        }
+
+        private static void putString(ByteBuffer bb, String value) {
+            if (value == null) {
+                bb.putInt(-1);
+                return;
+            }
+            byte[] buf = value.getBytes(StandardCharsets.UTF_8);
+            bb.putInt(buf.length);
+            bb.put(buf);
+        }
+
+        private static String getString(ByteBuffer bb) {
+            int length = bb.getInt();
+            if (length < 0) {
+                return null;
+            }
+            if (length > bb.remaining()) {
+                throw new IllegalArgumentException("Invalid string length: " + length);
+            }
+            byte[] buf = new byte[length];
+            bb.get(buf);
+            return new String(buf, StandardCharsets.UTF_8);
+        }
+    }
+}
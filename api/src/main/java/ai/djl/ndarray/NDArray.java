@@ -21,6 +21,7 @@ import ai.djl.ndarray.types.Shape;
 import ai.djl.ndarray.types.SparseFormat;
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.DoubleBuffer;
 import java.nio.FloatBuffer;
 import java.nio.IntBuffer;
@@ -411,6 +412,29 @@ public interface NDArray extends AutoCloseable {
      */
     ByteBuffer toByteBuffer();
 
+    /**
+     * Returns a direct {@code ByteBuffer} in native byte order with the data of this {@code
+     * NDArray}.
+     *
+     * <p>Unlike {@link #toByteBuffer()}, the data never goes through the Java heap, which makes it
+     * the preferred way to pass an {@code NDArray} to another engine, see {@link
+     * NDManager#from(NDArray)}. Engines that keep the data in CPU memory may return a buffer that
+     * shares the memory of this {@code NDArray}. Such a buffer reflects changes to the array and
+     * must not be used after this {@code NDArray} is closed.
+     *
+     * @return a direct {@code ByteBuffer} of the data of this {@code NDArray}
+     */
+    default ByteBuffer asDirectByteBuffer() {
+        ByteBuffer bb = toByteBuffer();
+        if (bb.isDirect()) {
+            return bb.order(ByteOrder.nativeOrder());
+        }
+        ByteBuffer direct = getManager().allocateDirect(bb.remaining());
+        direct.put(bb);
+        direct.rewind();
+        return direct;
+    }
+
     /**
      * Sets this {@code NDArray} value from {@link Buffer}.
      *
@@ -434,6 +434,31 @@ public interface NDManager extends AutoCloseable {
         return array;
     }
 
+    /**
+     * Returns an {@link NDArray} of the engine of this {@code NDManager} with the data of an {@link
+     * NDArray} that may belong to another engine.
+     *
+     * <p>An {@code NDArray} of the same engine is returned as is. Otherwise the data is exchanged
+     * through {@link NDArray#asDirectByteBuffer()} without going through the Java heap, and the
+     * returned {@code NDArray} is attached to this {@code NDManager}. It does not share memory with
+     * the original {@code NDArray}, which can be closed afterwards.
+     *
+     * @param array the {@link NDArray} to convert
+     * @return an {@link NDArray} of the engine of this {@code NDManager}
+     */
+    default NDArray from(NDArray array) {
+        if (array == null || array.getManager().getEngine() == getEngine()) {
+            return array;
+        }
+        // the buffer may share the memory of the array, copy it so that the new array owns the data
+        ByteBuffer src = array.asDirectByteBuffer();
+        ByteBuffer bb = allocateDirect(src.remaining());
+        bb.put(src);
+        bb.rewind();
+        DataType dataType = array.getDataType();
+        return create(dataType.asDataType(bb), array.getShape(), dataType);
+    }
+
     /**
      * Creates and initializes an instance of {@link NDArray} with specified {@link Shape} and float
      * array.
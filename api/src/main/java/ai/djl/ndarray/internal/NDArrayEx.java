@@ -265,6 +265,124 @@ public interface NDArrayEx {
             float momentum,
             boolean lazyUpdate);
 
+    /**
+     * Applies {@link #adamUpdate} to multiple weights on the same device.
+     *
+     * <p>Engines with multi-tensor kernels update the weights in a few fused operations, the
+     * default implementation updates them one at a time.
+     *
+     * @param inputs the weight, gradient, mean and variance of each weight in order
+     * @param weights the weights to update
+     * @param learningRates the learning rate of each weight
+     * @param weightDecays the weight decay of each weight
+     * @param rescaleGrad the value to rescale the gradients
+     * @param clipGrad the value to clip the gradients
+     * @param beta1 the decay rate of the first moment estimates
+     * @param beta2 the decay rate of the second moment estimates
+     * @param epsilon the small constant for numerical stability
+     * @param lazyUpdate whether to use lazy updates for sparse gradients
+     */
+    default void multiAdamUpdate(
+            NDList inputs,
+            NDList weights,
+            float[] learningRates,
+            float[] weightDecays,
+            float rescaleGrad,
+            float clipGrad,
+            float beta1,
+            float beta2,
+            float epsilon,
+            boolean lazyUpdate) {
+        for (int i = 0; i < weights.size(); ++i) {
+            adamUpdate(
+                    new NDList(inputs.subList(i * 4, i * 4 + 4)),
+                    new NDList(weights.get(i)),
+                    learningRates[i],
+                    weightDecays[i],
+                    rescaleGrad,
+                    clipGrad,
+                    beta1,
+                    beta2,
+                    epsilon,
+                    lazyUpdate);
+        }
+    }
+
+    /**
+     * Applies {@link #nagUpdate} to multiple weights on the same device.
+     *
+     * <p>Engines with multi-tensor kernels update the weights in a few fused operations, the
+     * default implementation updates them one at a time.
+     *
+     * @param inputs the weight, gradient and, if the momentum is not 0, the momentum state of each
+     *     weight in order
+     * @param weights the weights to update
+     * @param learningRates the learning rate of each weight
+     * @param weightDecays the weight decay of each weight
+     * @param rescaleGrad the value to rescale the gradients
+     * @param clipGrad the value to clip the gradients
+     * @param momentum the momentum
+     */
+    default void multiNagUpdate(
+            NDList inputs,
+            NDList weights,
+            float[] learningRates,
+            float[] weightDecays,
+            float rescaleGrad,
+            float clipGrad,
+            float momentum) {
+        int step = momentum == 0f ? 2 : 3;
+        for (int i = 0; i < weights.size(); ++i) {
+            nagUpdate(
+                    new NDList(inputs.subList(i * step, i * step + step)),
+                    new NDList(weights.get(i)),
+                    learningRates[i],
+                    weightDecays[i],
+                    rescaleGrad,
+                    clipGrad,
+                    momentum);
+        }
+    }
+
+    /**
+     * Applies {@link #sgdUpdate} to multiple weights on the same device.
+     *
+     * <p>Engines with multi-tensor kernels update the weights in a few fused operations, the
+     * default implementation updates them one at a time.
+     *
+     * @param inputs the weight, gradient and, if the momentum is not 0, the momentum state of each
+     *     weight in order
+     * @param weights the weights to update
+     * @param learningRates the learning rate of each weight
+     * @param weightDecays the weight decay of each weight
+     * @param rescaleGrad the value to rescale the gradients
+     * @param clipGrad the value to clip the gradients
+     * @param momentum the momentum
+     * @param lazyUpdate whether to use lazy updates for sparse gradients
+     */
+    default void multiSgdUpdate(
+            NDList inputs,
+            NDList weights,
+            float[] learningRates,
+            float[] weightDecays,
+            float rescaleGrad,
+            float clipGrad,
+            float momentum,
+            boolean lazyUpdate) {
+        int step = momentum == 0f ? 2 : 3;
+        for (int i = 0; i < weights.size(); ++i) {
+            sgdUpdate(
+                    new NDList(inputs.subList(i * step, i * step + step)),
+                    new NDList(weights.get(i)),
+                    learningRates[i],
+                    weightDecays[i],
+                    rescaleGrad,
+                    clipGrad,
+                    momentum,
+                    lazyUpdate);
+        }
+    }
+
     ////////////////////////////////////////
     // Neural network
     ////////////////////////////////////////
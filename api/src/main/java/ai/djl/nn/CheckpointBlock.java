@@ -0,0 +1,448 @@
+/*
+ * Copyright 2021 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.nn;
+
+import ai.djl.Device;
+import ai.djl.engine.Engine;
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDList;
+import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.index.NDIndex;
+import ai.djl.ndarray.types.DataType;
+import ai.djl.ndarray.types.Shape;
+import ai.djl.nn.norm.Dropout;
+import ai.djl.training.GradientCollector;
+import ai.djl.training.ParameterStore;
+import ai.djl.util.Pair;
+import ai.djl.util.PairList;
+import ai.djl.util.RandomUtils;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@code CheckpointBlock} is a {@link Block} that does not keep the intermediate activations of the
+ * wrapped block for the backward pass, and recomputes them when the gradients are computed.
+ *
+ * <p>Checkpointing trades compute for memory. In a training forward pass, the wrapped block runs
+ * without recording its operations for the {@link GradientCollector}, and only its inputs and
+ * outputs are kept. After the backward pass of the loss, the wrapped block runs again with
+ * recording to compute the gradients of its parameters and inputs. Wrapping each layer of a deep
+ * network, for example each {@link ai.djl.nn.transformer.TransformerEncoderBlock} of a BERT model,
+ * reduces the activation memory from all the layers to the layer boundaries and one layer.
+ *
+ * <p>The recomputation restores the state of the random number generator of the first forward pass,
+ * so that layers like dropout produce the same result, and the random numbers outside of the
+ * checkpoint are not changed. On engines that can't return the state, the first forward pass of a
+ * block that contains a {@link Dropout} is seeded instead. It requires the {@link
+ * GradientCollector} of {@link ai.djl.training.Trainer#newGradientCollector()}; with other
+ * collectors, and for inference, a {@code CheckpointBlock} behaves like the wrapped block. The
+ * parameters of the wrapped block must not be used outside of it.
+ */
+public class CheckpointBlock extends AbstractBlock {
+
+    private static final byte VERSION = 1;
+
+    private static final ThreadLocal<Tape> TAPE = new ThreadLocal<>();
+
+    private Block block;
+
+    /**
+     * Creates a {@code CheckpointBlock} that recomputes the activations of the given block.
+     *
+     * @param block the block to checkpoint
+     */
+    public CheckpointBlock(Block block) {
+        super(VERSION);
+        this.block = addChildBlock(block.getClass().getSimpleName(), block);
+    }
+
+    /**
+     * Starts collecting the checkpointed forward passes on the current thread.
+     *
+     * <p>This is called by the {@link GradientCollector} of {@link
+     * ai.djl.training.Trainer#newGradientCollector()}.
+     */
+    public static void beginRecording() {
+        endRecording();
+        TAPE.set(new Tape());
+    }
+
+    /**
+     * Recomputes the checkpointed forward passes on the current thread and computes the gradients
+     * of their parameters and inputs.
+     *
+     * <p>This must be called after the backward pass of the loss.
+     *
+     * @param collector the {@link GradientCollector} that computed the backward pass of the loss
+     */
+    public static void backward(GradientCollector collector) {
+        Tape tape = TAPE.get();
+        if (tape == null || tape.segments.isEmpty()) {
+            return;
+        }
+        // nested checkpoints are recomputed as plain blocks of the outer checkpoint
+        TAPE.remove();
+        try {
+            ParameterStore parameterStore = tape.segments.getLast().parameterStore;
+            Set<Parameter> checkpointed = new HashSet<>();
+            for (Segment segment : tape.segments) {
+                checkpointed.addAll(segment.block.getParameters().values());
+            }
+            while (!tape.segments.isEmpty()) {
+                tape.segments.pop().backward(collector, tape);
+                // inputs that are not outputs of a checkpoint may still depend on the outputs of
+                // the remaining segments through operations between the checkpoints, so their
+                // gradients are passed on before the next segment is recomputed
+                tape.backwardUpstream(collector, parameterStore, checkpointed);
+            }
+        } finally {
+            tape.close();
+            TAPE.set(new Tape());
+        }
+    }
+
+    /** Stops collecting the checkpointed forward passes on the current thread. */
+    public static void endRecording() {
+        Tape tape = TAPE.get();
+        if (tape != null) {
+            TAPE.remove();
+            tape.close();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected NDList forwardInternal(
+            ParameterStore parameterStore,
+            NDList inputs,
+            boolean training,
+            PairList<String, Object> params) {
+        Tape tape = TAPE.get();
+        if (!training || tape == null || tape.paused || inputs.isEmpty()) {
+            return block.forward(parameterStore, inputs, training, params);
+        }
+
+        NDManager callerManager = inputs.head().getManager();
+        NDManager manager = tape.getManager(parameterStore, inputs.head().getDevice());
+        Segment segment = new Segment(block, parameterStore, params, inputs.size());
+        // the recorded views keep the inputs and their graph if the caller closes the inputs
+        for (int i = 0; i < inputs.size(); ++i) {
+            NDArray input = inputs.get(i);
+            NDArray view = input.reshape(input.getShape());
+            view.attach(manager);
+            segment.inputs.add(view);
+            segment.sources[i] = tape.outputs.get(input);
+        }
+
+        Engine engine = callerManager.getEngine();
+        segment.randomState = engine.getRandomState(segment.getDevice());
+        if (segment.randomState == null && hasDropout(block)) {
+            segment.seed = RandomUtils.nextInt();
+            segment.seeded = true;
+            engine.setRandomSeed(segment.seed);
+        }
+        boolean recording = engine.setGradientRecording(false);
+        tape.paused = true;
+        try (NDManager scope = manager.newSubManager()) {
+            // the intermediate activations are closed with the scope
+            segment.inputs.attach(scope);
+            try {
+                NDList outputs = block.forward(parameterStore, segment.inputs, true, params);
+                for (NDArray output : outputs) {
+                    if (output.getManager() != scope || isInput(segment.inputs, output)) {
+                        // the output is not owned by the block, for example a parameter
+                        output = output.duplicate();
+                    }
+                    output.attach(manager);
+                    segment.outputs.add(output);
+                }
+            } finally {
+                segment.inputs.attach(manager);
+            }
+        } finally {
+            tape.paused = false;
+            engine.setGradientRecording(recording);
+        }
+
+        NDList ret = new NDList(segment.outputs.size());
+        for (int i = 0; i < segment.outputs.size(); ++i) {
+            NDArray output = segment.outputs.get(i);
+            if (output.getDataType().isFloating()) {
+                output.attachGradient();
+            }
+            // the gradient of the returned view is collected on the kept output
+            NDArray view = output.reshape(output.getShape());
+            view.setName(output.getName());
+            view.attach(callerManager);
+            tape.outputs.put(view, new Source(segment, i));
+            ret.add(view);
+        }
+        tape.segments.push(segment);
+        return ret;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Shape[] getOutputShapes(NDManager manager, Shape[] inputShapes) {
+        return block.getOutputShapes(manager, inputShapes);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void initializeChildBlocks(NDManager manager, DataType dataType, Shape... inputShapes) {
+        block.initialize(manager, dataType, inputShapes);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "Checkpoint(\n" + block.toString().replaceAll("(?m)^", "\t") + "\n)";
+    }
+
+    private static boolean isInput(NDList inputs, NDArray array) {
+        for (NDArray input : inputs) {
+            if (input == array) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasDropout(Block block) {
+        if (block instanceof Dropout) {
+            return true;
+        }
+        for (Block child : block.getChildren().values()) {
+            if (hasDropout(child)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static NDArray newAnchor(NDManager manager) {
+        // a target that is always part of the graph, even if no term requires gradients
+        NDArray anchor = manager.zeros(new Shape());
+        anchor.attachGradient();
+        return anchor;
+    }
+
+    private static NDArray dot(NDArray array, NDArray gradient) {
+        return gradient.mul(array).sum().toType(DataType.FLOAT32, false);
+    }
+
+    /** The checkpointed forward passes of a thread. */
+    private static final class Tape {
+
+        NDManager manager;
+        Deque<Segment> segments = new ArrayDeque<>();
+        Map<NDArray, Source> outputs = new IdentityHashMap<>();
+        NDList upstreamInputs = new NDList();
+        NDList upstreamGradients = new NDList();
+        boolean paused;
+
+        NDManager getManager(ParameterStore parameterStore, Device device) {
+            if (manager == null) {
+                manager = parameterStore.getManager().newSubManager(device);
+            }
+            return manager;
+        }
+
+        void addUpstream(NDArray input, NDArray gradient) {
+            upstreamInputs.add(input);
+            upstreamGradients.add(gradient);
+        }
+
+        void backwardUpstream(
+                GradientCollector collector,
+                ParameterStore parameterStore,
+                Set<Parameter> checkpointed) {
+            if (upstreamInputs.isEmpty()) {
+                return;
+            }
+            try (NDManager scope = manager.newSubManager()) {
+                // parameters outside the checkpoints, such as tied embeddings, and the outputs of
+                // the remaining segments may already have gradients from the loss, which some
+                // engines overwrite instead of accumulating
+                Device device = upstreamInputs.head().getDevice();
+                List<NDArray> gradients = new ArrayList<>();
+                List<NDArray> saved = new ArrayList<>();
+                for (Pair<Parameter, NDArray> pair : parameterStore.getTrainableValues(device)) {
+                    if (!checkpointed.contains(pair.getKey())) {
+                        save(pair.getValue(), scope, gradients, saved);
+                    }
+                }
+                for (Segment segment : segments) {
+                    for (NDArray output : segment.outputs) {
+                        if (output.hasGradient()) {
+                            save(output, scope, gradients, saved);
+                        }
+                    }
+                }
+
+                NDArray target = newAnchor(scope);
+                for (int i = 0; i < upstreamInputs.size(); ++i) {
+                    target = target.add(dot(upstreamInputs.get(i), upstreamGradients.get(i)));
+                }
+                collector.backward(target);
+                for (int i = 0; i < gradients.size(); ++i) {
+                    gradients.get(i).addi(saved.get(i));
+                }
+            } finally {
+                upstreamGradients.close();
+                upstreamInputs = new NDList();
+                upstreamGradients = new NDList();
+            }
+        }
+
+        private static void save(
+                NDArray array, NDManager scope, List<NDArray> gradients, List<NDArray> saved) {
+            NDArray gradient = array.getGradient();
+            gradient.attach(scope);
+            saved.add(gradient.duplicate());
+            gradient.set(new NDIndex(), 0);
+            gradients.add(gradient);
+        }
+
+        void close() {
+            if (manager != null) {
+                manager.close();
+            }
+        }
+    }
+
+    /** A checkpointed forward pass of a block. */
+    private static final class Segment {
+
+        Block block;
+        ParameterStore parameterStore;
+        PairList<String, Object> params;
+        byte[] randomState;
+        boolean seeded;
+        int seed;
+        NDList inputs;
+        Source[] sources;
+        NDList outputs;
+        NDArray[] outputGradients;
+
+        Segment(
+                Block block,
+                ParameterStore parameterStore,
+                PairList<String, Object> params,
+                int size) {
+            this.block = block;
+            this.parameterStore = parameterStore;
+            this.params = params;
+            inputs = new NDList(size);
+            sources = new Source[size];
+            outputs = new NDList();
+        }
+
+        Device getDevice() {
+            return inputs.head().getDevice();
+        }
+
+        void addGradient(int index, NDArray gradient) {
+            if (outputGradients == null) {
+                outputGradients = new NDArray[outputs.size()];
+            }
+            NDArray sum = outputGradients[index];
+            outputGradients[index] = sum == null ? gradient : sum.add(gradient);
+        }
+
+        void backward(GradientCollector collector, Tape tape) {
+            Engine engine = tape.manager.getEngine();
+            try (NDManager scope = tape.manager.newSubManager()) {
+                NDList leaves = new NDList(inputs.size());
+                for (NDArray input : inputs) {
+                    if (input.getDataType().isFloating()) {
+                        NDArray leaf = input.stopGradient();
+                        leaf.attach(scope);
+                        leaf.attachGradient();
+                        leaves.add(leaf);
+                    } else {
+                        leaves.add(input);
+                    }
+                }
+
+                NDList recomputed = recompute(engine, leaves);
+                recomputed.attach(scope);
+                NDArray target = newAnchor(scope);
+                for (int i = 0; i < outputs.size(); ++i) {
+                    NDArray output = outputs.get(i);
+                    if (!output.hasGradient()) {
+                        continue;
+                    }
+                    NDArray gradient = output.getGradient();
+                    gradient.attach(scope);
+                    if (outputGradients != null && outputGradients[i] != null) {
+                        gradient = gradient.add(outputGradients[i]);
+                    }
+                    target = target.add(dot(recomputed.get(i), gradient));
+                }
+                collector.backward(target);
+
+                for (int i = 0; i < inputs.size(); ++i) {
+                    NDArray leaf = leaves.get(i);
+                    if (leaf == inputs.get(i)) {
+                        continue;
+                    }
+                    NDArray gradient = leaf.getGradient().duplicate();
+                    gradient.attach(tape.manager);
+                    Source source = sources[i];
+                    if (source != null) {
+                        source.segment.addGradient(source.index, gradient);
+                    } else {
+                        tape.addUpstream(inputs.get(i), gradient);
+                    }
+                }
+            }
+        }
+
+        private NDList recompute(Engine engine, NDList leaves) {
+            Device device = getDevice();
+            byte[] callerState = null;
+            if (randomState != null) {
+                callerState = engine.getRandomState(device);
+                engine.setRandomState(device, randomState);
+            } else if (seeded) {
+                engine.setRandomSeed(seed);
+            }
+            try {
+                return block.forward(parameterStore, leaves, true, params);
+            } finally {
+                if (callerState != null) {
+                    engine.setRandomState(device, callerState);
+                }
+            }
+        }
+    }
+
+    /** The output of a {@link Segment}. */
+    private static final class Source {
+
+        Segment segment;
+        int index;
+
+        Source(Segment segment, int index) {
+            this.segment = segment;
+            this.index = index;
+        }
+    }
+}
@@ -21,6 +21,7 @@ import ai.djl.ndarray.types.Shape;
 import ai.djl.nn.AbstractBlock;
 import ai.djl.nn.Activation;
 import ai.djl.nn.Block;
+import ai.djl.nn.CheckpointBlock;
 import ai.djl.nn.Parameter;
 import ai.djl.nn.ParameterType;
 import ai.djl.nn.core.Linear;
@@ -60,6 +61,7 @@ public final class BertBlock extends AbstractBlock {
     private final BatchNorm embeddingNorm;
     private final Dropout embeddingDropout;
     private final List<TransformerEncoderBlock> transformerEncoderBlocks;
+    private final List<Block> forwardEncoderBlocks;
     private final Linear pooling;
 
     private BertBlock(Builder builder) {
@@ -108,6 +110,11 @@ public final class BertBlock extends AbstractBlock {
                                     0.1f,
                                     Activation::gelu)));
         }
+        // the encoders are not registered again, so the parameter names do not change
+        this.forwardEncoderBlocks = new ArrayList<>(transformerEncoderBlocks.size());
+        for (TransformerEncoderBlock block : transformerEncoderBlocks) {
+            forwardEncoderBlocks.add(builder.checkpointing ? new CheckpointBlock(block) : block);
+        }
         // add projection for pooling layer
         this.pooling =
                 addChildBlock(
@@ -262,7 +269,7 @@ public final class BertBlock extends AbstractBlock {
                 .waitToRead(dropoutEmbedding)
                 .waitToRead(offsetMask)
                 .close();
-        for (final TransformerEncoderBlock block : transformerEncoderBlocks) {
+        for (final Block block : forwardEncoderBlocks) {
             NDList input = new NDList(lastOutput.head(), offsetMask);
             MemoryScope innerScope = MemoryScope.from(input);
             lastOutput = block.forward(ps, input, training);
@@ -298,6 +305,7 @@ public final class BertBlock extends AbstractBlock {
         float hiddenDropoutProbability = 0.1f;
         // float attentionDropoutProbability = 0.1f;
         int maxSequenceLength = 512;
+        boolean checkpointing;
         // float initializerRange = 0.02f;
 
         private Builder() {}
@@ -406,6 +414,20 @@ public final class BertBlock extends AbstractBlock {
             return this;
         }
 
+        /**
+         * Sets whether the activations of the transformer blocks are recomputed in the backward
+         * pass instead of being kept, see {@link CheckpointBlock}. This allows larger batches or
+         * longer sequences in training at the cost of a second forward pass of the transformer
+         * blocks.
+         *
+         * @param checkpointing {@code true} to recompute the activations of the transformer blocks
+         * @return this builder
+         */
+        public Builder optCheckpointing(boolean checkpointing) {
+            this.checkpointing = checkpointing;
+            return this;
+        }
+
         /**
          * Sets the initializer range for the truncated normal initialization used for this model.
          *
@@ -19,18 +19,33 @@ import ai.djl.util.ZipUtils;
 import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
 import java.net.URI;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.OpenOption;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.ZipInputStream;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
@@ -49,6 +64,11 @@ public abstract class AbstractRepository implements Repository {
 
     private static final Logger logger = LoggerFactory.getLogger(AbstractRepository.class);
 
+    private static final int DOWNLOAD_THREADS = 4;
+    private static final int BUFFER_SIZE = 81920;
+    private static final int HTTP_RANGE_NOT_SATISFIABLE = 416;
+    private static final int LOCK_STRIPES = 64;
+
     /** {@inheritDoc} */
     @Override
     public InputStream openStream(Artifact.Item item, String path) throws IOException {
@@ -96,7 +116,12 @@ public abstract class AbstractRepository implements Repository {
         return getBaseUri().resolve(artifactUri.resolve(uriSuffix));
     }
 
-    /** {@inheritDoc} */
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The items of the artifact are downloaded concurrently. Other threads and processes that
+     * prepare the same artifact wait until it is downloaded instead of downloading it again.
+     */
     @Override
     public void prepare(Artifact artifact, Progress progress) throws IOException {
         Path resourceDir = getResourceDirectory(artifact);
@@ -115,26 +140,35 @@ public abstract class AbstractRepository implements Repository {
         }
 
         Files.createDirectories(parentDir);
-        Path tmp = Files.createTempDirectory(parentDir, resourceDir.toFile().getName());
-        if (progress != null) {
-            long totalSize = 0;
-            for (Artifact.Item item : files.values()) {
-                totalSize += item.getSize();
-            }
-            progress.reset("Downloading", totalSize);
-        }
-
+        String name = resourceDir.toFile().getName();
+        String key = resourceDir.toAbsolutePath().normalize().toString();
+        CacheLock lock = CacheLock.acquire(getLockFile("artifact", key));
         try {
-            logger.debug("Items to download: {}", files.size());
-            for (Artifact.Item item : files.values()) {
-                download(tmp, baseUri, item, progress);
+            if (Files.exists(resourceDir)) {
+                logger.debug("Files have been downloaded by another process: {}", resourceDir);
+                return;
             }
-            Utils.moveQuietly(tmp, resourceDir);
-        } finally {
-            Utils.deleteQuietly(tmp);
+
+            Path tmp = Files.createTempDirectory(parentDir, name);
             if (progress != null) {
-                progress.end();
+                long totalSize = 0;
+                for (Artifact.Item item : files.values()) {
+                    totalSize += item.getSize();
+                }
+                progress.reset("Downloading", totalSize);
+            }
+
+            try {
+                downloadAll(tmp, baseUri, files.values(), progress);
+                Utils.moveQuietly(tmp, resourceDir);
+            } finally {
+                Utils.deleteQuietly(tmp);
+                if (progress != null) {
+                    progress.end();
+                }
             }
+        } finally {
+            lock.close();
         }
     }
 
@@ -172,9 +206,254 @@ public abstract class AbstractRepository implements Repository {
             fileUri = getBaseUri().resolve(baseUri).resolve(fileUri);
         }
 
+        downloadFile(tmp, fileUri, baseUri, item, progress);
+    }
+
+    /**
+     * Downloads an item from the specified URI and saves it to the temporary directory.
+     *
+     * <p>HTTP downloads go through a blob store in the cache directory, so that an interrupted
+     * download is resumed where it stopped, as long as the remote file has the same ETag or
+     * Last-Modified time as when the download started. A plain file with a sha1 hash is kept in the
+     * store, named by its hash, and hard linked into the artifact, so a file with the same content
+     * is only downloaded and stored once across artifacts. Archives are removed from the store once
+     * they are extracted.
+     *
+     * @param tmp the temporary directory to save the item to
+     * @param fileUri the URI to download the item from
+     * @param baseUri the base URI of the artifact
+     * @param item the item to download
+     * @param progress the (optionally null) progress tracker
+     * @throws IOException if the item cannot be downloaded
+     */
+    protected void downloadFile(
+            Path tmp, URI fileUri, URI baseUri, Artifact.Item item, Progress progress)
+            throws IOException {
         logger.debug("Downloading artifact: {} ...", fileUri);
-        try (InputStream is = fileUri.toURL().openStream()) {
-            save(is, tmp, baseUri, item, progress);
+        String scheme = fileUri.getScheme();
+        if (!"http".equalsIgnoreCase(scheme) && !"https".equalsIgnoreCase(scheme)) {
+            try (InputStream is = fileUri.toURL().openStream()) {
+                save(is, tmp, baseUri, item, progress);
+            }
+            return;
+        }
+
+        Path blobDir = getCacheDirectory().resolve("blobs");
+        Files.createDirectories(blobDir);
+        String sha1 = item.getSha1Hash();
+        boolean shared = sha1 != null && !sha1.isEmpty();
+        String key = shared ? sha1.toLowerCase(Locale.ROOT) : md5hash(fileUri.toString());
+        String extension = item.getExtension();
+        boolean archive =
+                "dir".equals(item.getType()) || "zip".equals(extension) || "gzip".equals(extension);
+
+        CacheLock lock = CacheLock.acquire(getLockFile("blob", key));
+        try {
+            if (shared && !archive) {
+                Path blob = blobDir.resolve(key);
+                downloadBlob(blobDir, key, blob, fileUri, item, progress);
+                link(blob, tmp.resolve(item.getName()));
+                return;
+            }
+
+            // archives and files without a hash are only kept until they are saved
+            Path blob = tmp.resolve('.' + key);
+            downloadBlob(blobDir, key, blob, fileUri, item, progress);
+            try (InputStream is = Files.newInputStream(blob)) {
+                save(is, tmp, baseUri, item, null);
+            } finally {
+                Files.deleteIfExists(blob);
+            }
+        } finally {
+            lock.close();
+        }
+    }
+
+    private void downloadAll(
+            Path tmp, URI baseUri, Collection<Artifact.Item> items, Progress progress)
+            throws IOException {
+        logger.debug("Items to download: {}", items.size());
+        int threads =
+                Math.min(
+                        items.size(),
+                        Integer.getInteger("ai.djl.repository.download_threads", DOWNLOAD_THREADS));
+        if (threads <= 1) {
+            for (Artifact.Item item : items) {
+                download(tmp, baseUri, item, progress);
+            }
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>(items.size());
+            for (Artifact.Item item : items) {
+                futures.add(
+                        executor.submit(
+                                () -> {
+                                    download(tmp, baseUri, item, progress);
+                                    return null;
+                                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Download interrupted.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException("Failed to download artifact.", cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void downloadBlob(
+            Path blobDir, String key, Path blob, URI fileUri, Artifact.Item item, Progress progress)
+            throws IOException {
+        if (Files.isRegularFile(blob)) {
+            logger.debug("Using cached blob: {} for {}", blob, fileUri);
+            increment(progress, Files.size(blob));
+            return;
+        }
+
+        Path part = blobDir.resolve(key + ".part");
+        Path validator = blobDir.resolve(key + ".part.validator");
+        transfer(fileUri, part, validator, progress);
+        Files.deleteIfExists(validator);
+        String sha1 = item.getSha1Hash();
+        if (sha1 != null && !sha1.isEmpty()) {
+            String actual = sha1(part);
+            if (!actual.equalsIgnoreCase(sha1)) {
+                Files.deleteIfExists(part);
+                throw new IOException(
+                        "Checksum error: "
+                                + item.getName()
+                                + ", expected sha1: "
+                                + sha1
+                                + ", actual sha1: "
+                                + actual);
+            }
+        }
+        Files.move(part, blob, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static void transfer(URI uri, Path part, Path validator, Progress progress)
+            throws IOException {
+        // a partial file is only resumed if the remote file has not changed since, the server
+        // ignores the range and sends the whole file otherwise
+        String ifRange = null;
+        if (Files.exists(part) && Files.exists(validator)) {
+            ifRange = new String(Files.readAllBytes(validator), StandardCharsets.UTF_8).trim();
+        }
+        long offset = ifRange == null || ifRange.isEmpty() ? 0 : Files.size(part);
+        HttpURLConnection conn = (HttpURLConnection) uri.toURL().openConnection();
+        try {
+            if (offset > 0) {
+                conn.setRequestProperty("Range", "bytes=" + offset + '-');
+                conn.setRequestProperty("If-Range", ifRange);
+            }
+            int code = conn.getResponseCode();
+            if (code == HTTP_RANGE_NOT_SATISFIABLE && offset > 0) {
+                // the partial file does not match the remote file any more
+                conn.disconnect();
+                Files.delete(part);
+                offset = 0;
+                conn = (HttpURLConnection) uri.toURL().openConnection();
+                code = conn.getResponseCode();
+            }
+
+            OpenOption[] options;
+            if (code == HttpURLConnection.HTTP_PARTIAL) {
+                logger.debug("Resuming download of {} at {} bytes", uri, offset);
+                increment(progress, offset);
+                options = new OpenOption[] {StandardOpenOption.APPEND};
+            } else if (code == HttpURLConnection.HTTP_OK) {
+                Files.deleteIfExists(validator);
+                Files.deleteIfExists(part);
+                String value = getValidator(conn);
+                if (value != null) {
+                    Files.write(validator, value.getBytes(StandardCharsets.UTF_8));
+                }
+                options = new OpenOption[] {StandardOpenOption.CREATE, StandardOpenOption.WRITE};
+            } else {
+                throw new IOException("Failed to download " + uri + ", HTTP response: " + code);
+            }
+
+            try (InputStream is = conn.getInputStream();
+                    OutputStream os = Files.newOutputStream(part, options)) {
+                byte[] buf = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = is.read(buf)) != -1) {
+                    os.write(buf, 0, read);
+                    increment(progress, read);
+                }
+            }
+        } finally {
+            conn.disconnect();
+        }
+    }
+
+    private static String getValidator(HttpURLConnection conn) {
+        String etag = conn.getHeaderField("ETag");
+        // If-Range only accepts a strong ETag
+        if (etag != null && !etag.startsWith("W/")) {
+            return etag;
+        }
+        return conn.getHeaderField("Last-Modified");
+    }
+
+    private static void link(Path blob, Path file) throws IOException {
+        Path parentFile = file.getParent();
+        if (parentFile != null) {
+            Files.createDirectories(parentFile);
+        }
+        try {
+            Files.createLink(file, blob);
+        } catch (IOException | UnsupportedOperationException e) {
+            // hard links are not supported across file systems, the blob is not shared then
+            logger.trace("Failed to link {}, moving instead", blob, e);
+            Files.move(blob, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private Path getLockFile(String type, String key) throws IOException {
+        Path dir = getCacheDirectory().resolve("locks");
+        Files.createDirectories(dir);
+        // keys share a fixed set of lock files, so the lock files do not pile up in the cache
+        int stripe = Math.floorMod(key.hashCode(), LOCK_STRIPES);
+        return dir.resolve(type + '-' + stripe + ".lock");
+    }
+
+    private static String sha1(Path file) throws IOException {
+        MessageDigest md;
+        try {
+            md = MessageDigest.getInstance("SHA1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError("SHA1 algorithm not found.", e);
+        }
+        try (InputStream is = Files.newInputStream(file)) {
+            byte[] buf = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = is.read(buf)) != -1) {
+                md.update(buf, 0, read);
+            }
+        }
+        return Hex.toHexString(md.digest());
+    }
+
+    private static void increment(Progress progress, long size) {
+        if (progress != null) {
+            // items are downloaded concurrently
+            synchronized (progress) {
+                progress.increment(size);
+            }
         }
     }
 
@@ -286,12 +565,8 @@ public abstract class AbstractRepository implements Repository {
         @Override
         public int read() throws IOException {
             int ret = dis.read();
-            if (progress != null) {
-                if (ret >= 0) {
-                    progress.increment(1);
-                } else {
-                    progress.end();
-                }
+            if (ret >= 0) {
+                increment(progress, 1);
             }
             return ret;
         }
@@ -300,8 +575,8 @@ public abstract class AbstractRepository implements Repository {
         @Override
         public int read(byte[] b, int off, int len) throws IOException {
             int size = dis.read(b, off, len);
-            if (progress != null) {
-                progress.increment(size);
+            if (size > 0) {
+                increment(progress, size);
             }
             return size;
         }
@@ -332,4 +607,55 @@ public abstract class AbstractRepository implements Repository {
             dis.close();
         }
     }
+
+    /**
+     * A lock on a file in the cache directory that is held by at most one thread of all processes
+     * sharing the cache.
+     *
+     * <p>Keys are spread over a fixed number of lock files per type, so the lock files and the
+     * in-process locks are bounded. A thread must not acquire a second lock of the same type while
+     * holding one.
+     */
+    private static final class CacheLock implements AutoCloseable {
+
+        private static final Map<Path, ReentrantLock> LOCKS = new ConcurrentHashMap<>();
+
+        private ReentrantLock lock;
+        private FileChannel channel;
+
+        private CacheLock(ReentrantLock lock, FileChannel channel) {
+            this.lock = lock;
+            this.channel = channel;
+        }
+
+        static CacheLock acquire(Path file) throws IOException {
+            // a file lock is held by the process, so threads are serialized in the JVM first
+            ReentrantLock lock = LOCKS.computeIfAbsent(file, k -> new ReentrantLock());
+            lock.lock();
+            FileChannel channel = null;
+            try {
+                channel =
+                        FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                channel.lock();
+                return new CacheLock(lock, channel);
+            } catch (IOException | RuntimeException e) {
+                if (channel != null) {
+                    channel.close();
+                }
+                lock.unlock();
+                throw e;
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void close() throws IOException {
+            try {
+                // closing the channel releases the file lock
+                channel.close();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
 }
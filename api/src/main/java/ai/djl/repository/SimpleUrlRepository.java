@@ -16,7 +16,6 @@ import ai.djl.Application;
 import ai.djl.repository.zoo.DefaultModelZoo;
 import ai.djl.util.Progress;
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.net.URI;
 import java.nio.file.Path;
@@ -105,10 +104,7 @@ public class SimpleUrlRepository extends AbstractRepository {
     @Override
     protected void download(Path tmp, URI baseUri, Artifact.Item item, Progress progress)
             throws IOException {
-        logger.debug("Downloading artifact: {} ...", uri);
-        try (InputStream is = uri.toURL().openStream()) {
-            save(is, tmp, baseUri, item, progress);
-        }
+        downloadFile(tmp, uri, baseUri, item, progress);
     }
 
     private synchronized Metadata getMetadata() throws IOException {
@@ -36,6 +36,7 @@ import java.lang.reflect.Type;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
@@ -136,16 +137,42 @@ public class BaseModelLoader implements ModelLoader {
                 modelName = artifact.getName();
             }
 
+            ModelCache cache = criteria.getModelCache();
+            if (cache != null && criteria.getBlock() == null) {
+                String key =
+                        getCacheKey(modelPath, modelName, criteria, arguments, options, engine);
+                String name = modelName;
+                String engineName = engine;
+                Model model =
+                        cache.acquire(
+                                key,
+                                () -> {
+                                    Model m =
+                                            createModel(
+                                                    name,
+                                                    criteria.getDevice(),
+                                                    artifact,
+                                                    arguments,
+                                                    engineName);
+                                    m.load(modelPath, null, options);
+                                    return m;
+                                });
+                try {
+                    Translator<I, O> translator =
+                            newTranslator(factory, model, criteria, arguments);
+                    return new ZooModel<>(model, translator, () -> cache.release(key));
+                } catch (TranslateException | RuntimeException e) {
+                    cache.release(key);
+                    throw e;
+                }
+            }
+
             Model model = createModel(modelName, criteria.getDevice(), artifact, arguments, engine);
             if (criteria.getBlock() != null) {
                 model.setBlock(criteria.getBlock());
             }
             model.load(modelPath, null, options);
-            Application application = criteria.getApplication();
-            if (application != Application.UNDEFINED) {
-                arguments.put("application", application.getPath());
-            }
-            Translator<I, O> translator = factory.newInstance(model, arguments);
+            Translator<I, O> translator = newTranslator(factory, model, criteria, arguments);
             return new ZooModel<>(model, translator);
         } catch (TranslateException e) {
             throw new ModelNotFoundException("No matching translator found", e);
@@ -197,6 +224,45 @@ public class BaseModelLoader implements ModelLoader {
         return sb.toString();
     }
 
+    private <I, O> Translator<I, O> newTranslator(
+            TranslatorFactory<I, O> factory,
+            Model model,
+            Criteria<I, O> criteria,
+            Map<String, Object> arguments)
+            throws TranslateException {
+        Application application = criteria.getApplication();
+        if (application != Application.UNDEFINED) {
+            arguments.put("application", application.getPath());
+        }
+        return factory.newInstance(model, arguments);
+    }
+
+    private String getCacheKey(
+            Path modelPath,
+            String modelName,
+            Criteria<?, ?> criteria,
+            Map<String, Object> arguments,
+            Map<String, String> options,
+            String engine) {
+        String engineName = engine == null ? Engine.getInstance().getEngineName() : engine;
+        Device device = criteria.getDevice();
+        if (device == null) {
+            device = Device.defaultDevice(Engine.getEngine(engineName));
+        }
+        // sorted, so that equal maps produce the same key
+        return modelPath.toAbsolutePath()
+                + "|"
+                + modelName
+                + '|'
+                + engineName
+                + '|'
+                + device
+                + '|'
+                + new TreeMap<>(options)
+                + '|'
+                + new TreeMap<>(arguments);
+    }
+
     @SuppressWarnings("unchecked")
     private <I, O> TranslatorFactory<I, O> getTranslatorFactory(Criteria<I, O> criteria) {
         if (criteria.getInputClass() == null) {
@@ -65,6 +65,7 @@ public class Criteria<I, O> {
     private Block block;
     private String modelName;
     private Progress progress;
+    private ModelCache modelCache;
 
     Criteria(Builder<I, O> builder) {
         this.application = builder.application;
@@ -82,6 +83,7 @@ public class Criteria<I, O> {
         this.block = builder.block;
         this.modelName = builder.modelName;
         this.progress = builder.progress;
+        this.modelCache = builder.modelCache;
     }
 
     /**
@@ -219,6 +221,15 @@ public class Criteria<I, O> {
         return progress;
     }
 
+    /**
+     * Returns the optional {@link ModelCache} to share the loaded model.
+     *
+     * @return the optional {@link ModelCache} to share the loaded model
+     */
+    public ModelCache getModelCache() {
+        return modelCache;
+    }
+
     /** {@inheritDoc} */
     @Override
     public String toString() {
@@ -286,6 +297,7 @@ public class Criteria<I, O> {
         Block block;
         String modelName;
         Progress progress;
+        ModelCache modelCache;
 
         Builder() {
             application = Application.UNDEFINED;
@@ -304,6 +316,7 @@ public class Criteria<I, O> {
             block = parent.block;
             modelName = parent.modelName;
             progress = parent.progress;
+            modelCache = parent.modelCache;
         }
 
         /**
@@ -547,6 +560,20 @@ public class Criteria<I, O> {
             return this;
         }
 
+        /**
+         * Sets the optional {@link ModelCache} that shares the loaded model with other {@link
+         * ZooModel}s loaded with the same criteria.
+         *
+         * <p>A model with a {@link #optBlock(Block) block} is not cached.
+         *
+         * @param modelCache the {@code ModelCache}
+         * @return this {@code Builder}
+         */
+        public Builder<I, O> optModelCache(ModelCache modelCache) {
+            this.modelCache = modelCache;
+            return this;
+        }
+
         /**
          * Builds a {@link Criteria} instance.
          *
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2021 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.repository.zoo;
+
+import ai.djl.MalformedModelException;
+import ai.djl.Model;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A cache of loaded models that are shared by the {@link ZooModel}s loaded with the same {@link
+ * Criteria}.
+ *
+ * <p>A model is identified by its resolved artifact, name, engine, {@link ai.djl.Device}, options
+ * and arguments. Loading a model that is already in the cache only creates a new {@link
+ * ai.djl.translate.Translator}, and the {@link ZooModel}s share the weights of the cached model.
+ * The cached model is reference counted, closing a {@code ZooModel} releases its reference. At most
+ * {@code maxIdleModels} models without references are kept loaded as warm standby, the least
+ * recently released model is closed when the limit is exceeded.
+ *
+ * <pre>
+ * ModelCache cache = new ModelCache(2);
+ * Criteria&lt;Image, Classifications&gt; criteria = Criteria.builder()
+ *         .setTypes(Image.class, Classifications.class)
+ *         .optModelUrls("file:///var/models/my_resnet50")
+ *         .optModelCache(cache)
+ *         .build();
+ * cache.preload(criteria, null); // loads the model ahead of the first request
+ * try (ZooModel&lt;Image, Classifications&gt; model = ModelZoo.loadModel(criteria)) {
+ *     ...
+ * }
+ * </pre>
+ *
+ * <p>Since the model is shared, changes to it, such as {@link Model#setBlock} or {@link
+ * Model#setProperty}, are visible to all {@code ZooModel}s loaded from the cache.
+ */
+public class ModelCache implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ModelCache.class);
+
+    private int maxIdleModels;
+    private Map<String, Entry> entries;
+    private Set<String> idle;
+    private boolean closed;
+
+    /**
+     * Constructs a {@code ModelCache} that keeps at most {@code maxIdleModels} unused models.
+     *
+     * @param maxIdleModels the maximum number of models to keep loaded while no {@link ZooModel}
+     *     uses them, 0 closes a model as soon as it is no longer used
+     */
+    public ModelCache(int maxIdleModels) {
+        if (maxIdleModels < 0) {
+            throw new IllegalArgumentException("maxIdleModels must not be negative.");
+        }
+        this.maxIdleModels = maxIdleModels;
+        entries = new HashMap<>();
+        idle = new LinkedHashSet<>();
+    }
+
+    /**
+     * Loads the model of the criteria into the cache and releases it, so that it is kept as warm
+     * standby for the next {@link ModelZoo#loadModel(Criteria)}.
+     *
+     * @param criteria the criteria of the model, which must use this cache
+     * @param warmup an optional function to run on the model before it is released, for example a
+     *     prediction to let the engine optimize the model
+     * @param <I> the input data type
+     * @param <O> the output data type
+     * @throws IOException for various exceptions loading data from the repository
+     * @throws ModelNotFoundException if no model with the specified criteria is found
+     * @throws MalformedModelException if the model data is malformed
+     */
+    public <I, O> void preload(Criteria<I, O> criteria, Consumer<ZooModel<I, O>> warmup)
+            throws IOException, ModelNotFoundException, MalformedModelException {
+        if (criteria.getModelCache() != this) {
+            throw new IllegalArgumentException("The criteria must use this ModelCache.");
+        }
+        try (ZooModel<I, O> model = ModelZoo.loadModel(criteria)) {
+            if (warmup != null) {
+                warmup.accept(model);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of models in the cache, including the models in use.
+     *
+     * @return the number of models in the cache
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the number of models in the cache that are not used by any {@link ZooModel}.
+     *
+     * @return the number of models in the cache that are not used
+     */
+    public synchronized int getIdleCount() {
+        return idle.size();
+    }
+
+    /** Closes the models in the cache that are not used by any {@link ZooModel}. */
+    public void evictIdle() {
+        List<Model> evicted;
+        synchronized (this) {
+            evicted = new ArrayList<>(idle.size());
+            for (String key : idle) {
+                evicted.add(entries.remove(key).model);
+            }
+            idle.clear();
+        }
+        closeModels(evicted);
+    }
+
+    /**
+     * Closes the models that are not used, models in use are closed when they are released.
+     *
+     * <p>Models that are loaded after the cache is closed are not cached.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+        }
+        evictIdle();
+    }
+
+    /**
+     * Returns the cached model with the key, loading it if it is not cached.
+     *
+     * <p>Every call must be followed by a {@link #release(String)} once the model is no longer
+     * used.
+     *
+     * @param key the key of the model
+     * @param supplier loads the model if it is not cached
+     * @return the cached model
+     * @throws IOException for various exceptions loading data from the repository
+     * @throws ModelNotFoundException if no model with the specified criteria is found
+     * @throws MalformedModelException if the model data is malformed
+     */
+    Model acquire(String key, ModelSupplier supplier)
+            throws IOException, ModelNotFoundException, MalformedModelException {
+        Entry entry;
+        synchronized (this) {
+            entry = entries.computeIfAbsent(key, k -> new Entry());
+            entry.references++;
+            idle.remove(key);
+        }
+
+        // other models can be loaded and released while this one is loading
+        synchronized (entry) {
+            if (entry.model == null) {
+                boolean loaded = false;
+                try {
+                    entry.model = supplier.get();
+                    loaded = true;
+                    logger.debug("Model {} loaded into cache.", key);
+                } finally {
+                    if (!loaded) {
+                        release(key);
+                    }
+                }
+            } else {
+                logger.debug("Model {} loaded from cache.", key);
+            }
+            return entry.model;
+        }
+    }
+
+    /**
+     * Releases a reference acquired with {@link #acquire(String, ModelSupplier)}.
+     *
+     * @param key the key of the model
+     */
+    void release(String key) {
+        List<Model> evicted = new ArrayList<>();
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry == null || --entry.references > 0) {
+                return;
+            }
+            if (entry.model == null) {
+                // failed to load
+                entries.remove(key);
+                return;
+            }
+            idle.add(key);
+            int maxIdle = closed ? 0 : maxIdleModels;
+            Iterator<String> it = idle.iterator();
+            while (idle.size() > maxIdle) {
+                String eldest = it.next();
+                it.remove();
+                evicted.add(entries.remove(eldest).model);
+            }
+        }
+        closeModels(evicted);
+    }
+
+    private static void closeModels(List<Model> models) {
+        for (Model model : models) {
+            logger.debug("Closing cached model {}.", model.getName());
+            model.close();
+        }
+    }
+
+    /** Loads a model on a cache miss. */
+    interface ModelSupplier {
+
+        /**
+         * Loads the model.
+         *
+         * @return the loaded model
+         * @throws IOException for various exceptions loading data from the repository
+         * @throws ModelNotFoundException if no model with the specified criteria is found
+         * @throws MalformedModelException if the model data is malformed
+         */
+        Model get() throws IOException, ModelNotFoundException, MalformedModelException;
+    }
+
+    private static final class Entry {
+
+        volatile Model model;
+        int references;
+    }
+}
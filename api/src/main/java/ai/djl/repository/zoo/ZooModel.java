@@ -14,12 +14,14 @@ package ai.djl.repository.zoo;
 
 import ai.djl.Model;
 import ai.djl.inference.Predictor;
+import ai.djl.inference.PredictorPool;
 import ai.djl.ndarray.NDManager;
 import ai.djl.ndarray.types.DataType;
 import ai.djl.ndarray.types.Shape;
 import ai.djl.nn.Block;
 import ai.djl.training.Trainer;
 import ai.djl.training.TrainingConfig;
+import ai.djl.translate.TranslateException;
 import ai.djl.translate.Translator;
 import ai.djl.util.PairList;
 import java.io.IOException;
@@ -40,6 +42,9 @@ public class ZooModel<I, O> implements Model {
 
     private Model model;
     private Translator<I, O> translator;
+    private PredictorPool<I, O> predictorPool;
+    private Runnable release;
+    private boolean released;
 
     /**
      * Constructs a {@code ZooModel} given the model and translator.
@@ -52,6 +57,19 @@ public class ZooModel<I, O> implements Model {
         this.translator = translator;
     }
 
+    /**
+     * Constructs a {@code ZooModel} that shares a model of a {@link ModelCache}.
+     *
+     * @param model the model to wrap
+     * @param translator the translator
+     * @param release releases the reference to the shared model instead of closing it
+     */
+    ZooModel(Model model, Translator<I, O> translator, Runnable release) {
+        this.model = model;
+        this.translator = translator;
+        this.release = release;
+    }
+
     /** {@inheritDoc} */
     @Override
     public void load(Path modelPath, String prefix, Map<String, ?> options) {
@@ -130,6 +148,38 @@ public class ZooModel<I, O> implements Model {
         return model.newPredictor(translator);
     }
 
+    /**
+     * Returns the shared {@link PredictorPool} of this model with the default translator.
+     *
+     * <p>A pool with the default settings is created on first use unless one is set with {@link
+     * #setPredictorPool(PredictorPool)}. The pool is closed together with the model.
+     *
+     * @return the shared {@code PredictorPool} of this model
+     */
+    public synchronized PredictorPool<I, O> getPredictorPool() {
+        if (predictorPool == null) {
+            try {
+                predictorPool = PredictorPool.builder(this, translator).build();
+            } catch (TranslateException e) {
+                // not reachable, no warmup is done with the default settings
+                throw new IllegalStateException(e);
+            }
+        }
+        return predictorPool;
+    }
+
+    /**
+     * Sets the shared {@link PredictorPool} of this model, the previous pool is closed.
+     *
+     * @param predictorPool the {@code PredictorPool} created with this model
+     */
+    public synchronized void setPredictorPool(PredictorPool<I, O> predictorPool) {
+        if (this.predictorPool != null) {
+            this.predictorPool.close();
+        }
+        this.predictorPool = predictorPool;
+    }
+
     /**
      * Returns the default translator.
      *
@@ -202,6 +252,20 @@ public class ZooModel<I, O> implements Model {
     /** {@inheritDoc} */
     @Override
     public void close() {
-        model.close();
+        boolean releaseShared;
+        synchronized (this) {
+            if (predictorPool != null) {
+                predictorPool.close();
+                predictorPool = null;
+            }
+            // a shared model must only be released once
+            releaseShared = !released;
+            released = true;
+        }
+        if (release == null) {
+            model.close();
+        } else if (releaseShared) {
+            release.run();
+        }
     }
 }
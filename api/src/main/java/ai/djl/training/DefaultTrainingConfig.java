@@ -36,6 +36,8 @@ public class DefaultTrainingConfig implements TrainingConfig {
     private DataManager dataManager;
     private List<Evaluator> evaluators;
     private List<TrainingListener> listeners;
+    private Transport transport;
+    private MixedPrecision mixedPrecision;
 
     /**
      * Creates an instance of {@code DefaultTrainingConfig} with the given {@link Loss}. {@code
@@ -122,6 +124,44 @@ public class DefaultTrainingConfig implements TrainingConfig {
         return this;
     }
 
+    /**
+     * Sets the {@link Transport} to synchronize the gradients with other processes for distributed
+     * data parallel training.
+     *
+     * @param transport the {@link Transport} to the other processes
+     * @return this {@code DefaultTrainingConfig}
+     */
+    public DefaultTrainingConfig optTransport(Transport transport) {
+        this.transport = transport;
+        return this;
+    }
+
+    /**
+     * Sets this process to be one of {@code worldSize} processes training together, connected with
+     * a {@link TcpTransport}.
+     *
+     * @param rank the rank of this process, from 0 to {@code worldSize - 1}
+     * @param worldSize the number of processes
+     * @param masterAddress the host and port of the process with rank 0, for example {@code
+     *     10.0.0.1:29500}
+     * @return this {@code DefaultTrainingConfig}
+     */
+    public DefaultTrainingConfig optDistributed(int rank, int worldSize, String masterAddress) {
+        return optTransport(new TcpTransport(rank, worldSize, masterAddress));
+    }
+
+    /**
+     * Sets the {@link MixedPrecision} to compute the forward and backward passes in a lower
+     * precision data type with dynamic loss scaling.
+     *
+     * @param mixedPrecision the {@link MixedPrecision}
+     * @return this {@code DefaultTrainingConfig}
+     */
+    public DefaultTrainingConfig optMixedPrecision(MixedPrecision mixedPrecision) {
+        this.mixedPrecision = mixedPrecision;
+        return this;
+    }
+
     /** {@inheritDoc} */
     @Override
     public Device[] getDevices() {
@@ -166,4 +206,16 @@ public class DefaultTrainingConfig implements TrainingConfig {
     public List<TrainingListener> getTrainingListeners() {
         return listeners;
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public Transport getTransport() {
+        return transport;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public MixedPrecision getMixedPrecision() {
+        return mixedPrecision;
+    }
 }
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2021 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.training;
+
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.types.DataType;
+import ai.djl.training.optimizer.Optimizer;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+
+/**
+ * A {@link ParameterServer} for data parallel training with multiple processes, which can run on
+ * different hosts.
+ *
+ * <p>The gradients are first summed across the devices of each process like the {@link
+ * LocalParameterServer}, and then summed across the processes with a ring all-reduce over a {@link
+ * Transport}. Every process applies the same update to its own copy of the parameters, which are
+ * initialized with the values of the process with rank 0. Since the gradients are summed, the
+ * {@link Optimizer} should rescale them by the batch size of all processes together.
+ *
+ * <p>All processes must train the same model with the same number of batches, because every batch
+ * waits for the gradients of all other processes.
+ */
+public class DistributedParameterServer extends LocalParameterServer {
+
+    private Transport transport;
+
+    /**
+     * Constructs a {@code DistributedParameterServer}.
+     *
+     * @param optimizer the optimizer to update the parameters
+     * @param transport the transport to the other processes, which is closed with this server
+     */
+    public DistributedParameterServer(Optimizer optimizer, Transport transport) {
+        super(optimizer);
+        this.transport = transport;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The parameter is set to the value of the process with rank 0.
+     */
+    @Override
+    public void init(String parameterId, NDArray[] value) {
+        if (transport.getWorldSize() == 1) {
+            return;
+        }
+        NDArray array = value[0];
+        float[] data = toFloatArray(array);
+        try {
+            broadcast(transport, data);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to initialize parameter " + parameterId, e);
+        }
+        set(array, data);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The flags of all processes are summed with an all-reduce, so a process that overflowed
+     * makes every process skip the step instead of leaving the others waiting in the all-reduce of
+     * the gradients.
+     */
+    @Override
+    public boolean isFiniteOnAllProcesses(boolean finite) {
+        if (transport.getWorldSize() == 1) {
+            return finite;
+        }
+        // one slot per process, so that every chunk of the ring is not empty
+        float[] overflows = new float[transport.getWorldSize()];
+        overflows[transport.getRank()] = finite ? 0 : 1;
+        try {
+            allReduce(transport, overflows);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to exchange the gradient overflow", e);
+        }
+        for (float overflow : overflows) {
+            if (overflow != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        super.close();
+        transport.close();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean isDistributed() {
+        return transport.getWorldSize() > 1;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void reduceAcrossProcesses(NDArray gradients) {
+        if (transport.getWorldSize() == 1) {
+            return;
+        }
+        float[] data = toFloatArray(gradients);
+        try {
+            allReduce(transport, data);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to reduce gradients", e);
+        }
+        set(gradients, data);
+    }
+
+    /**
+     * Sums the data of all processes with a ring all-reduce.
+     *
+     * <p>The data is split into one chunk per process. In the first {@code worldSize - 1} steps,
+     * each process adds the chunk it receives to its own data and passes the sum on, after which
+     * each process has the total of one chunk. In the next {@code worldSize - 1} steps, the totals
+     * are passed around the ring. Each process sends about twice the size of the data.
+     *
+     * @param transport the transport to the other processes
+     * @param data the data to sum in place
+     * @throws IOException if the data cannot be exchanged
+     */
+    static void allReduce(Transport transport, float[] data) throws IOException {
+        int worldSize = transport.getWorldSize();
+        int rank = transport.getRank();
+        int[] offsets = new int[worldSize + 1];
+        for (int i = 0; i <= worldSize; ++i) {
+            offsets[i] = (int) ((long) data.length * i / worldSize);
+        }
+        int maxChunk = (data.length + worldSize - 1) / worldSize;
+        ByteBuffer send = ByteBuffer.allocate(maxChunk * 4);
+        ByteBuffer receive = ByteBuffer.allocate(maxChunk * 4);
+
+        for (int step = 0; step < worldSize - 1; ++step) {
+            int sendChunk = (rank - step + worldSize) % worldSize;
+            int receiveChunk = (rank - step - 1 + worldSize) % worldSize;
+            exchange(transport, data, offsets, sendChunk, receiveChunk, send, receive);
+            FloatBuffer received = receive.asFloatBuffer();
+            for (int i = offsets[receiveChunk]; i < offsets[receiveChunk + 1]; ++i) {
+                data[i] += received.get();
+            }
+        }
+        for (int step = 0; step < worldSize - 1; ++step) {
+            int sendChunk = (rank - step + 1 + worldSize) % worldSize;
+            int receiveChunk = (rank - step + worldSize) % worldSize;
+            exchange(transport, data, offsets, sendChunk, receiveChunk, send, receive);
+            int from = offsets[receiveChunk];
+            receive.asFloatBuffer().get(data, from, offsets[receiveChunk + 1] - from);
+        }
+    }
+
+    /**
+     * Sets the data of all processes to the data of the process with rank 0, by passing it along
+     * the ring.
+     *
+     * @param transport the transport to the other processes
+     * @param data the data to send from rank 0, or to overwrite on the other ranks
+     * @throws IOException if the data cannot be sent or received
+     */
+    static void broadcast(Transport transport, float[] data) throws IOException {
+        int rank = transport.getRank();
+        ByteBuffer buf = ByteBuffer.allocate(data.length * 4);
+        if (rank == 0) {
+            buf.asFloatBuffer().put(data);
+            transport.send(buf);
+            return;
+        }
+        transport.receive(buf);
+        buf.flip();
+        buf.asFloatBuffer().get(data);
+        if (rank + 1 < transport.getWorldSize()) {
+            transport.send(buf);
+        }
+    }
+
+    private static void exchange(
+            Transport transport,
+            float[] data,
+            int[] offsets,
+            int sendChunk,
+            int receiveChunk,
+            ByteBuffer send,
+            ByteBuffer receive)
+            throws IOException {
+        send.clear();
+        int sendFrom = offsets[sendChunk];
+        int sendLength = offsets[sendChunk + 1] - sendFrom;
+        send.asFloatBuffer().put(data, sendFrom, sendLength);
+        send.limit(sendLength * 4);
+
+        receive.clear();
+        receive.limit((offsets[receiveChunk + 1] - offsets[receiveChunk]) * 4);
+        transport.exchange(send, receive);
+        receive.flip();
+    }
+
+    private static float[] toFloatArray(NDArray array) {
+        if (array.getDataType() == DataType.FLOAT32) {
+            return array.toFloatArray();
+        }
+        try (NDArray converted = array.toType(DataType.FLOAT32, true)) {
+            return converted.toFloatArray();
+        }
+    }
+
+    private static void set(NDArray array, float[] data) {
+        if (array.getDataType() == DataType.FLOAT32) {
+            array.set(FloatBuffer.wrap(data));
+            return;
+        }
+        try (NDManager manager = array.getManager().newSubManager(array.getDevice())) {
+            manager.create(data, array.getShape()).toType(array.getDataType(), false).copyTo(array);
+        }
+    }
+}
@@ -14,12 +14,37 @@ package ai.djl.training;
 
 import ai.djl.Device;
 import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDArrays;
+import ai.djl.ndarray.NDList;
+import ai.djl.ndarray.types.DataType;
+import ai.djl.ndarray.types.Shape;
 import ai.djl.training.optimizer.Optimizer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
-/** {@code LocalParameterServer} is an implementation of the {@code ParameterServer} interface. */
+/**
+ * {@code LocalParameterServer} is an implementation of the {@code ParameterServer} interface.
+ *
+ * <p>When all parameters are updated together, the gradients of parameters with the same data type
+ * are packed into buckets of at most {@code bucketSize} bytes. The gradients of a bucket are
+ * reduced across the devices with a tree pattern as one contiguous array. The buckets are reduced
+ * in background threads while the optimizer updates the parameters of the buckets that are already
+ * reduced. The default bucket size can be set with the {@code ai.djl.training.gradient_bucket_size}
+ * system property.
+ */
 public class LocalParameterServer implements ParameterServer {
 
+    private static final long DEFAULT_BUCKET_SIZE = 25L * 1024 * 1024;
+
     private Optimizer optimizer;
+    private long bucketSize;
+    private ExecutorService executor;
 
     /**
      * Create a new instance of {@code LocalParameterServer} for the given optimizer.
@@ -27,7 +52,18 @@ public class LocalParameterServer implements ParameterServer {
      * @param optimizer an optimizer
      */
     public LocalParameterServer(Optimizer optimizer) {
+        this(optimizer, Long.getLong("ai.djl.training.gradient_bucket_size", DEFAULT_BUCKET_SIZE));
+    }
+
+    /**
+     * Create a new instance of {@code LocalParameterServer} for the given optimizer.
+     *
+     * @param optimizer an optimizer
+     * @param bucketSize the maximum size in bytes of the gradients that are reduced together
+     */
+    public LocalParameterServer(Optimizer optimizer, long bucketSize) {
         this.optimizer = optimizer;
+        this.bucketSize = bucketSize;
     }
 
     /** {@inheritDoc} */
@@ -44,6 +80,7 @@ public class LocalParameterServer implements ParameterServer {
                 grads[0].addi(gradCopy);
             }
         }
+        reduceAcrossProcesses(grads[0]);
         // update weights on different devices with reduced gradient
         // use duplicate because after the first optimizer.update
         // PyTorch optimizer will zero grads[0]
@@ -61,7 +98,261 @@ public class LocalParameterServer implements ParameterServer {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The parameters on each device are passed to the {@link Optimizer#update(String[],
+     * NDArray[], NDArray[])} in buckets.
+     */
+    @Override
+    public void update(String[] parameterIds, NDArray[][] params) {
+        if (parameterIds.length == 0) {
+            return;
+        }
+        int numDevices = params[0].length;
+        boolean distributed = isDistributed();
+        List<Bucket> buckets =
+                createBuckets(
+                        parameterIds,
+                        params,
+                        numDevices > 1 || distributed ? bucketSize : Long.MAX_VALUE);
+        if (numDevices == 1 && !distributed) {
+            for (Bucket bucket : buckets) {
+                try {
+                    bucket.reduce();
+                    bucket.update();
+                } finally {
+                    bucket.close();
+                }
+            }
+            return;
+        }
+
+        List<Future<?>> reductions = new ArrayList<>(buckets.size());
+        synchronized (this) {
+            if (executor == null) {
+                executor =
+                        Executors.newFixedThreadPool(
+                                numDevices,
+                                r -> {
+                                    Thread thread = new Thread(r, "gradient-reduction");
+                                    thread.setDaemon(true);
+                                    return thread;
+                                });
+            }
+            for (Bucket bucket : buckets) {
+                reductions.add(executor.submit(bucket::reduce));
+            }
+        }
+        try {
+            for (int i = 0; i < buckets.size(); ++i) {
+                get(reductions.get(i));
+                Bucket bucket = buckets.get(i);
+                // all processes must reduce the buckets in the same order
+                reduceAcrossProcesses(bucket.flat[0]);
+                bucket.broadcast();
+                bucket.update();
+            }
+        } finally {
+            boolean interrupted = false;
+            for (int i = 0; i < buckets.size(); ++i) {
+                // the reduction may still use the arrays if an earlier bucket failed
+                interrupted |= awaitUninterruptibly(reductions.get(i));
+                buckets.get(i).close();
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Returns whether the gradients are also reduced with other processes.
+     *
+     * @return {@code true} if {@link #reduceAcrossProcesses(NDArray)} is implemented
+     */
+    protected boolean isDistributed() {
+        return false;
+    }
+
+    /**
+     * Sums the gradients with the same gradients of the other processes, after they are summed
+     * across the devices of this process.
+     *
+     * <p>Every process calls this method for the same gradients in the same order. The default
+     * implementation does nothing.
+     *
+     * @param gradients the gradients to sum in place
+     */
+    protected void reduceAcrossProcesses(NDArray gradients) {}
+
     /** {@inheritDoc} */
     @Override
-    public void close() {}
+    public synchronized void close() {
+        if (executor != null) {
+            executor.shutdown();
+            executor = null;
+        }
+    }
+
+    private List<Bucket> createBuckets(String[] parameterIds, NDArray[][] params, long maxSize) {
+        List<Bucket> buckets = new ArrayList<>();
+        Map<DataType, Bucket> open = new LinkedHashMap<>();
+        for (int i = 0; i < parameterIds.length; ++i) {
+            NDArray param = params[i][0];
+            DataType dataType = param.getDataType();
+            long size = param.size() * dataType.getNumOfBytes();
+            Bucket bucket = open.get(dataType);
+            if (bucket == null || (bucket.size > 0 && bucket.size + size > maxSize)) {
+                bucket = new Bucket();
+                buckets.add(bucket);
+                open.put(dataType, bucket);
+            }
+            bucket.add(parameterIds[i], params[i], size);
+        }
+        return buckets;
+    }
+
+    private static void get(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Gradient reduction interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("Failed to reduce gradients", cause);
+        }
+    }
+
+    private static boolean awaitUninterruptibly(Future<?> future) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                future.get();
+                return interrupted;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            } catch (ExecutionException ignore) {
+                // the failure is reported by the first wait on the future
+                return interrupted;
+            }
+        }
+    }
+
+    /** The parameters of the same data type whose gradients are reduced together. */
+    private final class Bucket implements AutoCloseable {
+
+        List<String> parameterIds = new ArrayList<>();
+        List<NDArray[]> params = new ArrayList<>();
+        long size;
+        NDArray[][] grads;
+        NDArray[] flat;
+        List<NDArray> temporaries = new ArrayList<>();
+
+        void add(String parameterId, NDArray[] param, long paramSize) {
+            parameterIds.add(parameterId);
+            params.add(param);
+            size += paramSize;
+        }
+
+        void reduce() {
+            int numParams = params.size();
+            int numDevices = params.get(0).length;
+            grads = new NDArray[numDevices][numParams];
+            for (int i = 0; i < numParams; ++i) {
+                for (int d = 0; d < numDevices; ++d) {
+                    grads[d][i] = params.get(i)[d].getGradient();
+                    temporaries.add(grads[d][i]);
+                }
+            }
+            if (numDevices == 1 && !isDistributed()) {
+                return;
+            }
+
+            // packs the gradients on each device into one array
+            flat = new NDArray[numDevices];
+            for (int d = 0; d < numDevices; ++d) {
+                NDList list = new NDList(numParams);
+                for (NDArray grad : grads[d]) {
+                    NDArray array = grad.reshape(-1);
+                    temporaries.add(array);
+                    list.add(array);
+                }
+                if (numParams == 1) {
+                    flat[d] = list.get(0);
+                } else {
+                    flat[d] = NDArrays.concat(list);
+                    temporaries.add(flat[d]);
+                }
+            }
+
+            // reduces to the first device in a tree
+            for (int stride = 1; stride < numDevices; stride *= 2) {
+                for (int d = 0; d + stride < numDevices; d += 2 * stride) {
+                    try (NDArray copy = flat[d + stride].toDevice(flat[d].getDevice(), true)) {
+                        flat[d].addi(copy);
+                    }
+                }
+            }
+        }
+
+        void broadcast() {
+            int numParams = params.size();
+            int numDevices = flat.length;
+
+            // copies the sum back along the tree
+            int stride = 1;
+            while (stride < numDevices) {
+                stride *= 2;
+            }
+            while (stride > 1) {
+                stride /= 2;
+                for (int d = 0; d + stride < numDevices; d += 2 * stride) {
+                    Device device = params.get(0)[d + stride].getDevice();
+                    flat[d + stride] = flat[d].toDevice(device, true);
+                    temporaries.add(flat[d + stride]);
+                }
+            }
+
+            long[] indices = new long[numParams - 1];
+            long offset = 0;
+            for (int i = 0; i < indices.length; ++i) {
+                offset += params.get(i)[0].size();
+                indices[i] = offset;
+            }
+            for (int d = 0; d < numDevices; ++d) {
+                NDList parts = numParams == 1 ? new NDList(flat[d]) : flat[d].split(indices);
+                for (int i = 0; i < numParams; ++i) {
+                    Shape shape = params.get(i)[d].getShape();
+                    NDArray part = parts.get(i);
+                    grads[d][i] = part.reshape(shape);
+                    temporaries.add(grads[d][i]);
+                    if (part != flat[d]) {
+                        temporaries.add(part);
+                    }
+                }
+            }
+        }
+
+        void update() {
+            String[] ids = parameterIds.toArray(new String[0]);
+            for (int d = 0; d < grads.length; ++d) {
+                NDArray[] weights = new NDArray[ids.length];
+                for (int i = 0; i < weights.length; ++i) {
+                    weights[i] = params.get(i)[d];
+                }
+                optimizer.update(ids, weights, grads[d]);
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void close() {
+            temporaries.forEach(NDArray::close);
+        }
+    }
 }
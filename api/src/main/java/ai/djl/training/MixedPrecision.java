@@ -0,0 +1,310 @@
+/*
+ * Copyright 2021 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.training;
+
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.index.NDIndex;
+import ai.djl.ndarray.types.DataType;
+import ai.djl.nn.Parameter;
+import ai.djl.nn.ParameterType;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@code MixedPrecision} configures a {@link Trainer} to compute the forward and backward passes in
+ * a lower precision data type, while the parameters are kept and updated in {@link
+ * DataType#FLOAT32}.
+ *
+ * <p>During training, the inputs and the weights and biases are cast to the compute data type, and
+ * the outputs are cast back to {@link DataType#FLOAT32} for the loss. Normalization parameters,
+ * such as gamma, beta and running statistics, are not cast. The gradients flow through the casts,
+ * so the optimizer updates the {@link DataType#FLOAT32} parameters.
+ *
+ * <p>To keep small gradients from underflowing, the loss is multiplied by a loss scale before the
+ * backward pass, and the gradients are divided by it before the update. If the gradients contain
+ * infinite or NaN values, the update is skipped and the loss scale is reduced. The loss scale is
+ * increased again after a number of steps without overflow.
+ */
+public class MixedPrecision {
+
+    private static final Logger logger = LoggerFactory.getLogger(MixedPrecision.class);
+
+    private DataType computeDataType;
+    private float scale;
+    private float growthFactor;
+    private float backoffFactor;
+    private int growthInterval;
+    private int goodSteps;
+    private int skippedSteps;
+
+    MixedPrecision(Builder builder) {
+        computeDataType = builder.computeDataType;
+        scale = builder.initialScale;
+        growthFactor = builder.growthFactor;
+        backoffFactor = builder.backoffFactor;
+        growthInterval = builder.growthInterval;
+    }
+
+    /**
+     * Creates a builder to build a {@code MixedPrecision}.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the data type of the forward and backward computation.
+     *
+     * @return the data type of the forward and backward computation
+     */
+    public DataType getComputeDataType() {
+        return computeDataType;
+    }
+
+    /**
+     * Returns the current loss scale.
+     *
+     * @return the current loss scale
+     */
+    public synchronized float getScale() {
+        return scale;
+    }
+
+    /**
+     * Returns the number of steps that were skipped because the gradients overflowed.
+     *
+     * @return the number of skipped steps
+     */
+    public synchronized int getSkippedSteps() {
+        return skippedSteps;
+    }
+
+    /**
+     * Returns whether a parameter is cast to the compute data type.
+     *
+     * @param parameter the parameter
+     * @param array the value of the parameter
+     * @return {@code true} if the parameter is cast to the compute data type
+     */
+    public boolean isCast(Parameter parameter, NDArray array) {
+        ParameterType type = parameter.getType();
+        return (type == ParameterType.WEIGHT || type == ParameterType.BIAS)
+                && array.getDataType() == DataType.FLOAT32;
+    }
+
+    /**
+     * Casts an array to the compute data type if it is a {@link DataType#FLOAT32} array.
+     *
+     * @param array the array to cast
+     * @return the cast array, or the array itself
+     */
+    public NDArray toComputeType(NDArray array) {
+        if (array.getDataType() != DataType.FLOAT32) {
+            return array;
+        }
+        return array.toType(computeDataType, false);
+    }
+
+    /**
+     * Casts an array of the compute data type back to {@link DataType#FLOAT32}.
+     *
+     * @param array the array to cast
+     * @return the cast array, or the array itself
+     */
+    public NDArray toFloat32(NDArray array) {
+        if (array.getDataType() != computeDataType) {
+            return array;
+        }
+        return array.toType(DataType.FLOAT32, false);
+    }
+
+    /**
+     * Multiplies the loss by the loss scale.
+     *
+     * @param loss the loss
+     * @return the scaled loss
+     */
+    public NDArray scaleLoss(NDArray loss) {
+        return loss.mul(getScale());
+    }
+
+    /**
+     * Divides the gradients by the loss scale, and updates the loss scale.
+     *
+     * <p>If any gradient is infinite or NaN, the gradients are set to 0 and the loss scale is
+     * reduced instead.
+     *
+     * @param gradients the gradients of the parameters, which are updated in place
+     * @return {@code false} if the gradients overflowed and the update must be skipped
+     */
+    public boolean unscaleGradients(List<NDArray> gradients) {
+        return unscaleGradients(gradients, null);
+    }
+
+    /**
+     * Divides the gradients by the loss scale, and updates the loss scale, skipping the step on all
+     * processes if the gradients of any process overflowed.
+     *
+     * <p>If any gradient of any process is infinite or NaN, the gradients are set to 0 and the loss
+     * scale is reduced instead. All processes call this method for the same steps, see {@link
+     * ParameterServer#isFiniteOnAllProcesses(boolean)}.
+     *
+     * @param gradients the gradients of the parameters, which are updated in place
+     * @param parameterServer the parameter server that agrees on the overflow with the other
+     *     processes, or {@code null} for a single process
+     * @return {@code false} if the gradients overflowed and the update must be skipped
+     */
+    public synchronized boolean unscaleGradients(
+            List<NDArray> gradients, ParameterServer parameterServer) {
+        boolean finite = isFinite(gradients);
+        if (parameterServer != null) {
+            finite = parameterServer.isFiniteOnAllProcesses(finite);
+        }
+
+        if (!finite) {
+            for (NDArray gradient : gradients) {
+                gradient.set(new NDIndex(), 0);
+            }
+            scale *= backoffFactor;
+            goodSteps = 0;
+            skippedSteps++;
+            logger.debug("Gradients overflowed, reduce loss scale to {}.", scale);
+            return false;
+        }
+        if (gradients.isEmpty()) {
+            return true;
+        }
+
+        for (NDArray gradient : gradients) {
+            gradient.divi(scale);
+        }
+        if (++goodSteps >= growthInterval) {
+            scale *= growthFactor;
+            goodSteps = 0;
+        }
+        return true;
+    }
+
+    private static boolean isFinite(List<NDArray> gradients) {
+        if (gradients.isEmpty()) {
+            return true;
+        }
+        // sums all gradients on one device to read them with a single copy
+        NDArray total = null;
+        for (NDArray gradient : gradients) {
+            try (NDArray sum = gradient.sum();
+                    NDArray sum32 = sum.toType(DataType.FLOAT32, true)) {
+                if (total == null) {
+                    total = sum32.duplicate();
+                    continue;
+                }
+                try (NDArray copy = sum32.toDevice(total.getDevice(), true)) {
+                    total.addi(copy);
+                }
+            }
+        }
+        float value = total.getFloat();
+        total.close();
+        return !Float.isNaN(value) && !Float.isInfinite(value);
+    }
+
+    /** The Builder to construct a {@link MixedPrecision} object. */
+    public static final class Builder {
+
+        DataType computeDataType = DataType.FLOAT16;
+        float initialScale = 65536f;
+        float growthFactor = 2f;
+        float backoffFactor = 0.5f;
+        int growthInterval = 2000;
+
+        Builder() {}
+
+        /**
+         * Sets the data type of the forward and backward computation, default is {@link
+         * DataType#FLOAT16}.
+         *
+         * @param computeDataType the data type of the forward and backward computation
+         * @return this {@code Builder}
+         */
+        public Builder optComputeDataType(DataType computeDataType) {
+            this.computeDataType = computeDataType;
+            return this;
+        }
+
+        /**
+         * Sets the initial loss scale, default is 65536.
+         *
+         * @param initialScale the initial loss scale
+         * @return this {@code Builder}
+         */
+        public Builder optInitialScale(float initialScale) {
+            this.initialScale = initialScale;
+            return this;
+        }
+
+        /**
+         * Sets the factor to multiply the loss scale with after {@code growthInterval} steps
+         * without overflow, default is 2.
+         *
+         * @param growthFactor the factor to increase the loss scale
+         * @return this {@code Builder}
+         */
+        public Builder optGrowthFactor(float growthFactor) {
+            this.growthFactor = growthFactor;
+            return this;
+        }
+
+        /**
+         * Sets the factor to multiply the loss scale with when the gradients overflow, default is
+         * 0.5.
+         *
+         * @param backoffFactor the factor to reduce the loss scale
+         * @return this {@code Builder}
+         */
+        public Builder optBackoffFactor(float backoffFactor) {
+            this.backoffFactor = backoffFactor;
+            return this;
+        }
+
+        /**
+         * Sets the number of steps without overflow after which the loss scale is increased,
+         * default is 2000.
+         *
+         * @param growthInterval the number of steps without overflow to increase the loss scale
+         * @return this {@code Builder}
+         */
+        public Builder optGrowthInterval(int growthInterval) {
+            this.growthInterval = growthInterval;
+            return this;
+        }
+
+        /**
+         * Builds a {@link MixedPrecision} object.
+         *
+         * @return the {@link MixedPrecision} object
+         */
+        public MixedPrecision build() {
+            if (computeDataType.getFormat() != DataType.Format.FLOATING) {
+                throw new IllegalArgumentException(
+                        "The compute data type must be a floating point type.");
+            }
+            if (initialScale <= 0 || growthFactor < 1 || backoffFactor <= 0 || backoffFactor > 1) {
+                throw new IllegalArgumentException("Invalid loss scaling factors.");
+            }
+            return new MixedPrecision(this);
+        }
+    }
+}
@@ -47,6 +47,35 @@ public interface ParameterServer extends AutoCloseable {
      */
     void update(String parameterId, NDArray[] grads, NDArray[] params);
 
+    /**
+     * Updates the parameters of multiple keys from Parameter Server.
+     *
+     * <p>Parameter servers that support it update the parameters on the same device together, the
+     * default implementation updates them one key at a time.
+     *
+     * @param parameterIds the keys to identify the parameters
+     * @param params the parameter NDArrays of each key in different devices to be updated
+     */
+    default void update(String[] parameterIds, NDArray[][] params) {
+        for (int i = 0; i < parameterIds.length; ++i) {
+            update(parameterIds[i], params[i]);
+        }
+    }
+
+    /**
+     * Returns whether the gradients of all processes are finite, given whether the gradients of
+     * this process are.
+     *
+     * <p>Every process calls this method for the same steps before the update, so that all
+     * processes skip the same steps. The default implementation only knows this process.
+     *
+     * @param finite whether the gradients of this process are finite
+     * @return {@code true} if the gradients of all processes are finite
+     */
+    default boolean isFiniteOnAllProcesses(boolean finite) {
+        return finite;
+    }
+
     /** {@inheritDoc} */
     @Override
     void close();
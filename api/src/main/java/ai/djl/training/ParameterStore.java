@@ -17,6 +17,7 @@ import ai.djl.Device;
 import ai.djl.ndarray.NDArray;
 import ai.djl.ndarray.NDManager;
 import ai.djl.nn.Parameter;
+import ai.djl.util.PairList;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -33,6 +34,8 @@ public class ParameterStore {
     private Map<Device, Integer> deviceMap;
     private boolean copy;
     private ParameterServer parameterServer;
+    private MixedPrecision mixedPrecision;
+    private NDManager castManager;
 
     /**
      * Constructs an empty {@code ParameterStore}.
@@ -64,15 +67,63 @@ public class ParameterStore {
         }
     }
 
-    /** Updates all the mirrored parameters. */
+    /**
+     * Sets the {@link MixedPrecision} to cast the parameters for training and to unscale the
+     * gradients before the update.
+     *
+     * @param mixedPrecision the {@link MixedPrecision}
+     */
+    public void setMixedPrecision(MixedPrecision mixedPrecision) {
+        this.mixedPrecision = mixedPrecision;
+    }
+
+    /**
+     * Updates all the mirrored parameters.
+     *
+     * <p>With {@link MixedPrecision}, the update is skipped if the gradients of any process
+     * overflowed.
+     */
     public void updateAllParameters() {
+        List<String> parameterIds = new ArrayList<>(parameterMap.size());
+        List<NDArray[]> params = new ArrayList<>(parameterMap.size());
         for (Map.Entry<String, ParameterData> entry : parameterMap.entrySet()) {
-            String parameterId = entry.getKey();
             ParameterData data = entry.getValue();
             if (data.requireGradient()) {
-                NDArray[] params = data.toArray();
-                parameterServer.update(parameterId, params);
+                parameterIds.add(entry.getKey());
+                params.add(data.toArray());
+            }
+        }
+        try {
+            if (mixedPrecision != null && !unscaleGradients(params)) {
+                return;
+            }
+            parameterServer.update(
+                    parameterIds.toArray(new String[0]), params.toArray(new NDArray[0][]));
+        } finally {
+            // the parameters cast in this step are no longer needed by the backward pass
+            NDManager casts;
+            synchronized (this) {
+                casts = castManager;
+                castManager = null;
+            }
+            if (casts != null) {
+                casts.close();
+            }
+        }
+    }
+
+    private boolean unscaleGradients(List<NDArray[]> params) {
+        List<NDArray> gradients = new ArrayList<>();
+        try {
+            for (NDArray[] arrays : params) {
+                for (NDArray array : arrays) {
+                    gradients.add(array.getGradient());
+                }
             }
+            // all processes agree on the overflow before any of them reduces the gradients
+            return mixedPrecision.unscaleGradients(gradients, parameterServer);
+        } finally {
+            gradients.forEach(NDArray::close);
         }
     }
 
@@ -131,7 +182,41 @@ public class ParameterStore {
             }
         }
 
-        return data.get(index);
+        NDArray array = data.get(index);
+        if (training && mixedPrecision != null && mixedPrecision.isCast(parameter, array)) {
+            // the cast is part of the graph, so the gradient flows to the FLOAT32 parameter
+            NDArray cast = mixedPrecision.toComputeType(array);
+            cast.attach(getCastManager());
+            return cast;
+        }
+        return array;
+    }
+
+    private synchronized NDManager getCastManager() {
+        if (castManager == null) {
+            castManager = manager.newSubManager();
+        }
+        return castManager;
+    }
+
+    /**
+     * Returns the values on a device of the parameters that require gradients.
+     *
+     * @param device the device to get the values from
+     * @return the parameters and their values on the device
+     */
+    public PairList<Parameter, NDArray> getTrainableValues(Device device) {
+        PairList<Parameter, NDArray> values = new PairList<>();
+        Integer index = deviceMap.get(device);
+        if (index == null) {
+            return values;
+        }
+        for (ParameterData data : parameterMap.values()) {
+            if (data.requireGradient() && !data.isEmpty()) {
+                values.add(data.parameter, data.get(index));
+            }
+        }
+        return values;
     }
 
     /**
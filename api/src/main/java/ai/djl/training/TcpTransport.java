@@ -0,0 +1,314 @@
+/*
+ * Copyright 2021 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.training;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link Transport} over TCP sockets.
+ *
+ * <p>The process with rank 0 listens on the master address. The other processes listen on a random
+ * port and register it with the master, which then sends the addresses of all processes to every
+ * process. Each process connects to the next rank, and accepts the connection from the previous
+ * rank. The connections are made when the transport is first used.
+ */
+public class TcpTransport implements Transport {
+
+    private static final Logger logger = LoggerFactory.getLogger(TcpTransport.class);
+
+    private static final int DEFAULT_TIMEOUT = 120_000;
+    private static final long RETRY_INTERVAL = 200;
+
+    private int rank;
+    private int worldSize;
+    private InetSocketAddress masterAddress;
+    private int timeout;
+    private SocketChannel next;
+    private SocketChannel previous;
+    private ExecutorService sender;
+
+    /**
+     * Constructs a {@code TcpTransport} that waits up to 2 minutes for the other processes.
+     *
+     * @param rank the rank of this process, from 0 to {@code worldSize - 1}
+     * @param worldSize the number of processes
+     * @param masterAddress the host and port of the process with rank 0, for example {@code
+     *     10.0.0.1:29500}
+     */
+    public TcpTransport(int rank, int worldSize, String masterAddress) {
+        this(rank, worldSize, masterAddress, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * Constructs a {@code TcpTransport}.
+     *
+     * @param rank the rank of this process, from 0 to {@code worldSize - 1}
+     * @param worldSize the number of processes
+     * @param masterAddress the host and port of the process with rank 0, for example {@code
+     *     10.0.0.1:29500}
+     * @param timeout the time in milliseconds to wait for the other processes to connect
+     */
+    public TcpTransport(int rank, int worldSize, String masterAddress, int timeout) {
+        if (worldSize < 1 || rank < 0 || rank >= worldSize) {
+            throw new IllegalArgumentException(
+                    "Invalid rank " + rank + " for world size " + worldSize);
+        }
+        int pos = masterAddress.lastIndexOf(':');
+        if (pos < 0) {
+            throw new IllegalArgumentException("Invalid master address: " + masterAddress);
+        }
+        this.rank = rank;
+        this.worldSize = worldSize;
+        this.masterAddress =
+                new InetSocketAddress(
+                        masterAddress.substring(0, pos),
+                        Integer.parseInt(masterAddress.substring(pos + 1)));
+        this.timeout = timeout;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getRank() {
+        return rank;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getWorldSize() {
+        return worldSize;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void send(ByteBuffer data) throws IOException {
+        connect();
+        writeFully(next, data);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void receive(ByteBuffer data) throws IOException {
+        connect();
+        readFully(previous, data);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void exchange(ByteBuffer send, ByteBuffer receive) throws IOException {
+        connect();
+        Future<?> future =
+                sender.submit(
+                        () -> {
+                            writeFully(next, send);
+                            return null;
+                        });
+        readFully(previous, receive);
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while sending", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException("Failed to send", cause);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void close() {
+        if (sender != null) {
+            sender.shutdownNow();
+        }
+        closeQuietly(next);
+        closeQuietly(previous);
+        next = null;
+        previous = null;
+    }
+
+    private synchronized void connect() throws IOException {
+        if (next != null) {
+            return;
+        }
+        if (worldSize == 1) {
+            throw new IllegalStateException("No other process to connect to.");
+        }
+
+        try (ServerSocketChannel server = ServerSocketChannel.open()) {
+            server.socket().setSoTimeout(timeout);
+            server.bind(new InetSocketAddress(rank == 0 ? masterAddress.getPort() : 0));
+            InetSocketAddress[] addresses = rendezvous(server);
+
+            next = connect(addresses[(rank + 1) % worldSize]);
+            next.socket().setTcpNoDelay(true);
+            writeFully(next, (ByteBuffer) ByteBuffer.allocate(4).putInt(rank).flip());
+
+            previous = accept(server);
+            previous.socket().setTcpNoDelay(true);
+            ByteBuffer buf = ByteBuffer.allocate(4);
+            readFully(previous, buf);
+            int previousRank = buf.getInt(0);
+            if (previousRank != (rank + worldSize - 1) % worldSize) {
+                throw new IOException("Unexpected connection from rank " + previousRank);
+            }
+        } catch (IOException e) {
+            close();
+            throw e;
+        }
+        sender =
+                Executors.newSingleThreadExecutor(
+                        r -> {
+                            Thread thread = new Thread(r, "transport-sender-" + rank);
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        logger.info("Rank {} of {} connected.", rank, worldSize);
+    }
+
+    /**
+     * Exchanges the listening addresses of all processes through the master.
+     *
+     * @param server the server socket of this process
+     * @return the address of each rank
+     * @throws IOException if the master cannot be reached
+     */
+    private InetSocketAddress[] rendezvous(ServerSocketChannel server) throws IOException {
+        InetSocketAddress[] addresses = new InetSocketAddress[worldSize];
+        addresses[0] = masterAddress;
+        if (rank != 0) {
+            try (SocketChannel master = connect(masterAddress)) {
+                ByteBuffer buf = ByteBuffer.allocate(8);
+                buf.putInt(rank).putInt(server.socket().getLocalPort()).flip();
+                writeFully(master, buf);
+                for (int i = 1; i < worldSize; ++i) {
+                    addresses[i] = readAddress(master);
+                }
+            }
+            return addresses;
+        }
+
+        SocketChannel[] workers = new SocketChannel[worldSize];
+        try {
+            for (int i = 1; i < worldSize; ++i) {
+                SocketChannel worker = accept(server);
+                ByteBuffer buf = ByteBuffer.allocate(8);
+                readFully(worker, buf);
+                int workerRank = buf.getInt(0);
+                if (workerRank <= 0 || workerRank >= worldSize || workers[workerRank] != null) {
+                    worker.close();
+                    throw new IOException("Invalid rank registered: " + workerRank);
+                }
+                workers[workerRank] = worker;
+                InetSocketAddress remote = (InetSocketAddress) worker.getRemoteAddress();
+                addresses[workerRank] = new InetSocketAddress(remote.getAddress(), buf.getInt(4));
+            }
+            for (int i = 1; i < worldSize; ++i) {
+                for (int j = 1; j < worldSize; ++j) {
+                    writeAddress(workers[i], addresses[j]);
+                }
+            }
+        } finally {
+            for (SocketChannel worker : workers) {
+                closeQuietly(worker);
+            }
+        }
+        return addresses;
+    }
+
+    private SocketChannel connect(InetSocketAddress address) throws IOException {
+        long deadline = System.currentTimeMillis() + timeout;
+        while (true) {
+            try {
+                return SocketChannel.open(address);
+            } catch (ConnectException e) {
+                // the other process may not be listening yet
+                if (System.currentTimeMillis() > deadline) {
+                    throw e;
+                }
+                try {
+                    Thread.sleep(RETRY_INTERVAL);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while connecting to " + address, ie);
+                }
+            }
+        }
+    }
+
+    private static SocketChannel accept(ServerSocketChannel server) throws IOException {
+        try {
+            // accepting through the socket applies the timeout
+            return server.socket().accept().getChannel();
+        } catch (SocketTimeoutException e) {
+            throw new IOException("Timed out waiting for the other processes", e);
+        }
+    }
+
+    private static void writeAddress(SocketChannel channel, InetSocketAddress address)
+            throws IOException {
+        byte[] host = address.getAddress().getHostAddress().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buf = ByteBuffer.allocate(8 + host.length);
+        buf.putInt(host.length).put(host).putInt(address.getPort()).flip();
+        writeFully(channel, buf);
+    }
+
+    private static InetSocketAddress readAddress(SocketChannel channel) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(4);
+        readFully(channel, buf);
+        byte[] host = new byte[buf.getInt(0)];
+        readFully(channel, ByteBuffer.wrap(host));
+        buf.clear();
+        readFully(channel, buf);
+        return new InetSocketAddress(new String(host, StandardCharsets.UTF_8), buf.getInt(0));
+    }
+
+    private static void writeFully(SocketChannel channel, ByteBuffer data) throws IOException {
+        while (data.hasRemaining()) {
+            channel.write(data);
+        }
+    }
+
+    private static void readFully(SocketChannel channel, ByteBuffer data) throws IOException {
+        while (data.hasRemaining()) {
+            if (channel.read(data) < 0) {
+                throw new IOException("Connection closed by the other process");
+            }
+        }
+    }
+
+    private static void closeQuietly(SocketChannel channel) {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ignore) {
+                // ignore
+            }
+        }
+    }
+}
@@ -20,6 +20,7 @@ import ai.djl.ndarray.NDArrays;
 import ai.djl.ndarray.NDList;
 import ai.djl.ndarray.NDManager;
 import ai.djl.ndarray.types.Shape;
+import ai.djl.nn.CheckpointBlock;
 import ai.djl.nn.Parameter;
 import ai.djl.training.dataset.Batch;
 import ai.djl.training.dataset.Dataset;
@@ -28,6 +29,7 @@ import ai.djl.training.listener.EpochTrainingListener;
 import ai.djl.training.listener.EvaluatorTrainingListener;
 import ai.djl.training.listener.TrainingListener;
 import ai.djl.training.loss.Loss;
+import ai.djl.training.optimizer.Optimizer;
 import ai.djl.translate.TranslateException;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -67,6 +69,8 @@ public class Trainer implements AutoCloseable {
     private List<TrainingListener> listeners;
     private Device[] devices;
     private ParameterStore parameterStore;
+    private ParameterServer parameterServer;
+    private MixedPrecision mixedPrecision;
     private List<Evaluator> evaluators;
     private Loss loss;
     private DataManager dataManager;
@@ -91,11 +95,18 @@ public class Trainer implements AutoCloseable {
         evaluators = new ArrayList<>(trainingConfig.getEvaluators());
         evaluators.add(loss); // track loss as an evaluator by default
 
-        ParameterServer parameterServer =
-                manager.getEngine().newParameterServer(trainingConfig.getOptimizer());
+        Optimizer optimizer = trainingConfig.getOptimizer();
+        Transport transport = trainingConfig.getTransport();
+        if (transport == null) {
+            parameterServer = manager.getEngine().newParameterServer(optimizer);
+        } else {
+            parameterServer = new DistributedParameterServer(optimizer, transport);
+        }
 
         parameterStore = new ParameterStore(manager, false);
         parameterStore.setParameterServer(parameterServer, devices);
+        mixedPrecision = trainingConfig.getMixedPrecision();
+        parameterStore.setMixedPrecision(mixedPrecision);
 
         listeners = trainingConfig.getTrainingListeners();
         notifyListeners(listener -> listener.onTrainingBegin(this));
@@ -137,7 +148,8 @@ public class Trainer implements AutoCloseable {
      * @return a new instance of {@link GradientCollector}
      */
     public GradientCollector newGradientCollector() {
-        return manager.getEngine().newGradientCollector();
+        return new TrainerGradientCollector(
+                manager.getEngine().newGradientCollector(), mixedPrecision);
     }
 
     /**
@@ -149,7 +161,11 @@ public class Trainer implements AutoCloseable {
     public NDList forward(NDList input) {
         long begin = System.nanoTime();
         try {
-            return model.getBlock().forward(parameterStore, input, true);
+            if (mixedPrecision == null) {
+                return model.getBlock().forward(parameterStore, input, true);
+            }
+            NDList output = model.getBlock().forward(parameterStore, toComputeType(input), true);
+            return toFloat32(output);
         } finally {
             addMetric("forward", begin);
         }
@@ -165,7 +181,12 @@ public class Trainer implements AutoCloseable {
     public NDList forward(NDList data, NDList labels) {
         long begin = System.nanoTime();
         try {
-            return model.getBlock().forward(parameterStore, data, labels, null);
+            if (mixedPrecision == null) {
+                return model.getBlock().forward(parameterStore, data, labels, null);
+            }
+            NDList output =
+                    model.getBlock().forward(parameterStore, toComputeType(data), labels, null);
+            return toFloat32(output);
         } finally {
             addMetric("forward", begin);
         }
@@ -310,9 +331,30 @@ public class Trainer implements AutoCloseable {
         notifyListeners(listener -> listener.onTrainingEnd(this));
 
         parameterStore.sync();
+        parameterServer.close();
         manager.close();
     }
 
+    private NDList toComputeType(NDList list) {
+        NDList ret = new NDList(list.size());
+        for (NDArray array : list) {
+            NDArray cast = mixedPrecision.toComputeType(array);
+            cast.setName(array.getName());
+            ret.add(cast);
+        }
+        return ret;
+    }
+
+    private NDList toFloat32(NDList list) {
+        NDList ret = new NDList(list.size());
+        for (NDArray array : list) {
+            NDArray cast = mixedPrecision.toFloat32(array);
+            cast.setName(array.getName());
+            ret.add(cast);
+        }
+        return ret;
+    }
+
     /**
      * Checks if all gradients are zeros. This prevent users from calling step() without running
      * {@code backward}.
@@ -366,4 +408,37 @@ public class Trainer implements AutoCloseable {
             metrics.addMetric(metricName, System.nanoTime() - begin);
         }
     }
+
+    /**
+     * A {@link GradientCollector} that scales the loss for {@link MixedPrecision} and recomputes
+     * the {@link CheckpointBlock}s.
+     */
+    private static final class TrainerGradientCollector implements GradientCollector {
+
+        private GradientCollector collector;
+        private MixedPrecision mixedPrecision;
+
+        TrainerGradientCollector(GradientCollector collector, MixedPrecision mixedPrecision) {
+            this.collector = collector;
+            this.mixedPrecision = mixedPrecision;
+            CheckpointBlock.beginRecording();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void backward(NDArray target) {
+            if (mixedPrecision != null) {
+                target = mixedPrecision.scaleLoss(target);
+            }
+            collector.backward(target);
+            CheckpointBlock.backward(collector);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void close() {
+            CheckpointBlock.endRecording();
+            collector.close();
+        }
+    }
 }
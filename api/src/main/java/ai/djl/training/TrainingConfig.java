@@ -104,4 +104,22 @@ public interface TrainingConfig {
      * @return a list of {@link TrainingListener}s
      */
     List<TrainingListener> getTrainingListeners();
+
+    /**
+     * Returns the {@link Transport} to the other processes for distributed training.
+     *
+     * @return the {@link Transport}, or {@code null} to train in this process only
+     */
+    default Transport getTransport() {
+        return null;
+    }
+
+    /**
+     * Returns the {@link MixedPrecision} to train in a lower precision data type.
+     *
+     * @return the {@link MixedPrecision}, or {@code null} to train in the data type of the model
+     */
+    default MixedPrecision getMixedPrecision() {
+        return null;
+    }
 }
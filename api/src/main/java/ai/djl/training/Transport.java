@@ -0,0 +1,73 @@
+/*
+ * Copyright 2021 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.training;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * A {@code Transport} connects the processes of a distributed training job in a ring, where each
+ * process sends to the process with the next rank and receives from the process with the previous
+ * rank.
+ *
+ * @see DistributedParameterServer
+ * @see TcpTransport
+ */
+public interface Transport extends AutoCloseable {
+
+    /**
+     * Returns the rank of this process, from 0 to {@code worldSize - 1}.
+     *
+     * @return the rank of this process
+     */
+    int getRank();
+
+    /**
+     * Returns the number of processes.
+     *
+     * @return the number of processes
+     */
+    int getWorldSize();
+
+    /**
+     * Sends the remaining bytes of the buffer to the process with the next rank.
+     *
+     * @param data the data to send
+     * @throws IOException if the data cannot be sent
+     */
+    void send(ByteBuffer data) throws IOException;
+
+    /**
+     * Fills the remaining bytes of the buffer with data from the process with the previous rank.
+     *
+     * @param data the buffer to receive into
+     * @throws IOException if the data cannot be received
+     */
+    void receive(ByteBuffer data) throws IOException;
+
+    /**
+     * Sends to the process with the next rank while receiving from the process with the previous
+     * rank.
+     *
+     * <p>Both must happen at the same time, since all the processes send before they receive.
+     *
+     * @param send the data to send
+     * @param receive the buffer to receive into
+     * @throws IOException if the data cannot be sent or received
+     */
+    void exchange(ByteBuffer send, ByteBuffer receive) throws IOException;
+
+    /** {@inheritDoc} */
+    @Override
+    void close();
+}
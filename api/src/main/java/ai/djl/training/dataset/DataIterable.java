@@ -13,21 +13,25 @@
 package ai.djl.training.dataset;
 
 import ai.djl.Device;
+import ai.djl.ndarray.NDArray;
 import ai.djl.ndarray.NDList;
 import ai.djl.ndarray.NDManager;
 import ai.djl.translate.Batchifier;
 import ai.djl.translate.Pipeline;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -49,12 +53,16 @@ public class DataIterable implements Iterable<Batch>, Iterator<Batch> {
     private Pipeline pipeline;
     private Pipeline targetPipeline;
     private ExecutorService executor;
+    private int preFetchNumber;
+    private boolean parallelLoading;
+    private long prefetchBytes;
     private Device device;
 
     private Iterator<List<Long>> sample;
     // for multithreading
     private Queue<Future<Batch>> queue;
     private AtomicInteger progressCounter;
+    private AtomicLong readyBytes;
     private boolean autoClose;
 
     /**
@@ -82,6 +90,55 @@ public class DataIterable implements Iterable<Batch>, Iterator<Batch> {
             ExecutorService executor,
             int preFetchNumber,
             Device device) {
+        this(
+                dataset,
+                manager,
+                sampler,
+                dataBatchifier,
+                labelBatchifier,
+                pipeline,
+                targetPipeline,
+                executor,
+                preFetchNumber,
+                false,
+                0,
+                device);
+    }
+
+    /**
+     * Creates a new instance of {@code DataIterable} with the given parameters.
+     *
+     * <p>With {@code parallelLoading}, the records of a batch are loaded by separate tasks of the
+     * executor instead of one task per batch. With a positive {@code prefetchBytes}, no more
+     * batches are prefetched while the batches that are ready but not consumed yet hold at least
+     * that many bytes, so that large records do not exhaust the memory.
+     *
+     * @param dataset the dataset to iterate on
+     * @param manager the manager to create the arrays
+     * @param sampler a sampler to sample data with
+     * @param dataBatchifier a batchifier for data
+     * @param labelBatchifier a batchifier for labels
+     * @param pipeline the pipeline of transforms to apply on the data
+     * @param targetPipeline the pipeline of transforms to apply on the labels
+     * @param executor an {@link ExecutorService}
+     * @param preFetchNumber the number of samples to prefetch
+     * @param parallelLoading whether to load the records of a batch in parallel
+     * @param prefetchBytes the maximum size of the prefetched batches in bytes, or 0 for no limit
+     * @param device the {@link Device}
+     */
+    public DataIterable(
+            RandomAccessDataset dataset,
+            NDManager manager,
+            Sampler sampler,
+            Batchifier dataBatchifier,
+            Batchifier labelBatchifier,
+            Pipeline pipeline,
+            Pipeline targetPipeline,
+            ExecutorService executor,
+            int preFetchNumber,
+            boolean parallelLoading,
+            long prefetchBytes,
+            Device device) {
         this.dataset = dataset;
         this.manager = manager.newSubManager();
         this.manager.setName("dataIter");
@@ -90,8 +147,12 @@ public class DataIterable implements Iterable<Batch>, Iterator<Batch> {
         this.pipeline = pipeline;
         this.targetPipeline = targetPipeline;
         this.executor = executor;
+        this.preFetchNumber = preFetchNumber;
+        this.parallelLoading = parallelLoading;
+        this.prefetchBytes = prefetchBytes;
         this.device = device;
         progressCounter = new AtomicInteger(0);
+        readyBytes = new AtomicLong();
         String close = System.getProperty("ai.djl.dataiterator.autoclose", "true");
         autoClose = Boolean.parseBoolean(close);
 
@@ -115,7 +176,7 @@ public class DataIterable implements Iterable<Batch>, Iterator<Batch> {
     @Override
     public boolean hasNext() {
         if (executor != null) {
-            if (queue.isEmpty()) {
+            if (queue.isEmpty() && !sample.hasNext()) {
                 if (autoClose) {
                     manager.close();
                 }
@@ -147,10 +208,14 @@ public class DataIterable implements Iterable<Batch>, Iterator<Batch> {
             }
         } else {
             // multithreading data loading with async fetch
-            preFetch();
+            fillQueue();
             Future<Batch> future = queue.poll();
             try {
-                return future.get();
+                Batch batch = future.get();
+                if (prefetchBytes > 0) {
+                    readyBytes.addAndGet(-sizeOf(batch));
+                }
+                return batch;
             } catch (InterruptedException | ExecutionException e) {
                 logger.error(e.getMessage());
                 throw new IllegalStateException("Data loading failed", e);
@@ -165,15 +230,57 @@ public class DataIterable implements Iterable<Batch>, Iterator<Batch> {
         NDList[] data = new NDList[batchSize];
         NDList[] labels = new NDList[batchSize];
         for (int i = 0; i < batchSize; i++) {
-            Record record = dataset.get(subManager, indices.get(i));
-            data[i] = record.getData();
-            // apply transform
-            if (pipeline != null) {
-                data[i] = pipeline.transform(data[i]);
-            }
+            load(subManager, indices.get(i), data, labels, i);
+        }
+        return batchify(subManager, data, labels, progress);
+    }
 
-            labels[i] = record.getLabels();
+    private Future<Batch> fetchAsync(List<Long> indices, int progress) {
+        NDManager subManager = manager.newSubManager();
+        subManager.setName("dataIter fetch");
+        int batchSize = indices.size();
+        NDList[] data = new NDList[batchSize];
+        NDList[] labels = new NDList[batchSize];
+        CompletableFuture<?>[] records = new CompletableFuture<?>[batchSize];
+        for (int i = 0; i < batchSize; i++) {
+            int pos = i;
+            long index = indices.get(i);
+            records[i] =
+                    CompletableFuture.runAsync(
+                            () -> {
+                                try {
+                                    load(subManager, index, data, labels, pos);
+                                } catch (IOException e) {
+                                    throw new UncheckedIOException(e);
+                                }
+                            },
+                            executor);
         }
+        // batchify in a separate stage rather than blocking a thread of the executor on the
+        // records, which would deadlock a bounded executor
+        return CompletableFuture.allOf(records)
+                .thenApplyAsync(v -> batchify(subManager, data, labels, progress), executor)
+                .whenComplete(
+                        (batch, t) -> {
+                            if (t != null) {
+                                subManager.close();
+                            }
+                        });
+    }
+
+    private void load(NDManager subManager, long index, NDList[] data, NDList[] labels, int pos)
+            throws IOException {
+        Record record = dataset.get(subManager, index);
+        data[pos] = record.getData();
+        // apply transform
+        if (pipeline != null) {
+            data[pos] = pipeline.transform(data[pos]);
+        }
+
+        labels[pos] = record.getLabels();
+    }
+
+    private Batch batchify(NDManager subManager, NDList[] data, NDList[] labels, int progress) {
         NDList batchData = dataBatchifier.batchify(data);
         NDList batchLabels = labelBatchifier.batchify(labels);
 
@@ -189,15 +296,41 @@ public class DataIterable implements Iterable<Batch>, Iterator<Batch> {
             batchData = batchData.toDevice(device, false);
             batchLabels = batchLabels.toDevice(device, false);
         }
-        return new Batch(
-                subManager,
-                batchData,
-                batchLabels,
-                batchSize,
-                dataBatchifier,
-                labelBatchifier,
-                progress,
-                dataset.size());
+        Batch batch =
+                new Batch(
+                        subManager,
+                        batchData,
+                        batchLabels,
+                        data.length,
+                        dataBatchifier,
+                        labelBatchifier,
+                        progress,
+                        dataset.size());
+        if (executor != null && prefetchBytes > 0) {
+            readyBytes.addAndGet(sizeOf(batch));
+        }
+        return batch;
+    }
+
+    private void fillQueue() {
+        // keeps preFetchNumber batches in flight besides the one being consumed, unless the
+        // batches that are ready already exceed the memory budget
+        while (queue.size() <= preFetchNumber && sample.hasNext()) {
+            if (prefetchBytes > 0 && !queue.isEmpty() && readyBytes.get() >= prefetchBytes) {
+                return;
+            }
+            preFetch();
+        }
+    }
+
+    private static long sizeOf(Batch batch) {
+        long size = 0;
+        for (NDList list : new NDList[] {batch.getData(), batch.getLabels()}) {
+            for (NDArray array : list) {
+                size += array.size() * array.getDataType().getNumOfBytes();
+            }
+        }
+        return size;
     }
 
     private void preFetch() {
@@ -205,6 +338,11 @@ public class DataIterable implements Iterable<Batch>, Iterator<Batch> {
             return;
         }
         List<Long> indices = sample.next();
+        if (parallelLoading) {
+            int progress = progressCounter.getAndAdd(indices.size());
+            queue.offer(fetchAsync(indices, progress));
+            return;
+        }
         Callable<Batch> task = new PreFetchCallable(indices);
         Future<Batch> result = executor.submit(task);
         queue.offer(result);
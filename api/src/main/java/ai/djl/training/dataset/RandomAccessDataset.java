@@ -44,6 +44,8 @@ public abstract class RandomAccessDataset implements Dataset {
     protected Pipeline targetPipeline;
     protected ExecutorService executor;
     protected int prefetchNumber;
+    protected boolean parallelLoading;
+    protected long prefetchBytes;
     protected long limit;
     protected Device device;
 
@@ -63,6 +65,8 @@ public abstract class RandomAccessDataset implements Dataset {
         this.targetPipeline = builder.targetPipeline;
         this.executor = builder.executor;
         this.prefetchNumber = builder.prefetchNumber;
+        this.parallelLoading = builder.parallelLoading;
+        this.prefetchBytes = builder.prefetchBytes;
         this.limit = builder.limit;
         this.device = builder.device;
     }
@@ -91,6 +95,8 @@ public abstract class RandomAccessDataset implements Dataset {
                 targetPipeline,
                 executor,
                 prefetchNumber,
+                parallelLoading,
+                prefetchBytes,
                 device);
     }
 
@@ -116,6 +122,8 @@ public abstract class RandomAccessDataset implements Dataset {
                 targetPipeline,
                 executor,
                 prefetchNumber,
+                parallelLoading,
+                prefetchBytes,
                 device);
     }
 
@@ -235,6 +243,8 @@ public abstract class RandomAccessDataset implements Dataset {
         protected Pipeline targetPipeline;
         protected ExecutorService executor;
         protected int prefetchNumber;
+        protected boolean parallelLoading;
+        protected long prefetchBytes;
         protected long limit = Long.MAX_VALUE;
         protected Device device;
 
@@ -376,6 +386,38 @@ public abstract class RandomAccessDataset implements Dataset {
             return self();
         }
 
+        /**
+         * Sets whether the records of a batch are loaded in parallel by the {@link
+         * ExecutorService}.
+         *
+         * <p>By default, each prefetched batch is loaded by a single thread. Loading the records in
+         * parallel shortens the time to produce a batch when loading or transforming a record is
+         * expensive, such as decoding images. This requires an executor set with {@link
+         * #optExecutor(ExecutorService, int)}.
+         *
+         * @param parallelLoading whether to load the records of a batch in parallel
+         * @return this {@code BaseBuilder}
+         */
+        public T optParallelLoading(boolean parallelLoading) {
+            this.parallelLoading = parallelLoading;
+            return self();
+        }
+
+        /**
+         * Sets the maximum size in bytes of the batches that are prefetched but not consumed yet.
+         *
+         * <p>The number of prefetched batches is still limited by the {@code prefetchNumber} of
+         * {@link #optExecutor(ExecutorService, int)}, this additionally stops prefetching while the
+         * ready batches hold at least {@code prefetchBytes}.
+         *
+         * @param prefetchBytes the maximum size of the prefetched batches, or 0 for no limit
+         * @return this {@code BaseBuilder}
+         */
+        public T optPrefetchBytes(long prefetchBytes) {
+            this.prefetchBytes = prefetchBytes;
+            return self();
+        }
+
         /**
          * Sets the {@link Device}.
          *
@@ -428,6 +470,8 @@ public abstract class RandomAccessDataset implements Dataset {
             this.targetPipeline = dataset.targetPipeline;
             this.executor = dataset.executor;
             this.prefetchNumber = dataset.prefetchNumber;
+            this.parallelLoading = dataset.parallelLoading;
+            this.prefetchBytes = dataset.prefetchBytes;
             this.device = dataset.device;
 
             limit = Long.MAX_VALUE;
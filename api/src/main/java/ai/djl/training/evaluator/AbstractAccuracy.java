@@ -15,6 +15,7 @@ package ai.djl.training.evaluator;
 
 import ai.djl.ndarray.NDArray;
 import ai.djl.ndarray.NDList;
+import ai.djl.ndarray.types.DataType;
 import ai.djl.util.Pair;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -82,7 +83,11 @@ public abstract class AbstractAccuracy extends Evaluator {
     public void updateAccumulator(String key, NDList labels, NDList predictions) {
         Pair<Long, NDArray> update = accuracyHelper(labels, predictions);
         totalInstances.compute(key, (k, v) -> v + update.getKey());
-        correctInstances.compute(key, (k, v) -> v + update.getValue().sum().getLong());
+        if (isAccumulateOnDevice()) {
+            addDeviceSum(key, update.getValue().sum().toType(DataType.INT64, false));
+        } else {
+            correctInstances.compute(key, (k, v) -> v + update.getValue().sum().getLong());
+        }
     }
 
     /** {@inheritDoc} */
@@ -90,6 +95,7 @@ public abstract class AbstractAccuracy extends Evaluator {
     public void resetAccumulator(String key) {
         totalInstances.compute(key, (k, v) -> 0L);
         correctInstances.compute(key, (k, v) -> 0L);
+        resetDeviceSum(key);
     }
 
     /** {@inheritDoc} */
@@ -100,6 +106,11 @@ public abstract class AbstractAccuracy extends Evaluator {
             return Float.NaN;
         }
 
+        long correct = (long) collectDeviceSum(key);
+        if (correct != 0) {
+            correctInstances.compute(key, (k, v) -> v + correct);
+        }
+
         return (float) correctInstances.get(key) / totalInstances.get(key);
     }
 }
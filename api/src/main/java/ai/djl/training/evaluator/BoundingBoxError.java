@@ -63,8 +63,12 @@ public class BoundingBoxError extends Evaluator {
     @Override
     public void updateAccumulator(String key, NDList labels, NDList predictions) {
         NDArray boundingBoxError = evaluate(labels, predictions);
-        float update = boundingBoxError.sum().getFloat();
         totalInstances.compute(key, (k, v) -> v + boundingBoxError.size());
+        if (isAccumulateOnDevice()) {
+            addDeviceSum(key, boundingBoxError.sum());
+            return;
+        }
+        float update = boundingBoxError.sum().getFloat();
         ssdBoxPredictionError.compute(key, (k, v) -> v + update);
     }
 
@@ -73,6 +77,7 @@ public class BoundingBoxError extends Evaluator {
     public void resetAccumulator(String key) {
         totalInstances.compute(key, (k, v) -> 0L);
         ssdBoxPredictionError.compute(key, (k, v) -> 0f);
+        resetDeviceSum(key);
     }
 
     /** {@inheritDoc} */
@@ -85,6 +90,10 @@ public class BoundingBoxError extends Evaluator {
             return Float.NaN;
         }
 
+        float error = (float) collectDeviceSum(key);
+        if (error != 0) {
+            ssdBoxPredictionError.compute(key, (k, v) -> v + error);
+        }
         return ssdBoxPredictionError.get(key) / totalInstances.get(key);
     }
 }
@@ -12,8 +12,10 @@
  */
 package ai.djl.training.evaluator;
 
+import ai.djl.Device;
 import ai.djl.ndarray.NDArray;
 import ai.djl.ndarray.NDList;
+import ai.djl.ndarray.types.DataType;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -32,11 +34,18 @@ import java.util.concurrent.ConcurrentHashMap;
  * use {@link Evaluator#getAccumulator(String)} to retrieve the accumulated value and {@link
  * Evaluator#resetAccumulator(String)} to reset the accumulator to the same value as when just
  * added.
+ *
+ * <p>By default, updating an accumulator copies the update from the device to compute the sum on
+ * the host, which waits for the batch to finish. With {@link #setAccumulateOnDevice(boolean)}, the
+ * updates are summed on the device instead, and are only copied when {@link
+ * Evaluator#getAccumulator(String)} is called.
  */
 public abstract class Evaluator {
 
     private String name;
     protected Map<String, Long> totalInstances;
+    private boolean accumulateOnDevice;
+    private Map<String, Map<Device, NDArray>> deviceSums;
 
     /**
      * Creates an evaluator with abstract update methods.
@@ -46,6 +55,7 @@ public abstract class Evaluator {
     public Evaluator(String name) {
         this.name = name;
         totalInstances = new ConcurrentHashMap<>();
+        deviceSums = new ConcurrentHashMap<>();
     }
 
     /**
@@ -100,6 +110,83 @@ public abstract class Evaluator {
      */
     public abstract float getAccumulator(String key);
 
+    /**
+     * Sets whether the accumulators sum their updates on the device instead of the host.
+     *
+     * <p>Summing on the device avoids waiting for every batch to finish before the next one is
+     * started, the sums are copied to the host when the accumulator is read.
+     *
+     * @param accumulateOnDevice {@code true} to sum the updates on the device
+     */
+    public void setAccumulateOnDevice(boolean accumulateOnDevice) {
+        this.accumulateOnDevice = accumulateOnDevice;
+    }
+
+    /**
+     * Returns whether the accumulators sum their updates on the device.
+     *
+     * @return {@code true} if the accumulators sum their updates on the device
+     */
+    public boolean isAccumulateOnDevice() {
+        return accumulateOnDevice;
+    }
+
+    /**
+     * Adds an update to the device sum of an accumulator without copying it to the host.
+     *
+     * @param key the key of the accumulator
+     * @param update a scalar {@code NDArray} to add, all updates of an accumulator must have the
+     *     same data type
+     */
+    protected void addDeviceSum(String key, NDArray update) {
+        Map<Device, NDArray> sums = deviceSums.computeIfAbsent(key, k -> new ConcurrentHashMap<>());
+        sums.compute(
+                update.getDevice(),
+                (device, sum) -> {
+                    // the sum must not keep the autograd graph of the batch alive
+                    NDArray value = update.stopGradient();
+                    if (sum == null) {
+                        value.detach();
+                        return value;
+                    }
+                    sum.addi(value);
+                    return sum;
+                });
+    }
+
+    /**
+     * Copies the device sums of an accumulator to the host and resets them.
+     *
+     * @param key the key of the accumulator
+     * @return the sum of all updates since the last call, 0 if there are none
+     */
+    protected double collectDeviceSum(String key) {
+        Map<Device, NDArray> sums = deviceSums.remove(key);
+        if (sums == null) {
+            return 0;
+        }
+        double total = 0;
+        for (NDArray sum : sums.values()) {
+            try (NDArray value = sum.toType(DataType.FLOAT64, true)) {
+                total += value.getDouble();
+            }
+            sum.close();
+        }
+        return total;
+    }
+
+    /**
+     * Discards the device sums of an accumulator.
+     *
+     * @param key the key of the accumulator
+     */
+    protected void resetDeviceSum(String key) {
+        Map<Device, NDArray> sums = deviceSums.remove(key);
+        if (sums != null) {
+            sums.values().forEach(NDArray::close);
+        }
+    }
+
     /**
      * Checks if the two input {@code NDArray} have the same length or shape.
      *
@@ -30,7 +30,9 @@ import java.util.concurrent.ConcurrentHashMap;
  *       the end of the epoch
  *   <li>{@link #TRAIN_PROGRESS} - This accumulates for {@link #progressUpdateFrequency} batches and
  *       is recorded to a metric at the end
- *   <li>{@link #TRAIN_ALL} - This does not accumulates and records every training batch to a metric
+ *   <li>{@link #TRAIN_ALL} - This does not accumulates and records every training batch to a
+ *       metric, or only the batch at the end of each {@link #TRAIN_PROGRESS} for evaluators that
+ *       {@link Evaluator#isAccumulateOnDevice() accumulate on the device}
  *   <li>{@link #VALIDATE_EPOCH} - This accumulates for the whole validation epoch and is recorded
  *       to a metric at the end of the epoch
  * </ul>
@@ -114,14 +116,19 @@ public class EvaluatorTrainingListener extends TrainingListenerAdapter {
         updateEvaluators(trainer, batchData, new String[] {TRAIN_EPOCH, TRAIN_PROGRESS, TRAIN_ALL});
         Metrics metrics = trainer.getMetrics();
         if (metrics != null) {
+            progressCounter++;
+            boolean progressUpdate = progressCounter == progressUpdateFrequency;
             for (Evaluator evaluator : trainer.getEvaluators()) {
-                String key = metricName(evaluator, TRAIN_ALL);
-                float value = evaluator.getAccumulator(TRAIN_ALL);
-                metrics.addMetric(key, value);
+                // reading the accumulator would wait for the batch, evaluators that accumulate
+                // on the device only record the batch at the progress update
+                if (!evaluator.isAccumulateOnDevice() || progressUpdate) {
+                    String key = metricName(evaluator, TRAIN_ALL);
+                    float value = evaluator.getAccumulator(TRAIN_ALL);
+                    metrics.addMetric(key, value);
+                }
             }
 
-            progressCounter++;
-            if (progressCounter == progressUpdateFrequency) {
+            if (progressUpdate) {
                 for (Evaluator evaluator : trainer.getEvaluators()) {
                     String key = metricName(evaluator, TRAIN_PROGRESS);
                     float value = evaluator.getAccumulator(TRAIN_PROGRESS);
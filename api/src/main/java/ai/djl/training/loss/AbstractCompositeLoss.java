@@ -69,6 +69,19 @@ public abstract class AbstractCompositeLoss extends Loss {
         return NDArrays.add(lossComponents);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The setting is applied to all component losses.
+     */
+    @Override
+    public void setAccumulateOnDevice(boolean accumulateOnDevice) {
+        super.setAccumulateOnDevice(accumulateOnDevice);
+        for (Loss component : components) {
+            component.setAccumulateOnDevice(accumulateOnDevice);
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public void addAccumulator(String key) {
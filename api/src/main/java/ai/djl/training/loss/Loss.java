@@ -249,9 +249,13 @@ public abstract class Loss extends Evaluator {
     /** {@inheritDoc} */
     @Override
     public void updateAccumulator(String key, NDList labels, NDList predictions) {
+        totalInstances.compute(key, (k, v) -> v + 1);
+        if (isAccumulateOnDevice()) {
+            addDeviceSum(key, evaluate(labels, predictions).sum());
+            return;
+        }
         // this is a synchronized operation, only call it at end of batch or epoch
         float update = evaluate(labels, predictions).sum().getFloat();
-        totalInstances.compute(key, (k, v) -> v + 1);
         totalLoss.compute(key, (k, v) -> v + update);
     }
 
@@ -260,6 +264,7 @@ public abstract class Loss extends Evaluator {
     public void resetAccumulator(String key) {
         totalInstances.compute(key, (k, v) -> 0L);
         totalLoss.compute(key, (k, v) -> 0f);
+        resetDeviceSum(key);
     }
 
     /** {@inheritDoc} */
@@ -274,6 +279,10 @@ public abstract class Loss extends Evaluator {
             return Float.NaN;
         }
 
+        float loss = (float) collectDeviceSum(key);
+        if (loss != 0) {
+            totalLoss.compute(key, (k, v) -> v + loss);
+        }
         return totalLoss.get(key) / totalInstances.get(key);
     }
 }
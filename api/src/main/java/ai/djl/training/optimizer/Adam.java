@@ -61,19 +61,8 @@ public class Adam extends Optimizer {
     /** {@inheritDoc} */
     @Override
     public void update(String parameterId, NDArray weight, NDArray grad) {
-        int t = updateCount(parameterId);
-        double coef1 = 1.0 - Math.pow(beta1, t);
-        double coef2 = 1.0 - Math.pow(beta2, t);
-        float lr = learningRateTracker.getNewValue(t);
-        float newLearningRate = (float) (lr * Math.sqrt(coef2) / coef1);
+        float newLearningRate = getLearningRate(parameterId);
         float weightDecay = getWeightDecay();
-
-        Preconditions.checkArgument(
-                !Float.isNaN(newLearningRate)
-                        && !Float.isNaN(weightDecay)
-                        && !Float.isInfinite(newLearningRate)
-                        && !Float.isInfinite(weightDecay),
-                "learning rate or weight decay is nan or infinite");
         NDList inputs =
                 new NDList(
                         weight,
@@ -102,6 +91,56 @@ public class Adam extends Optimizer {
                 true);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void update(String[] parameterIds, NDArray[] weights, NDArray[] grads) {
+        float weightDecay = getWeightDecay();
+        float[] learningRates = new float[parameterIds.length];
+        float[] weightDecays = new float[parameterIds.length];
+        NDList inputs = new NDList(parameterIds.length * 4);
+        for (int i = 0; i < parameterIds.length; ++i) {
+            NDArray weight = weights[i];
+            Device device = weight.getDevice();
+            learningRates[i] = getLearningRate(parameterIds[i]);
+            weightDecays[i] = weightDecay;
+            inputs.add(weight);
+            inputs.add(grads[i]);
+            inputs.add(withDefaultState(means, parameterIds[i], device, k -> weight.zerosLike()));
+            inputs.add(
+                    withDefaultState(variances, parameterIds[i], device, k -> weight.zerosLike()));
+        }
+
+        NDArrayEx ex = weights[0].getNDArrayInternal();
+        ex.multiAdamUpdate(
+                inputs,
+                new NDList(weights),
+                learningRates,
+                weightDecays,
+                rescaleGrad,
+                clipGrad,
+                beta1,
+                beta2,
+                epsilon,
+                true);
+    }
+
+    private float getLearningRate(String parameterId) {
+        int t = updateCount(parameterId);
+        double coef1 = 1.0 - Math.pow(beta1, t);
+        double coef2 = 1.0 - Math.pow(beta2, t);
+        float lr = learningRateTracker.getNewValue(t);
+        float newLearningRate = (float) (lr * Math.sqrt(coef2) / coef1);
+        float weightDecay = getWeightDecay();
+
+        Preconditions.checkArgument(
+                !Float.isNaN(newLearningRate)
+                        && !Float.isNaN(weightDecay)
+                        && !Float.isInfinite(newLearningRate)
+                        && !Float.isInfinite(weightDecay),
+                "learning rate or weight decay is nan or infinite");
+        return newLearningRate;
+    }
+
     /**
      * Creates a builder to build a {@code Adam}.
      *
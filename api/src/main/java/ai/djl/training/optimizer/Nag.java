@@ -75,6 +75,40 @@ public class Nag extends Optimizer {
                 inputs, weights, newLearningRate, weightDecay, rescaleGrad, clipGrad, momentum);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void update(String[] parameterIds, NDArray[] weights, NDArray[] grads) {
+        float weightDecay = getWeightDecay();
+        float[] learningRates = new float[parameterIds.length];
+        float[] weightDecays = new float[parameterIds.length];
+        NDList inputs = new NDList(parameterIds.length * 3);
+        for (int i = 0; i < parameterIds.length; ++i) {
+            NDArray weight = weights[i];
+            learningRates[i] = learningRateTracker.getNewValue(updateCount(parameterIds[i]));
+            weightDecays[i] = weightDecay;
+            inputs.add(weight);
+            inputs.add(grads[i]);
+            if (momentum != 0f) {
+                inputs.add(
+                        withDefaultState(
+                                momentumStates,
+                                parameterIds[i],
+                                weight.getDevice(),
+                                k -> weight.zerosLike()));
+            }
+        }
+
+        NDArrayEx ex = weights[0].getNDArrayInternal();
+        ex.multiNagUpdate(
+                inputs,
+                new NDList(weights),
+                learningRates,
+                weightDecays,
+                rescaleGrad,
+                clipGrad,
+                momentum);
+    }
+
     /** The Builder to construct an {@link Nag} object. */
     public static final class Builder extends OptimizerBuilder<Builder> {
 
@@ -130,6 +130,23 @@ public abstract class Optimizer {
      */
     public abstract void update(String parameterId, NDArray weight, NDArray grad);
 
+    /**
+     * Updates a group of parameters according to their gradients.
+     *
+     * <p>All the weights must be on the same device and have the same data type. Optimizers that
+     * support it update the group in a few fused operations instead of several operations for each
+     * parameter, the default implementation updates the parameters one at a time.
+     *
+     * @param parameterIds the parameters to be updated
+     * @param weights the weights of each parameter
+     * @param grads the gradients of each parameter
+     */
+    public void update(String[] parameterIds, NDArray[] weights, NDArray[] grads) {
+        for (int i = 0; i < parameterIds.length; ++i) {
+            update(parameterIds[i], weights[i], grads[i]);
+        }
+    }
+
     protected NDArray withDefaultState(
             Map<String, Map<Device, NDArray>> state,
             String key,
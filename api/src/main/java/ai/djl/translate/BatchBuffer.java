@@ -0,0 +1,127 @@
+/*
+ * Copyright 2021 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.translate;
+
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.types.DataType;
+import ai.djl.ndarray.types.Shape;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A set of preallocated arrays that a {@link Batchifier} writes the samples of a batch into.
+ *
+ * <p>A {@code BatchBuffer} keeps one array per input position, {@link Shape} and {@link DataType},
+ * so that batches of the same shape do not allocate new arrays. The arrays of a batch are
+ * overwritten by the next batch, so a {@code BatchBuffer} must only be used by one thread, and the
+ * batched arrays must not be used after the next call to {@link
+ * Batchifier#batchify(ai.djl.ndarray.NDList[], BatchBuffer)}.
+ *
+ * @see ai.djl.inference.Predictor#setReuseBatchBuffer(boolean)
+ */
+public class BatchBuffer implements AutoCloseable {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private NDManager manager;
+    private Map<Key, NDArray> arrays;
+
+    /**
+     * Constructs a {@code BatchBuffer} that allocates its arrays from the specified manager.
+     *
+     * @param manager the manager to allocate the arrays from
+     */
+    public BatchBuffer(NDManager manager) {
+        this(manager, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a {@code BatchBuffer} that keeps at most {@code capacity} arrays.
+     *
+     * @param manager the manager to allocate the arrays from
+     * @param capacity the maximum number of arrays to keep, the least recently used array is closed
+     *     when exceeded
+     */
+    public BatchBuffer(NDManager manager, int capacity) {
+        this.manager = manager.newSubManager();
+        this.manager.setName("batchBuffer");
+        arrays =
+                new LinkedHashMap<Key, NDArray>(capacity, 0.75f, true) {
+                    private static final long serialVersionUID = 1L;
+
+                    /** {@inheritDoc} */
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<Key, NDArray> eldest) {
+                        if (size() > capacity) {
+                            eldest.getValue().close();
+                            return true;
+                        }
+                        return false;
+                    }
+                };
+    }
+
+    /**
+     * Returns the array for the specified input position, creating it if needed.
+     *
+     * @param index the position of the input in the {@link ai.djl.ndarray.NDList}
+     * @param shape the shape of the batched array
+     * @param dataType the data type of the batched array
+     * @return an uninitialized or previously used array of the specified shape and data type
+     */
+    public NDArray get(int index, Shape shape, DataType dataType) {
+        return arrays.computeIfAbsent(
+                new Key(index, shape, dataType), k -> manager.create(shape, dataType));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        arrays.clear();
+        manager.close();
+    }
+
+    private static final class Key {
+
+        private int index;
+        private Shape shape;
+        private DataType dataType;
+
+        Key(int index, Shape shape, DataType dataType) {
+            this.index = index;
+            this.shape = shape;
+            this.dataType = dataType;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return index == key.index && dataType == key.dataType && shape.equals(key.shape);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int hashCode() {
+            return Objects.hash(index, shape, dataType);
+        }
+    }
+}
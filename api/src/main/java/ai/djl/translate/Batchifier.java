@@ -58,6 +58,22 @@ public interface Batchifier {
      */
     NDList batchify(NDList[] inputs);
 
+    /**
+     * Converts an array of {@link NDList} into an NDList, writing the samples into the arrays of a
+     * {@link BatchBuffer} when the batchifier supports it.
+     *
+     * <p>The returned arrays may be owned by the {@code BatchBuffer} and are overwritten by the
+     * next batch, they must not be closed by the caller. The default implementation ignores the
+     * buffer.
+     *
+     * @param inputs the input array of {@link NDList} where each element is a sample
+     * @param buffer the {@code BatchBuffer} to reuse, or {@code null} to allocate new arrays
+     * @return the batchified {@link NDList}
+     */
+    default NDList batchify(NDList[] inputs, BatchBuffer buffer) {
+        return batchify(inputs);
+    }
+
     /**
      * Reverses the {@link #batchify(NDList[]) batchify} operation.
      *
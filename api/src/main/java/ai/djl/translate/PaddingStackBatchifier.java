@@ -43,6 +43,31 @@ public final class PaddingStackBatchifier implements Batchifier {
     /** {@inheritDoc} */
     @Override
     public NDList batchify(NDList[] inputs) {
+        NDList validLengths = pad(inputs);
+        NDList result = Batchifier.STACK.batchify(inputs);
+        if (includeValidLengths) {
+            result.addAll(validLengths);
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The padded samples are copied into the arrays of the {@link BatchBuffer}, which are reused
+     * as long as the padded shape does not change, so a fixed padding size is recommended.
+     */
+    @Override
+    public NDList batchify(NDList[] inputs, BatchBuffer buffer) {
+        NDList validLengths = pad(inputs);
+        NDList result = Batchifier.STACK.batchify(inputs, buffer);
+        if (includeValidLengths) {
+            result.addAll(validLengths);
+        }
+        return result;
+    }
+
+    private NDList pad(NDList[] inputs) {
         NDList validLengths = new NDList(inputs.length);
         NDManager manager = inputs[0].get(0).getManager();
         for (int i = 0; i < arraysToPad.size(); i++) {
@@ -79,11 +104,7 @@ public final class PaddingStackBatchifier implements Batchifier {
             }
             validLengths.add(manager.create(arrayValidLengths));
         }
-        NDList result = Batchifier.STACK.batchify(inputs);
-        if (includeValidLengths) {
-            result.addAll(validLengths);
-        }
-        return result;
+        return validLengths;
     }
 
     /** {@inheritDoc} */
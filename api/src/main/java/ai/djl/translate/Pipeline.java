@@ -16,6 +16,8 @@ import ai.djl.ndarray.NDArray;
 import ai.djl.ndarray.NDList;
 import ai.djl.util.Pair;
 import ai.djl.util.PairList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -136,6 +138,15 @@ public class Pipeline {
         return this;
     }
 
+    /**
+     * Returns the {@link Transform}s of this {@code Pipeline} in the order they are applied.
+     *
+     * @return an unmodifiable list of the transforms
+     */
+    public List<Transform> getTransforms() {
+        return Collections.unmodifiableList(transforms.values());
+    }
+
     /**
      * Applies the transforms configured in this object on the input {@link NDList}.
      *
@@ -147,7 +158,23 @@ public class Pipeline {
      * @return the output {@link NDList} after applying the tranforms
      */
     public NDList transform(NDList input) {
-        if (transforms.isEmpty() || input.isEmpty()) {
+        return transform(input, 0);
+    }
+
+    /**
+     * Applies the transforms configured in this object on the input {@link NDList}, skipping the
+     * first {@code start} transforms.
+     *
+     * <p>This allows a caller that already applied the first transforms in a faster way to apply
+     * the rest of the pipeline.
+     *
+     * @param input the input {@link NDList} on which the tranforms are to be applied
+     * @param start the position of the first transform to apply
+     * @return the output {@link NDList} after applying the tranforms
+     * @see #getTransforms()
+     */
+    public NDList transform(NDList input, int start) {
+        if (transforms.size() <= start || input.isEmpty()) {
             return input;
         }
 
@@ -163,7 +190,7 @@ public class Pipeline {
             map.put(new IndexKey(i), i);
         }
         // apply transform
-        for (Pair<IndexKey, Transform> transform : transforms) {
+        for (Pair<IndexKey, Transform> transform : transforms.subList(start)) {
             IndexKey key = transform.getKey();
             int index = map.get(key);
             NDArray array = arrays[index];
@@ -23,10 +23,10 @@ import ai.djl.modality.cv.translator.SingleShotDetectionTranslator;
 import ai.djl.ndarray.NDList;
 import ai.djl.ndarray.NDManager;
 import ai.djl.util.JsonUtils;
-import ai.djl.util.PairList;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
 import java.lang.reflect.Constructor;
 import java.net.URL;
@@ -223,6 +223,17 @@ public class ServingTranslatorFactory implements TranslatorFactory<Input, Output
         }
     }
 
+    private static InputStream getData(Input input) {
+        InputStream is = input.getAsInputStream("data");
+        if (is == null) {
+            is = input.getAsInputStream("body");
+        }
+        if (is == null) {
+            is = new ByteArrayInputStream(input.getContent().valueAt(0));
+        }
+        return is;
+    }
+
     private static final class ImageServingTranslator implements Translator<Input, Output> {
 
         private Translator<Image, ?> translator;
@@ -253,15 +264,7 @@ public class ServingTranslatorFactory implements TranslatorFactory<Input, Output
         @Override
         public NDList processInput(TranslatorContext ctx, Input input) throws Exception {
             ctx.setAttachment("input", input);
-            PairList<String, byte[]> inputs = input.getContent();
-            byte[] data = inputs.get("data");
-            if (data == null) {
-                data = inputs.get("body");
-            }
-            if (data == null) {
-                data = input.getContent().valueAt(0);
-            }
-            Image image = factory.fromInputStream(new ByteArrayInputStream(data));
+            Image image = factory.fromInputStream(getData(input));
             return translator.processInput(ctx, image);
         }
 
@@ -284,16 +287,8 @@ public class ServingTranslatorFactory implements TranslatorFactory<Input, Output
         @Override
         public NDList processInput(TranslatorContext ctx, Input input) {
             ctx.setAttachment("input", input);
-            PairList<String, byte[]> inputs = input.getContent();
-            byte[] data = inputs.get("data");
-            if (data == null) {
-                data = inputs.get("body");
-            }
-            if (data == null) {
-                data = input.getContent().valueAt(0);
-            }
             NDManager manager = ctx.getNDManager();
-            return NDList.decode(manager, data);
+            return NDList.decode(manager, getData(input));
         }
 
         /** {@inheritDoc} */
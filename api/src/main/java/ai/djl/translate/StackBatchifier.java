@@ -16,6 +16,7 @@ import ai.djl.engine.EngineException;
 import ai.djl.ndarray.NDArray;
 import ai.djl.ndarray.NDArrays;
 import ai.djl.ndarray.NDList;
+import ai.djl.ndarray.index.NDIndex;
 import ai.djl.ndarray.types.DataType;
 import ai.djl.ndarray.types.Shape;
 import java.util.Arrays;
@@ -90,7 +91,63 @@ public class StackBatchifier implements Batchifier {
         }
     }
 
-    /** {@inheritDoc} */
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The samples are copied into arrays of the {@link BatchBuffer} instead of stacked into new
+     * arrays. If the engine does not support writing into an array, new arrays are allocated as
+     * with {@link #batchify(NDList[])}.
+     */
+    @Override
+    public NDList batchify(NDList[] inputs, BatchBuffer buffer) {
+        int numInputKinds = inputs[0].size();
+        if (buffer == null || numInputKinds == 0) {
+            return batchify(inputs);
+        }
+
+        int batchSize = inputs.length;
+        NDList result = new NDList(numInputKinds);
+        for (int i = 0; i < numInputKinds; i++) {
+            NDArray first = inputs[0].get(i);
+            Shape shape = first.getShape();
+            DataType dataType = first.getDataType();
+            for (NDList input : inputs) {
+                if (input.size() != numInputKinds) {
+                    throw new IllegalArgumentException(
+                            "You cannot batch data with different numbers of inputs");
+                }
+                NDArray currInput = input.get(i);
+                if (!currInput.getShape().equals(shape)) {
+                    throw new IllegalArgumentException(
+                            "You cannot batch data with different input shapes");
+                }
+                if (currInput.getDataType() != dataType) {
+                    throw new IllegalArgumentException(
+                            "You cannot batch data with different input data types");
+                }
+            }
+
+            NDArray batch = buffer.get(i, new Shape(batchSize).addAll(shape), dataType);
+            try {
+                for (int j = 0; j < batchSize; j++) {
+                    batch.set(new NDIndex(j), inputs[j].get(i));
+                }
+            } catch (UnsupportedOperationException e) {
+                return batchify(inputs);
+            }
+            // keep the name for stacked inputs
+            batch.setName(first.getName());
+            result.add(batch);
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Each sample is an index into the batched array, which is a view of the batch on engines
+     * that support it instead of a copy.
+     */
     @Override
     public NDList[] unbatchify(NDList inputs) {
         int numInputKinds = inputs.size();
@@ -108,9 +165,8 @@ public class StackBatchifier implements Batchifier {
         }
 
         for (NDArray input : inputs) {
-            NDList splitList = input.split(batchSize);
             for (int i = 0; i < batchSize; i++) {
-                NDArray array = splitList.get(i).squeeze(0);
+                NDArray array = input.get(i);
                 array.setName(input.getName());
                 dataList[i].add(array);
             }
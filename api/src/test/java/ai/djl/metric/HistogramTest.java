@@ -0,0 +1,65 @@
+/*
+ * Copyright 2021 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.metric;
+
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class HistogramTest {
+
+    @Test
+    public void testPercentile() {
+        Histogram histogram = new Histogram();
+        for (int i = 1; i <= 100_000; ++i) {
+            histogram.record(i * 1000L);
+        }
+        Assert.assertEquals(histogram.getCount(), 100_000);
+        Assert.assertEquals(histogram.getMin(), 1000);
+        Assert.assertEquals(histogram.getMax(), 100_000_000);
+        Assert.assertEquals(histogram.getMean(), 50_000_500d);
+        Assert.assertEquals(histogram.getPercentile(50), 50_000_000, 500_000);
+        Assert.assertEquals(histogram.getPercentile(99), 99_000_000, 990_000);
+        Assert.assertEquals(histogram.getPercentile(100), 100_000_000);
+
+        histogram.reset();
+        Assert.assertEquals(histogram.getCount(), 0);
+        Assert.assertEquals(histogram.getPercentile(50), 0);
+    }
+
+    @Test
+    public void testMerge() {
+        Histogram h1 = new Histogram();
+        Histogram h2 = new Histogram();
+        for (int i = 0; i < 10; ++i) {
+            h1.record(i);
+            h2.record(i + 10);
+        }
+        h1.merge(h2);
+        Assert.assertEquals(h1.getCount(), 20);
+        Assert.assertEquals(h1.getMin(), 0);
+        Assert.assertEquals(h1.getMax(), 19);
+        Assert.assertEquals(h1.getPercentile(50), 9);
+    }
+
+    @Test
+    public void testWindow() throws InterruptedException {
+        Histogram histogram = new Histogram(7, 50, TimeUnit.MILLISECONDS);
+        histogram.record(1);
+        Thread.sleep(120);
+        Assert.assertEquals(histogram.getCount(), 0);
+        histogram.record(2);
+        Assert.assertEquals(histogram.getCount(), 1);
+        Assert.assertEquals(histogram.getMax(), 2);
+    }
+}
@@ -64,6 +64,31 @@ public class MetricsTest {
         Assert.assertEquals(mean, 1.5d);
     }
 
+    @Test
+    public void testHistogramMetrics() {
+        Metrics metrics = new Metrics(Histogram::new);
+        for (long i = 1; i <= 100; ++i) {
+            metrics.addMetric("m1", i, "nano");
+        }
+        metrics.addMetric("m2", 0.5f);
+        Assert.assertNotNull(metrics.getHistogram("m1"));
+        Assert.assertNull(metrics.getHistogram("m2"));
+        Assert.assertEquals(metrics.getMetric("m1").size(), 1);
+        Assert.assertEquals(metrics.latestMetric("m1").getValue().longValue(), 100L);
+        Assert.assertEquals(metrics.percentile("m1", 50).getValue().longValue(), 50L);
+        Assert.assertEquals(metrics.percentile("m1", 50).getUnit(), "nano");
+        Assert.assertEquals(metrics.mean("m1"), 50.5d);
+        Assert.assertEquals(metrics.getMetricNames().size(), 2);
+
+        metrics = new Metrics();
+        metrics.addMetric("m1", 1L);
+        metrics.addMetric("m1", 3L);
+        metrics.setHistogram("m1", new Histogram());
+        metrics.addMetric("m1", 2L);
+        Assert.assertEquals(metrics.getHistogram("m1").getCount(), 3);
+        Assert.assertEquals(metrics.percentile("m1", 50).getValue().longValue(), 2L);
+    }
+
     @Test(expectedExceptions = IllegalArgumentException.class)
     public void testMeanException() {
         Metrics metrics = new Metrics();
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2021 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.modality;
+
+import ai.djl.util.PairList;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class InputTest {
+
+    @Test
+    public void testByteBufferData() throws IOException {
+        ByteBuffer bb = ByteBuffer.allocateDirect(8);
+        bb.put("xxhello".getBytes(StandardCharsets.UTF_8));
+        bb.flip();
+        bb.position(2);
+
+        Input input = new Input("1");
+        input.addData("name", "djl".getBytes(StandardCharsets.UTF_8));
+        input.addData("body", bb);
+
+        ByteBuffer view = input.getAsByteBuffer("body");
+        Assert.assertEquals(view.remaining(), 5);
+        Assert.assertTrue(view.isDirect());
+
+        try (InputStream is = input.getAsInputStream("body")) {
+            byte[] buf = new byte[10];
+            int len = is.read(buf);
+            Assert.assertEquals(new String(buf, 0, len, StandardCharsets.UTF_8), "hello");
+            Assert.assertEquals(is.read(), -1);
+        }
+        Assert.assertEquals(input.getAsByteBuffer("name").remaining(), 3);
+        Assert.assertNull(input.getAsInputStream("missing"));
+
+        byte[] body = input.getContent().get("body");
+        Assert.assertEquals(new String(body, StandardCharsets.UTF_8), "hello");
+        Assert.assertEquals(input.getContent().size(), 2);
+    }
+
+    @Test
+    public void testContentOrder() {
+        Input input = new Input("1");
+        input.addData("a", "1".getBytes(StandardCharsets.UTF_8));
+        input.addData("b", ByteBuffer.wrap("2".getBytes(StandardCharsets.UTF_8)));
+        input.addData("c", "3".getBytes(StandardCharsets.UTF_8));
+        ByteBuffer direct = ByteBuffer.allocateDirect(1);
+        direct.put((byte) '4');
+        direct.flip();
+        input.addData("d", direct);
+        input.addData(0, "0".getBytes(StandardCharsets.UTF_8));
+
+        PairList<String, byte[]> content = input.getContent();
+        Assert.assertEquals(content.size(), 5);
+        Assert.assertEquals(content.keys(), Arrays.asList(null, "a", "b", "c", "d"));
+        for (int i = 0; i < content.size(); ++i) {
+            Assert.assertEquals(
+                    content.valueAt(i), String.valueOf(i).getBytes(StandardCharsets.UTF_8));
+        }
+        Assert.assertSame(input.getContent(), content);
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright 2021 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.repository;
+
+import ai.djl.util.Hex;
+import ai.djl.util.Utils;
+import ai.djl.util.ZipUtils;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+public class SimpleUrlRepositoryTest {
+
+    private static final String ETAG = "\"v1\"";
+
+    private HttpServer server;
+    private byte[] content;
+    private byte[] synset = "cat\ndog\n".getBytes(StandardCharsets.UTF_8);
+    private List<String> ranges = new CopyOnWriteArrayList<>();
+    private List<String> ifRanges = new CopyOnWriteArrayList<>();
+    private Map<String, AtomicInteger> requests = new ConcurrentHashMap<>();
+    private String cacheDir;
+
+    @BeforeClass
+    public void setUp() throws IOException {
+        Path dir = Paths.get("build/testUrlDir/");
+        Utils.deleteQuietly(dir);
+        Files.createDirectories(dir);
+        Files.write(dir.resolve("synset.txt"), synset);
+        Path testFile = Paths.get("build/testUrl.zip");
+        ZipUtils.zip(dir, testFile, false);
+        content = Files.readAllBytes(testFile);
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext(
+                "/",
+                exchange -> {
+                    String path = exchange.getRequestURI().getPath();
+                    byte[] body = path.endsWith(".zip") ? content : synset;
+                    String range = exchange.getRequestHeaders().getFirst("Range");
+                    String ifRange = exchange.getRequestHeaders().getFirst("If-Range");
+                    int offset = 0;
+                    if (range != null) {
+                        ranges.add(range);
+                        ifRanges.add(String.valueOf(ifRange));
+                        if (ETAG.equals(ifRange)) {
+                            offset = Integer.parseInt(range.substring(6, range.length() - 1));
+                        }
+                    }
+                    exchange.getResponseHeaders().add("ETag", ETAG);
+                    if ("HEAD".equals(exchange.getRequestMethod())) {
+                        exchange.getResponseHeaders().add("Content-Length", "" + body.length);
+                        exchange.sendResponseHeaders(200, -1);
+                        exchange.close();
+                        return;
+                    }
+                    requests.computeIfAbsent(path, k -> new AtomicInteger()).incrementAndGet();
+                    if (path.startsWith("/slow")) {
+                        try {
+                            Thread.sleep(200);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                    exchange.sendResponseHeaders(
+                            offset > 0 ? 206 : 200, (long) body.length - offset);
+                    try (OutputStream os = exchange.getResponseBody()) {
+                        os.write(body, offset, body.length - offset);
+                    }
+                });
+        server.start();
+
+        cacheDir = System.getProperty("DJL_CACHE_DIR");
+        Path cache = Paths.get("build/testUrlCache/");
+        Utils.deleteQuietly(cache);
+        System.setProperty("DJL_CACHE_DIR", cache.toAbsolutePath().toString());
+    }
+
+    @AfterClass
+    public void tearDown() {
+        server.stop(0);
+        if (cacheDir == null) {
+            System.clearProperty("DJL_CACHE_DIR");
+        } else {
+            System.setProperty("DJL_CACHE_DIR", cacheDir);
+        }
+    }
+
+    @Test
+    public void testResumeDownload() throws IOException {
+        String url = "http://localhost:" + server.getAddress().getPort() + "/testUrl.zip";
+        // simulates an interrupted download
+        Path dir = downloadWithPart(url, Arrays.copyOf(content, 10), ETAG);
+        Assert.assertEquals(ranges, Collections.singletonList("bytes=10-"));
+        Assert.assertEquals(ifRanges, Collections.singletonList(ETAG));
+        String synset =
+                new String(Files.readAllBytes(dir.resolve("synset.txt")), StandardCharsets.UTF_8);
+        Assert.assertEquals(synset, "cat\ndog\n");
+        try (Stream<Path> files = Files.list(dir)) {
+            // the private download file is removed after extraction
+            Assert.assertEquals(files.count(), 1);
+        }
+    }
+
+    @Test
+    public void testResumeChangedFile() throws IOException {
+        String base = "http://localhost:" + server.getAddress().getPort();
+        byte[] stale = new byte[10];
+
+        // the remote file changed since the partial file was downloaded
+        Path dir = downloadWithPart(base + "/changed/testUrl.zip", stale, "\"stale\"");
+        Assert.assertEquals(ifRanges, Collections.singletonList("\"stale\""));
+        Assert.assertTrue(Files.exists(dir.resolve("synset.txt")));
+
+        // without a validator the partial file can't be trusted
+        dir = downloadWithPart(base + "/unknown/testUrl.zip", stale, null);
+        Assert.assertTrue(ranges.isEmpty());
+        Assert.assertTrue(Files.exists(dir.resolve("synset.txt")));
+    }
+
+    private Path downloadWithPart(String url, byte[] data, String validator) throws IOException {
+        ranges.clear();
+        ifRanges.clear();
+        Repository repo = Repository.newInstance("test", url);
+        Assert.assertTrue(repo instanceof SimpleUrlRepository);
+
+        Path blobDir = repo.getCacheDirectory().resolve("blobs");
+        Files.createDirectories(blobDir);
+        String key = AbstractRepository.md5hash(url);
+        Path part = blobDir.resolve(key + ".part");
+        Files.write(part, data);
+        if (validator != null) {
+            Files.write(
+                    blobDir.resolve(key + ".part.validator"),
+                    validator.getBytes(StandardCharsets.UTF_8));
+        }
+
+        List<MRL> list = repo.getResources();
+        Artifact artifact = repo.resolve(list.get(0), null, null);
+        repo.prepare(artifact);
+
+        Assert.assertFalse(Files.exists(part));
+        Assert.assertFalse(Files.exists(blobDir.resolve(key + ".part.validator")));
+        return repo.getResourceDirectory(artifact);
+    }
+
+    @Test
+    public void testSharedBlob() throws IOException, NoSuchAlgorithmException {
+        String base = "http://localhost:" + server.getAddress().getPort();
+        String hash = Hex.toHexString(MessageDigest.getInstance("SHA1").digest(synset));
+        SimpleUrlRepository repo = newRepository(base + "/shared/synset.txt");
+        Artifact first = newArtifact("shared/a/", "synset.txt", hash);
+        Artifact second = newArtifact("shared/b/", "synset.txt", hash);
+        repo.prepare(first);
+        repo.prepare(second);
+
+        // the file is downloaded once and linked into both artifacts
+        Assert.assertEquals(requests.get("/shared/synset.txt").get(), 1);
+        Path blob = repo.getCacheDirectory().resolve("blobs").resolve(hash);
+        Path file = repo.getResourceDirectory(first).resolve("synset.txt");
+        Assert.assertEquals(Files.readAllBytes(file), synset);
+        Assert.assertTrue(Files.isSameFile(file, blob));
+        file = repo.getResourceDirectory(second).resolve("synset.txt");
+        Assert.assertTrue(Files.isSameFile(file, blob));
+
+        // archives are removed from the blob store once they are extracted
+        hash = Hex.toHexString(MessageDigest.getInstance("SHA1").digest(content));
+        repo = newRepository(base + "/shared/testUrl.zip");
+        Artifact archive = newArtifact("shared/c/", "testUrl.zip", hash);
+        repo.prepare(archive);
+        file = repo.getResourceDirectory(archive).resolve("testUrl/synset.txt");
+        Assert.assertEquals(Files.readAllBytes(file), synset);
+        Assert.assertFalse(Files.exists(repo.getCacheDirectory().resolve("blobs").resolve(hash)));
+    }
+
+    @Test
+    public void testConcurrentPrepare()
+            throws IOException, InterruptedException, ExecutionException {
+        String url = "http://localhost:" + server.getAddress().getPort() + "/slow/synset.txt";
+        SimpleUrlRepository repo = newRepository(url);
+        Artifact artifact = newArtifact("concurrent/", "synset.txt", null);
+
+        int threads = 2;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            Future<?>[] futures = new Future<?>[threads];
+            for (int i = 0; i < threads; ++i) {
+                futures[i] =
+                        executor.submit(
+                                () -> {
+                                    start.await();
+                                    repo.prepare(artifact);
+                                    return null;
+                                });
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // the second thread waits for the first one and reuses its download
+        Assert.assertEquals(requests.get("/slow/synset.txt").get(), 1);
+        Path file = repo.getResourceDirectory(artifact).resolve("synset.txt");
+        Assert.assertEquals(Files.readAllBytes(file), synset);
+    }
+
+    private static SimpleUrlRepository newRepository(String url) {
+        return new SimpleUrlRepository("test", URI.create(url), "test", "test");
+    }
+
+    private static Artifact newArtifact(String repositoryUri, String uri, String sha1) {
+        Metadata metadata = new Metadata.MatchAllMetadata();
+        metadata.setRepositoryUri(URI.create(repositoryUri));
+        Artifact artifact = new Artifact();
+        artifact.setMetadata(metadata);
+        Artifact.Item item = new Artifact.Item();
+        item.setUri(uri);
+        item.setSha1Hash(sha1);
+        item.setArtifact(artifact);
+        artifact.setFiles(Collections.singletonMap(uri, item));
+        return artifact;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2021 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.repository.zoo;
+
+import ai.djl.MalformedModelException;
+import ai.djl.Model;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class ModelCacheTest {
+
+    @Test
+    public void testReferenceCount()
+            throws IOException, ModelNotFoundException, MalformedModelException {
+        AtomicInteger loaded = new AtomicInteger();
+        AtomicInteger closed = new AtomicInteger();
+        ModelCache.ModelSupplier supplier = () -> newModel(loaded, closed);
+
+        try (ModelCache cache = new ModelCache(1)) {
+            Model model = cache.acquire("a", supplier);
+            Assert.assertSame(cache.acquire("a", supplier), model);
+            Assert.assertEquals(loaded.get(), 1);
+
+            ZooModel<?, ?> first = new ZooModel<>(model, null, () -> cache.release("a"));
+            first.close();
+            // closing twice must not release the shared model twice
+            first.close();
+            Assert.assertEquals(cache.getIdleCount(), 0);
+            Assert.assertEquals(closed.get(), 0);
+
+            cache.release("a");
+            Assert.assertEquals(cache.getIdleCount(), 1);
+            Assert.assertEquals(closed.get(), 0);
+
+            // an idle model is reused
+            Assert.assertSame(cache.acquire("a", supplier), model);
+            Assert.assertEquals(loaded.get(), 1);
+            cache.release("a");
+
+            // the least recently released model is closed
+            cache.acquire("b", supplier);
+            cache.release("b");
+            Assert.assertEquals(loaded.get(), 2);
+            Assert.assertEquals(closed.get(), 1);
+            Assert.assertEquals(cache.size(), 1);
+        }
+        Assert.assertEquals(closed.get(), 2);
+    }
+
+    @Test
+    public void testLoadFailure() throws IOException, ModelNotFoundException {
+        ModelCache cache = new ModelCache(1);
+        try {
+            cache.acquire(
+                    "a",
+                    () -> {
+                        throw new MalformedModelException("test");
+                    });
+            Assert.fail("MalformedModelException expected");
+        } catch (MalformedModelException e) {
+            Assert.assertEquals(cache.size(), 0);
+        }
+    }
+
+    private static Model newModel(AtomicInteger loaded, AtomicInteger closed) {
+        loaded.incrementAndGet();
+        return (Model)
+                Proxy.newProxyInstance(
+                        ModelCacheTest.class.getClassLoader(),
+                        new Class<?>[] {Model.class},
+                        (proxy, method, args) -> {
+                            if ("close".equals(method.getName())) {
+                                closed.incrementAndGet();
+                            }
+                            return null;
+                        });
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2021 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.training;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class DistributedParameterServerTest {
+
+    private static final int WORLD_SIZE = 3;
+
+    @Test
+    public void testAllReduce() throws IOException, InterruptedException, ExecutionException {
+        String master = "127.0.0.1:" + getFreePort();
+        // 7 values are not evenly split into 3 chunks
+        float[] expected = new float[7];
+        for (int rank = 0; rank < WORLD_SIZE; ++rank) {
+            for (int i = 0; i < expected.length; ++i) {
+                expected[i] += rank * 10 + i;
+            }
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(WORLD_SIZE);
+        try {
+            List<Future<float[][]>> futures = new ArrayList<>();
+            for (int r = 0; r < WORLD_SIZE; ++r) {
+                int rank = r;
+                futures.add(
+                        executor.submit(
+                                () -> {
+                                    try (Transport transport =
+                                            new TcpTransport(rank, WORLD_SIZE, master, 10_000)) {
+                                        float[] data = new float[7];
+                                        for (int i = 0; i < data.length; ++i) {
+                                            data[i] = rank * 10 + i;
+                                        }
+                                        DistributedParameterServer.allReduce(transport, data);
+                                        // reduces again to reuse the connections
+                                        float[] ones = {1, 1};
+                                        DistributedParameterServer.allReduce(transport, ones);
+
+                                        float[] broadcast = {rank, rank + 1f};
+                                        DistributedParameterServer.broadcast(transport, broadcast);
+                                        return new float[][] {data, ones, broadcast};
+                                    }
+                                }));
+            }
+            for (Future<float[][]> future : futures) {
+                float[][] result = future.get();
+                Assert.assertEquals(result[0], expected);
+                Assert.assertEquals(result[1], new float[] {WORLD_SIZE, WORLD_SIZE});
+                Assert.assertEquals(result[2], new float[] {0, 1});
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testOverflowOnOneRank()
+            throws IOException, InterruptedException, ExecutionException {
+        String master = "127.0.0.1:" + getFreePort();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<boolean[]>> futures = new ArrayList<>();
+            for (int r = 0; r < 2; ++r) {
+                int rank = r;
+                futures.add(
+                        executor.submit(
+                                () -> {
+                                    Transport transport = new TcpTransport(rank, 2, master, 10_000);
+                                    try (ParameterServer ps =
+                                            new DistributedParameterServer(null, transport)) {
+                                        // only rank 1 overflows, both ranks skip the step
+                                        boolean first = ps.isFiniteOnAllProcesses(rank != 1);
+                                        // the ranks are still in step for the next exchange
+                                        boolean second = ps.isFiniteOnAllProcesses(true);
+                                        float[] data = {rank};
+                                        DistributedParameterServer.allReduce(transport, data);
+                                        return new boolean[] {first, second, data[0] == 1};
+                                    }
+                                }));
+            }
+            for (Future<boolean[]> future : futures) {
+                Assert.assertEquals(future.get(), new boolean[] {false, true, true});
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidRank() {
+        new TcpTransport(2, 2, "127.0.0.1:29500").close();
+    }
+
+    private static int getFreePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
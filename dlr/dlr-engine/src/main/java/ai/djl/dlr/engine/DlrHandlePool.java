@@ -0,0 +1,119 @@
+/*
+ * Copyright 2021 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.dlr.engine;
+
+import ai.djl.Device;
+import ai.djl.dlr.jni.JniUtils;
+import ai.djl.engine.EngineException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A bounded pool of native DLR model handles shared by the predictors of a {@link DlrModel}.
+ *
+ * <p>A DLR model handle holds its own copy of the weights and can only run one inference at a time.
+ * Instead of a handle per predictor, the predictors borrow a handle for each forward pass. Handles
+ * are created on demand up to the pool size, after that a forward pass waits for a handle to be
+ * returned.
+ */
+final class DlrHandlePool implements AutoCloseable {
+
+    private String modelDir;
+    private Device device;
+    private int maxSize;
+    private AtomicInteger size;
+    private LinkedBlockingQueue<Long> idle;
+    private volatile boolean closed;
+
+    /**
+     * Constructs a {@code DlrHandlePool}.
+     *
+     * @param modelDir the path to the model artifacts
+     * @param device the device that the model use
+     * @param maxSize the maximum number of handles
+     */
+    DlrHandlePool(String modelDir, Device device, int maxSize) {
+        this.modelDir = modelDir;
+        this.device = device;
+        this.maxSize = maxSize;
+        size = new AtomicInteger();
+        idle = new LinkedBlockingQueue<>();
+    }
+
+    /**
+     * Borrows a handle from the pool, waiting if all handles are in use.
+     *
+     * @return the handle of the native DLR model
+     */
+    long borrow() {
+        if (closed) {
+            throw new IllegalStateException("The model has been closed.");
+        }
+        Long handle = idle.poll();
+        if (handle != null) {
+            return handle;
+        }
+        if (size.getAndIncrement() < maxSize) {
+            try {
+                return newHandle(modelDir, device);
+            } catch (RuntimeException e) {
+                size.decrementAndGet();
+                throw e;
+            }
+        }
+        size.decrementAndGet();
+        try {
+            return idle.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EngineException("Interrupted while waiting for a DLR model handle", e);
+        }
+    }
+
+    /**
+     * Returns a handle to the pool.
+     *
+     * @param handle the handle borrowed from this pool
+     */
+    synchronized void release(long handle) {
+        if (closed) {
+            JniUtils.deleteDlrModel(handle);
+            return;
+        }
+        idle.add(handle);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        Long handle;
+        while ((handle = idle.poll()) != null) {
+            JniUtils.deleteDlrModel(handle);
+        }
+    }
+
+    /**
+     * Creates a new native DLR model handle.
+     *
+     * @param modelDir the path to the model artifacts
+     * @param device the device that the model use
+     * @return the handle of the native DLR model
+     */
+    static long newHandle(String modelDir, Device device) {
+        long handle = JniUtils.createDlrModel(modelDir, device);
+        // disable cpu affinity by default
+        JniUtils.useDlrCpuAffinity(handle, false);
+        return handle;
+    }
+}
@@ -34,6 +34,7 @@ import java.util.Map;
 public class DlrModel extends BaseModel {
 
     private Device predictorDevice;
+    private DlrHandlePool handlePool;
 
     /**
      * Constructs a new Model on a given device.
@@ -51,7 +52,28 @@ public class DlrModel extends BaseModel {
         this.predictorDevice = device;
     }
 
-    /** {@inheritDoc} */
+    /**
+     * Loads the DLR model from a specified location.
+     *
+     * <p>Each {@link Predictor} of a DLR model creates its own native model handle with a copy of
+     * the weights, because DLR can only run one inference at a time on a handle. To bound the
+     * memory used by many predictors, set the {@code handlePoolSize} option. The predictors then
+     * share a pool of at most that many handles, and a prediction waits when all of them are in
+     * use:
+     *
+     * <pre>
+     * Criteria&lt;Image, Classifications&gt; criteria = Criteria.builder()
+     *         .setTypes(Image.class, Classifications.class)
+     *         .optEngine("DLR")
+     *         <b>.optOption("handlePoolSize", "2")</b>
+     *         .build();
+     * </pre>
+     *
+     * @param modelPath the directory of the model
+     * @param prefix the model file name or path prefix
+     * @param options load model options, see documentation for the specific engine
+     * @throws IOException Exception for file loading
+     */
     @Override
     public void load(Path modelPath, String prefix, Map<String, ?> options) throws IOException {
         modelDir = modelPath.toAbsolutePath();
@@ -62,6 +84,12 @@ public class DlrModel extends BaseModel {
             throw new UnsupportedOperationException("DLR does not support dynamic blocks");
         }
         checkModelFiles(prefix);
+        if (options != null && options.containsKey("handlePoolSize")) {
+            int poolSize = Integer.parseInt(options.get("handlePoolSize").toString());
+            if (poolSize > 0) {
+                handlePool = new DlrHandlePool(modelDir.toString(), predictorDevice, poolSize);
+            }
+        }
     }
 
     /** {@inheritDoc} */
@@ -70,6 +98,20 @@ public class DlrModel extends BaseModel {
         return new DlrPredictor<>(this, modelDir.toString(), predictorDevice, translator);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        if (handlePool != null) {
+            handlePool.close();
+            handlePool = null;
+        }
+        super.close();
+    }
+
+    DlrHandlePool getHandlePool() {
+        return handlePool;
+    }
+
     private void checkModelFiles(String prefix) throws IOException {
         String libExt;
         String os = System.getProperty("os.name").toLowerCase();
@@ -13,7 +13,6 @@
 package ai.djl.dlr.engine;
 
 import ai.djl.Device;
-import ai.djl.dlr.jni.JniUtils;
 import ai.djl.inference.Predictor;
 import ai.djl.translate.Translator;
 
@@ -21,7 +20,8 @@ import ai.djl.translate.Translator;
  * {@code DlrPredictor} is special implementation of {@link Predictor} for DLR.
  *
  * <p>The native Dlr doesn't support multi-threading feature, when creating a new DlrPredictor, we
- * copy the Dlr model handle to workaround the issue.
+ * copy the Dlr model handle to workaround the issue. If the model is loaded with the {@code
+ * handlePoolSize} option, the predictors share a bounded pool of handles instead.
  */
 public class DlrPredictor<I, O> extends Predictor<I, O> {
     /**
@@ -35,10 +35,12 @@ public class DlrPredictor<I, O> extends Predictor<I, O> {
     public DlrPredictor(
             DlrModel model, String modelDir, Device device, Translator<I, O> translator) {
         super(model, translator, false);
-        long modelHandle = JniUtils.createDlrModel(modelDir, device);
-        block = new DlrSymbolBlock(modelHandle);
-        // disable cpu affinity by default
-        JniUtils.useDlrCpuAffinity(modelHandle, false);
+        DlrHandlePool pool = model.getHandlePool();
+        if (pool != null) {
+            block = new DlrSymbolBlock(pool);
+        } else {
+            block = new DlrSymbolBlock(DlrHandlePool.newHandle(modelDir, device));
+        }
     }
 
     /** {@inheritDoc} */
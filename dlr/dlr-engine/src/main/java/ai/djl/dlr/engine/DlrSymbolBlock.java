@@ -33,6 +33,7 @@ public class DlrSymbolBlock extends AbstractSymbolBlock implements AutoCloseable
     private static final byte VERSION = 1;
 
     private AtomicReference<Long> handle;
+    private DlrHandlePool pool;
 
     /**
      * Constructs a {@code DlrSymbolBlock}.
@@ -47,6 +48,18 @@ public class DlrSymbolBlock extends AbstractSymbolBlock implements AutoCloseable
         this.handle = new AtomicReference<>(handle);
     }
 
+    /**
+     * Constructs a {@code DlrSymbolBlock} that borrows a native DLR model handle from a shared pool
+     * for each forward pass.
+     *
+     * @param pool the pool of native DLR model handles
+     */
+    DlrSymbolBlock(DlrHandlePool pool) {
+        super(VERSION);
+        this.pool = pool;
+        this.handle = new AtomicReference<>();
+    }
+
     /** {@inheritDoc} */
     @Override
     protected NDList forwardInternal(
@@ -54,7 +67,18 @@ public class DlrSymbolBlock extends AbstractSymbolBlock implements AutoCloseable
             NDList inputs,
             boolean training,
             PairList<String, Object> params) {
-        long modelHandle = handle.get();
+        if (pool != null) {
+            long modelHandle = pool.borrow();
+            try {
+                return forward(modelHandle, inputs);
+            } finally {
+                pool.release(modelHandle);
+            }
+        }
+        return forward(handle.get(), inputs);
+    }
+
+    private NDList forward(long modelHandle, NDList inputs) {
         NDManager manager = inputs.head().getManager();
         // TODO maybe verify the number of inputs
         // currently we assume the order of the input NDList is the same
@@ -16,9 +16,11 @@ import ai.djl.ModelException;
 import ai.djl.examples.inference.benchmark.util.AbstractBenchmark;
 import ai.djl.examples.inference.benchmark.util.Arguments;
 import ai.djl.inference.Predictor;
+import ai.djl.inference.PredictorPool;
 import ai.djl.metric.Metrics;
 import ai.djl.repository.zoo.ZooModel;
 import ai.djl.training.listener.MemoryTrainingListener;
+import ai.djl.translate.TranslateException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
@@ -45,7 +47,7 @@ public class MultithreadedBenchmark extends AbstractBenchmark {
     /** {@inheritDoc} */
     @Override
     public Object predict(Arguments arguments, Metrics metrics, int iteration)
-            throws IOException, ModelException {
+            throws IOException, ModelException, TranslateException {
 
         MemoryTrainingListener.collectMemoryInfo(metrics); // Measure memory before loading model
 
@@ -56,10 +58,11 @@ public class MultithreadedBenchmark extends AbstractBenchmark {
         int delay = arguments.getDelay();
         AtomicInteger counter = new AtomicInteger(iteration);
         logger.info("Multithreaded inference with {} threads.", numOfThreads);
+        PredictorPool<?, ?> pool = newPredictorPool(model, numOfThreads, metrics);
 
         List<PredictorCallable> callables = new ArrayList<>(numOfThreads);
         for (int i = 0; i < numOfThreads; ++i) {
-            callables.add(new PredictorCallable(model, inputData, metrics, counter, i, i == 0));
+            callables.add(new PredictorCallable(pool, inputData, metrics, counter, i, i == 0));
         }
 
         Object classification = null;
@@ -91,9 +94,6 @@ public class MultithreadedBenchmark extends AbstractBenchmark {
             } catch (InterruptedException | ExecutionException e) {
                 logger.error("", e);
             }
-            for (PredictorCallable callable : callables) {
-                callable.close();
-            }
         } finally {
             executorService.shutdown();
         }
@@ -107,10 +107,23 @@ public class MultithreadedBenchmark extends AbstractBenchmark {
         return classification;
     }
 
+    private static <I, O> PredictorPool<I, O> newPredictorPool(
+            ZooModel<I, O> model, int size, Metrics metrics) throws TranslateException {
+        // prepare all predictors before the measurement starts
+        PredictorPool<I, O> pool =
+                PredictorPool.builder(model, model.getTranslator())
+                        .optMaxSize(size)
+                        .optWarmup(size)
+                        .optMetrics(metrics)
+                        .build();
+        model.setPredictorPool(pool);
+        return pool;
+    }
+
     private static class PredictorCallable implements Callable<Object> {
 
         @SuppressWarnings("rawtypes")
-        private Predictor predictor;
+        private PredictorPool pool;
 
         private Object inputData;
         private Metrics metrics;
@@ -121,19 +134,18 @@ public class MultithreadedBenchmark extends AbstractBenchmark {
         private int steps;
 
         public PredictorCallable(
-                ZooModel<?, ?> model,
+                PredictorPool<?, ?> pool,
                 Object inputData,
                 Metrics metrics,
                 AtomicInteger counter,
                 int workerId,
                 boolean collectMemory) {
-            this.predictor = model.newPredictor();
+            this.pool = pool;
             this.inputData = inputData;
             this.metrics = metrics;
             this.counter = counter;
             this.workerId = String.format("%02d", workerId);
             this.collectMemory = collectMemory;
-            predictor.setMetrics(metrics);
             total = counter.get();
             if (total < 10) {
                 steps = 1;
@@ -144,34 +156,36 @@ public class MultithreadedBenchmark extends AbstractBenchmark {
 
         /** {@inheritDoc} */
         @Override
-        @SuppressWarnings("unchecked")
+        @SuppressWarnings({"unchecked", "rawtypes"})
         public Object call() throws Exception {
-            Object result = null;
-            int count = 0;
-            int remaining;
-            while ((remaining = counter.decrementAndGet()) > 0 || result == null) {
-                try {
-                    result = predictor.predict(inputData);
-                } catch (Exception e) {
-                    // stop immediately when we find any exception
-                    counter.set(0);
-                    throw e;
-                }
-                if (collectMemory) {
-                    MemoryTrainingListener.collectMemoryInfo(metrics);
-                }
-                int processed = total - remaining + 1;
-                logger.trace("Worker-{}: {} iteration finished.", workerId, ++count);
-                if (processed % steps == 0 || processed == total) {
-                    logger.info("Completed {} requests", processed);
+            Predictor predictor = pool.borrow();
+            predictor.setMetrics(metrics);
+            try {
+                Object result = null;
+                int count = 0;
+                int remaining;
+                while ((remaining = counter.decrementAndGet()) > 0 || result == null) {
+                    try {
+                        result = predictor.predict(inputData);
+                    } catch (Exception e) {
+                        // stop immediately when we find any exception
+                        counter.set(0);
+                        throw e;
+                    }
+                    if (collectMemory) {
+                        MemoryTrainingListener.collectMemoryInfo(metrics);
+                    }
+                    int processed = total - remaining + 1;
+                    logger.trace("Worker-{}: {} iteration finished.", workerId, ++count);
+                    if (processed % steps == 0 || processed == total) {
+                        logger.info("Completed {} requests", processed);
+                    }
                 }
+                logger.debug("Worker-{}: finished.", workerId);
+                return result;
+            } finally {
+                pool.release(predictor);
             }
-            logger.debug("Worker-{}: finished.", workerId);
-            return result;
-        }
-
-        public void close() {
-            predictor.close();
         }
     }
 }
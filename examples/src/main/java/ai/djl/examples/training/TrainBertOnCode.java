@@ -73,7 +73,9 @@ public final class TrainBertOnCode {
     private static final int MAX_MASKING_PER_INSTANCE = 20;
     private static final int BATCH_SIZE = 48;
     private static final int EPOCHS = 10;
-    private static final BertBlock.Builder BERT_BUILDER = BertBlock.builder().micro();
+    // recomputing the transformer activations keeps the batch size within the GPU memory
+    private static final BertBlock.Builder BERT_BUILDER =
+            BertBlock.builder().micro().optCheckpointing(true);
 
     private TrainBertOnCode() {}
 
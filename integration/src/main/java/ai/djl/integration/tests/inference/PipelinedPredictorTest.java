@@ -0,0 +1,79 @@
+/*
+ * Copyright 2021 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.integration.tests.inference;
+
+import ai.djl.Model;
+import ai.djl.inference.PipelinedPredictor;
+import ai.djl.ndarray.NDList;
+import ai.djl.nn.LambdaBlock;
+import ai.djl.translate.Batchifier;
+import ai.djl.translate.Translator;
+import ai.djl.translate.TranslatorContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class PipelinedPredictorTest {
+
+    @Test
+    public void testPredictAsync() throws ExecutionException, InterruptedException {
+        try (Model model = Model.newInstance("model")) {
+            model.setBlock(LambdaBlock.singleton(array -> array.mul(2)));
+            try (PipelinedPredictor<float[], float[]> p =
+                    PipelinedPredictor.<float[], float[]>builder()
+                            .setModel(model)
+                            .setTranslator(new DoubleTranslator())
+                            .optPreprocessThreads(2)
+                            .optPostprocessThreads(2)
+                            .optMaxBatchSize(4)
+                            .optQueueCapacity(8)
+                            .build()) {
+                List<float[]> inputs = new ArrayList<>();
+                for (int i = 0; i < 20; ++i) {
+                    inputs.add(new float[] {i, i + 1});
+                }
+                List<float[]> outputs = p.batchPredictAsync(inputs).get();
+                Assert.assertEquals(outputs.size(), inputs.size());
+                for (int i = 0; i < outputs.size(); ++i) {
+                    Assert.assertEquals(outputs.get(i), new float[] {2f * i, 2f * (i + 1)});
+                }
+
+                float[] single = p.predictAsync(new float[] {1, 2}).get();
+                Assert.assertEquals(single, new float[] {2, 4});
+            }
+        }
+    }
+
+    private static final class DoubleTranslator implements Translator<float[], float[]> {
+
+        /** {@inheritDoc} */
+        @Override
+        public NDList processInput(TranslatorContext ctx, float[] input) {
+            return new NDList(ctx.getNDManager().create(input));
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public float[] processOutput(TranslatorContext ctx, NDList list) {
+            return list.singletonOrThrow().toFloatArray();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Batchifier getBatchifier() {
+            return Batchifier.STACK;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2021 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.integration.tests.inference;
+
+import ai.djl.Model;
+import ai.djl.inference.Predictor;
+import ai.djl.inference.PredictorPool;
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDList;
+import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.types.Shape;
+import ai.djl.nn.LambdaBlock;
+import ai.djl.translate.Batchifier;
+import ai.djl.translate.NoopTranslator;
+import ai.djl.translate.TranslateException;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class PredictorPoolTest {
+
+    @Test
+    public void testBorrowAndRelease() throws InterruptedException, TranslateException {
+        try (Model model = Model.newInstance("model");
+                NDManager manager = NDManager.newBaseManager()) {
+            model.setBlock(LambdaBlock.singleton(array -> array.add(1)));
+            try (PredictorPool<NDList, NDList> pool =
+                    PredictorPool.builder(model, new NoopTranslator(Batchifier.STACK))
+                            .optMaxSize(2)
+                            .optWarmup(1)
+                            .build()) {
+                Assert.assertEquals(pool.getIdleCount(), 1);
+
+                Predictor<NDList, NDList> first = pool.borrow();
+                Predictor<NDList, NDList> second = pool.borrow();
+                Assert.assertEquals(pool.getActiveCount(), 2);
+                Assert.assertNull(pool.borrow(10, TimeUnit.MILLISECONDS));
+
+                NDArray array = manager.zeros(new Shape(2));
+                NDList result = first.predict(new NDList(array));
+                Assert.assertEquals(result.singletonOrThrow(), manager.ones(array.getShape()));
+
+                pool.release(first);
+                Assert.assertSame(pool.borrow(), first);
+                pool.release(first);
+                pool.release(second);
+                Assert.assertEquals(pool.getActiveCount(), 0);
+                Assert.assertEquals(pool.getIdleCount(), 2);
+            }
+        }
+    }
+}
@@ -19,7 +19,9 @@ import ai.djl.ndarray.NDManager;
 import ai.djl.ndarray.types.DataType;
 import ai.djl.ndarray.types.Shape;
 import ai.djl.testing.Assertions;
+import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.util.Random;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -47,4 +49,55 @@ public class BufferedImageFactoryTest {
             Assertions.assertAlmostEquals(array, converted);
         }
     }
+
+    @Test
+    public void testImageTypes() {
+        int[] types = {
+            BufferedImage.TYPE_3BYTE_BGR,
+            BufferedImage.TYPE_4BYTE_ABGR,
+            BufferedImage.TYPE_INT_RGB,
+            BufferedImage.TYPE_INT_ARGB,
+            BufferedImage.TYPE_USHORT_565_RGB
+        };
+        float[] mean = {0.485f, 0.456f, 0.406f};
+        float[] std = {0.229f, 0.224f, 0.225f};
+        Random random = new Random(0);
+        ImageFactory factory = ImageFactory.getInstance();
+        try (NDManager manager = NDManager.newBaseManager()) {
+            for (int type : types) {
+                BufferedImage full = new BufferedImage(13, 9, type);
+                for (int y = 0; y < full.getHeight(); ++y) {
+                    for (int x = 0; x < full.getWidth(); ++x) {
+                        full.setRGB(x, y, random.nextInt() | 0xFF000000);
+                    }
+                }
+                // sub images share the raster of their parent with an offset
+                BufferedImage sub = full.getSubimage(3, 2, 7, 5);
+                for (BufferedImage img : new BufferedImage[] {full, sub}) {
+                    int width = img.getWidth();
+                    int height = img.getHeight();
+                    int[] pixels = img.getRGB(0, 0, width, height, null, 0, width);
+                    byte[] expected = new byte[pixels.length * 3];
+                    for (int i = 0; i < pixels.length; ++i) {
+                        expected[i * 3] = (byte) (pixels[i] >> 16);
+                        expected[i * 3 + 1] = (byte) (pixels[i] >> 8);
+                        expected[i * 3 + 2] = (byte) pixels[i];
+                    }
+                    Image image = factory.fromImage(img);
+                    NDArray array = image.toNDArray(manager);
+                    Assert.assertEquals(array.getShape(), new Shape(height, width, 3));
+                    Assert.assertEquals(array.toByteArray(), expected);
+
+                    NDArray tensor = image.toTensor(manager, Image.Flag.COLOR, mean, std);
+                    NDArray expectedTensor =
+                            array.transpose(2, 0, 1)
+                                    .toType(DataType.FLOAT32, false)
+                                    .div(255)
+                                    .sub(manager.create(mean, new Shape(3, 1, 1)))
+                                    .div(manager.create(std, new Shape(3, 1, 1)));
+                    Assertions.assertAlmostEquals(tensor, expectedTensor);
+                }
+            }
+        }
+    }
 }
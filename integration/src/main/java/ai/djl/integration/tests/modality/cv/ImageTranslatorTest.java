@@ -0,0 +1,103 @@
+/*
+ * Copyright 2021 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.integration.tests.modality.cv;
+
+import ai.djl.Model;
+import ai.djl.inference.Predictor;
+import ai.djl.modality.cv.Image;
+import ai.djl.modality.cv.ImageFactory;
+import ai.djl.modality.cv.transform.Normalize;
+import ai.djl.modality.cv.transform.ToTensor;
+import ai.djl.modality.cv.translator.BaseImageTranslator;
+import ai.djl.ndarray.NDList;
+import ai.djl.ndarray.NDManager;
+import ai.djl.nn.Blocks;
+import ai.djl.translate.Pipeline;
+import ai.djl.translate.TranslateException;
+import ai.djl.translate.TranslatorContext;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class ImageTranslatorTest {
+
+    @Test
+    public void testProcessInput() throws TranslateException {
+        BufferedImage img = new BufferedImage(7, 5, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(0);
+        for (int y = 0; y < img.getHeight(); ++y) {
+            for (int x = 0; x < img.getWidth(); ++x) {
+                img.setRGB(x, y, random.nextInt());
+            }
+        }
+        Image image = ImageFactory.getInstance().fromImage(img);
+        float[] mean = {0.485f, 0.456f, 0.406f};
+        float[] std = {0.229f, 0.224f, 0.225f};
+
+        // ToTensor and Normalize are fused, the rest of the pipeline still applies
+        checkProcessInput(
+                image,
+                Image.Flag.COLOR,
+                new Pipeline(new ToTensor(), new Normalize(mean, std), a -> a.mul(2)));
+        // only ToTensor is fused
+        checkProcessInput(image, Image.Flag.COLOR, new Pipeline(new ToTensor()));
+        // a grayscale image has a single channel
+        Normalize normalize = new Normalize(new float[] {0.5f}, new float[] {0.25f});
+        checkProcessInput(image, Image.Flag.GRAYSCALE, new Pipeline(new ToTensor(), normalize));
+    }
+
+    private static void checkProcessInput(Image image, Image.Flag flag, Pipeline pipeline)
+            throws TranslateException {
+        TensorTranslator translator =
+                new TensorTranslator.Builder().optFlag(flag).setPipeline(pipeline).build();
+        try (Model model = Model.newInstance("model")) {
+            model.setBlock(Blocks.identityBlock());
+            try (Predictor<Image, float[]> predictor = model.newPredictor(translator)) {
+                float[] actual = predictor.predict(image);
+
+                NDManager manager = model.getNDManager();
+                // the pipeline applied to the image array without the fused conversion
+                NDList expected = pipeline.transform(new NDList(image.toNDArray(manager, flag)));
+                Assert.assertEquals(actual, expected.singletonOrThrow().toFloatArray(), 1e-5f);
+            }
+        }
+    }
+
+    private static final class TensorTranslator extends BaseImageTranslator<float[]> {
+
+        TensorTranslator(Builder builder) {
+            super(builder);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public float[] processOutput(TranslatorContext ctx, NDList list) {
+            return list.singletonOrThrow().toFloatArray();
+        }
+
+        static final class Builder extends BaseBuilder<Builder> {
+
+            /** {@inheritDoc} */
+            @Override
+            protected Builder self() {
+                return this;
+            }
+
+            TensorTranslator build() {
+                validate();
+                return new TensorTranslator(this);
+            }
+        }
+    }
+}
@@ -12,8 +12,16 @@
  */
 package ai.djl.integration.tests.ndarray;
 
+import ai.djl.ndarray.MappedNDList;
+import ai.djl.ndarray.NDArray;
 import ai.djl.ndarray.NDList;
 import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.types.DataType;
+import ai.djl.ndarray.types.Shape;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -54,4 +62,35 @@ public class NDListTest {
                     });
         }
     }
+
+    @Test
+    public void testMappedNDList() throws IOException {
+        Path file = Files.createTempFile("ndlist", ".ndlm");
+        try (NDManager manager = NDManager.newBaseManager()) {
+            NDArray weight = manager.arange(12f).reshape(3, 4);
+            weight.setName("weight");
+            NDArray bias = manager.ones(new Shape(4), DataType.INT64);
+            NDArray empty = manager.create(new Shape(0));
+            MappedNDList.write(new NDList(weight, bias, empty), file);
+
+            try (MappedNDList mapped = MappedNDList.open(file)) {
+                Assert.assertEquals(mapped.size(), 3);
+                Assert.assertEquals(mapped.getNames(), Arrays.asList("weight", null, null));
+                Assert.assertEquals(mapped.getShape(1), new Shape(4));
+                Assert.assertEquals(mapped.getDataType(1), DataType.INT64);
+                Assert.assertEquals(mapped.get(manager, "weight"), weight);
+                Assert.assertNull(mapped.get(manager, "unknown"));
+
+                NDList list = mapped.toNDList(manager);
+                Assert.assertEquals(list.get(0).getName(), "weight");
+                Assert.assertEquals(list.get(1), bias);
+                Assert.assertEquals(list.get(2).getShape(), new Shape(0));
+            }
+
+            Files.write(file, new byte[] {78, 68, 76, 77, 0, 0, 0, 2});
+            Assert.assertThrows(IllegalArgumentException.class, () -> MappedNDList.open(file));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2021 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.integration.tests.ndarray;
+
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDArrayAdapter;
+import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.types.DataType;
+import ai.djl.ndarray.types.Shape;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class NDManagerTest {
+
+    private static final float[] DATA = {1f, 2f, 3f, 4f, 5f, 6f};
+    private static final Shape SHAPE = new Shape(2, 3);
+
+    @Test
+    public void testFrom() {
+        try (NDManager manager = NDManager.newBaseManager()) {
+            NDArray array = manager.create(DATA, SHAPE);
+            Assert.assertSame(manager.from(array), array);
+
+            HeapNDArray foreign = new HeapNDArray(DATA, SHAPE);
+            NDArray converted = manager.from(foreign);
+            // the data is copied, changes to the source are not visible
+            foreign.close();
+            Assert.assertSame(converted.getManager().getEngine(), manager.getEngine());
+            Assert.assertEquals(converted.getShape(), SHAPE);
+            Assert.assertEquals(converted.getDataType(), DataType.FLOAT32);
+            Assert.assertEquals(converted.toFloatArray(), DATA);
+        }
+    }
+
+    @Test
+    public void testCreateFromDirectBuffer() {
+        try (NDManager manager = NDManager.newBaseManager()) {
+            FloatBuffer data = manager.allocateDirect(DATA.length * 4).asFloatBuffer();
+            data.put(DATA);
+            data.rewind();
+            NDArray array = manager.create(data, SHAPE);
+            Assert.assertEquals(array.getShape(), SHAPE);
+            Assert.assertEquals(array.toFloatArray(), DATA);
+        }
+    }
+
+    @Test
+    public void testAsDirectByteBuffer() {
+        try (NDManager manager = NDManager.newBaseManager()) {
+            ByteBuffer bb = manager.create(DATA, SHAPE).asDirectByteBuffer();
+            Assert.assertTrue(bb.isDirect());
+            Assert.assertEquals(bb.order(), ByteOrder.nativeOrder());
+            float[] values = new float[DATA.length];
+            bb.asFloatBuffer().get(values);
+            Assert.assertEquals(values, DATA);
+        }
+    }
+
+    /** An {@code NDArray} of no engine that keeps its data on the Java heap. */
+    private static final class HeapNDArray implements NDArrayAdapter {
+
+        private ByteBuffer data;
+        private Shape shape;
+
+        HeapNDArray(float[] values, Shape shape) {
+            data = ByteBuffer.allocate(values.length * 4).order(ByteOrder.nativeOrder());
+            data.asFloatBuffer().put(values);
+            this.shape = shape;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public NDManager getManager() {
+            // a manager without an engine, the array is foreign to every engine
+            return (NDManager)
+                    Proxy.newProxyInstance(
+                            NDManager.class.getClassLoader(),
+                            new Class<?>[] {NDManager.class},
+                            (proxy, method, args) -> {
+                                if ("getEngine".equals(method.getName())) {
+                                    return null;
+                                }
+                                throw new UnsupportedOperationException(method.getName());
+                            });
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public DataType getDataType() {
+            return DataType.FLOAT32;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Shape getShape() {
+            return shape;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public ByteBuffer toByteBuffer() {
+            return data.duplicate().order(ByteOrder.nativeOrder());
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public ByteBuffer asDirectByteBuffer() {
+            ByteBuffer bb = ByteBuffer.allocateDirect(data.capacity());
+            bb.order(ByteOrder.nativeOrder()).put(toByteBuffer()).rewind();
+            return bb;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void close() {
+            // overwrites the data so that a shared buffer would be noticed
+            data.asFloatBuffer().put(new float[data.capacity() / 4]);
+        }
+    }
+}
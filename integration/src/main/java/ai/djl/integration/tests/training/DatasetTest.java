@@ -298,6 +298,46 @@ public class DatasetTest {
         }
     }
 
+    @Test
+    public void testParallelLoading() throws IOException, InterruptedException, TranslateException {
+        try (Model model = Model.newInstance("model")) {
+            model.setBlock(Blocks.identityBlock());
+            NDManager manager = model.getNDManager();
+
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+
+            NDArray data = manager.arange(200).reshape(100, 2);
+            NDArray label = manager.arange(100).reshape(100);
+            // a single batch exceeds the byte limit, so only one batch is prefetched at a time
+            ArrayDataset dataset =
+                    new ArrayDataset.Builder()
+                            .setData(data)
+                            .optLabels(label)
+                            .setSampling(20, false)
+                            .optExecutor(executor, 4)
+                            .optParallelLoading(true)
+                            .optPrefetchBytes(1)
+                            .build();
+
+            int index = 0;
+            try (Trainer trainer = model.newTrainer(config)) {
+                for (Batch batch : trainer.iterateDataset(dataset)) {
+                    Assert.assertEquals(
+                            batch.getData().singletonOrThrow(),
+                            manager.arange(2 * index, 2 * index + 40).reshape(20, 2));
+                    Assert.assertEquals(
+                            batch.getLabels().singletonOrThrow(),
+                            manager.arange(index, index + 20).reshape(20));
+                    index += 20;
+                    batch.close();
+                }
+            }
+            Assert.assertEquals(index, 100);
+            executor.shutdown();
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.SECONDS);
+        }
+    }
+
     @Test
     public void testDatasetToArray() throws IOException, TranslateException {
         try (NDManager manager = NDManager.newBaseManager()) {
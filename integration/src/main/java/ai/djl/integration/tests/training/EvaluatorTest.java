@@ -20,6 +20,7 @@ import ai.djl.ndarray.types.Shape;
 import ai.djl.training.evaluator.AbstractAccuracy;
 import ai.djl.training.evaluator.Accuracy;
 import ai.djl.training.evaluator.TopKAccuracy;
+import ai.djl.training.loss.Loss;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -89,4 +90,34 @@ public class EvaluatorTest {
                     "Wrong accuracy, expected: " + expectedAccuracy + ", actual: " + accuracy);
         }
     }
+
+    @Test
+    public void testAccumulateOnDevice() {
+        try (NDManager manager = NDManager.newBaseManager()) {
+            NDArray predictions =
+                    manager.create(new float[] {0.3f, 0.7f, 0, 1, 0.4f, 0.6f}, new Shape(3, 2));
+            NDArray labels = manager.create(new int[] {0, 1, 1}, new Shape(3));
+
+            Accuracy acc = new Accuracy();
+            acc.setAccumulateOnDevice(true);
+            acc.addAccumulator("");
+            acc.updateAccumulator("", new NDList(labels), new NDList(predictions));
+            acc.updateAccumulator("", new NDList(labels), new NDList(predictions));
+            Assert.assertEquals(acc.getAccumulator(""), 2.f / 3);
+            // reading the accumulator again must not count the updates twice
+            Assert.assertEquals(acc.getAccumulator(""), 2.f / 3);
+
+            acc.resetAccumulator("");
+            acc.updateAccumulator("", new NDList(labels), new NDList(predictions.neg()));
+            Assert.assertEquals(acc.getAccumulator(""), 1.f / 3);
+
+            Loss loss = Loss.l1Loss();
+            loss.setAccumulateOnDevice(true);
+            loss.addAccumulator("");
+            NDArray target = manager.create(new float[] {1, 2, 3});
+            loss.updateAccumulator("", new NDList(target), new NDList(target.add(1)));
+            loss.updateAccumulator("", new NDList(target), new NDList(target.add(3)));
+            Assert.assertEquals(loss.getAccumulator(""), 2f);
+        }
+    }
 }
@@ -13,12 +13,19 @@
 package ai.djl.integration.tests.training;
 
 import ai.djl.Model;
+import ai.djl.engine.Engine;
 import ai.djl.ndarray.NDArray;
 import ai.djl.ndarray.NDArrays;
+import ai.djl.ndarray.NDList;
 import ai.djl.ndarray.NDManager;
 import ai.djl.ndarray.types.DataType;
 import ai.djl.ndarray.types.Shape;
+import ai.djl.nn.Activation;
+import ai.djl.nn.Block;
 import ai.djl.nn.Blocks;
+import ai.djl.nn.CheckpointBlock;
+import ai.djl.nn.Parameter;
+import ai.djl.nn.SequentialBlock;
 import ai.djl.nn.core.Linear;
 import ai.djl.testing.Assertions;
 import ai.djl.training.DefaultTrainingConfig;
@@ -137,4 +144,92 @@ public class GradientCollectorIntegrationTest {
                             lossValue, expectedLoss));
         }
     }
+
+    @Test
+    public void testCheckpointBlock() {
+        float[][] gradients = new float[2][];
+        for (int i = 0; i < gradients.length; ++i) {
+            boolean checkpoint = i == 1;
+            Block hidden =
+                    new SequentialBlock()
+                            .add(Linear.builder().setUnits(4).build())
+                            .add(Activation::relu)
+                            .add(Linear.builder().setUnits(4).build());
+            Block block =
+                    new SequentialBlock()
+                            .add(Linear.builder().setUnits(4).build())
+                            .add(checkpoint ? new CheckpointBlock(hidden) : hidden)
+                            .add(
+                                    checkpoint
+                                            ? new CheckpointBlock(
+                                                    Linear.builder().setUnits(2).build())
+                                            : Linear.builder().setUnits(2).build());
+            gradients[i] = computeGradients(block);
+        }
+        // the recomputed gradients are the same as the gradients of the plain blocks
+        Assert.assertEquals(gradients[1], gradients[0], 1e-5f);
+    }
+
+    @Test
+    public void testCheckpointBlockBetweenOperations() {
+        float[][] gradients = new float[2][];
+        for (int i = 0; i < gradients.length; ++i) {
+            boolean checkpoint = i == 1;
+            Block first = Linear.builder().setUnits(4).build();
+            Block second = Linear.builder().setUnits(2).build();
+            // the gradient of the first checkpoint flows through an operation outside of them
+            Block block =
+                    new SequentialBlock()
+                            .add(Linear.builder().setUnits(4).build())
+                            .add(checkpoint ? new CheckpointBlock(first) : first)
+                            .add(Activation::sigmoid)
+                            .add(checkpoint ? new CheckpointBlock(second) : second);
+            gradients[i] = computeGradients(block);
+        }
+        Assert.assertEquals(gradients[1], gradients[0], 1e-5f);
+    }
+
+    @Test
+    public void testCheckpointBlockKeepsRandomSeed() {
+        float[][] values = new float[2][];
+        for (int i = 0; i < values.length; ++i) {
+            boolean checkpoint = i == 1;
+            Block hidden = Linear.builder().setUnits(4).build();
+            Block block =
+                    new SequentialBlock()
+                            .add(checkpoint ? new CheckpointBlock(hidden) : hidden)
+                            .add(Linear.builder().setUnits(2).build());
+            Engine.getInstance().setRandomSeed(1234);
+            computeGradients(block);
+            // the random numbers after the step follow the seed of the user
+            try (NDManager manager = NDManager.newBaseManager()) {
+                values[i] = manager.randomUniform(0, 1, new Shape(8)).toFloatArray();
+            }
+        }
+        Assert.assertEquals(values[1], values[0]);
+    }
+
+    private static float[] computeGradients(Block block) {
+        try (Model model = Model.newInstance("model")) {
+            model.setBlock(block);
+            TrainingConfig config =
+                    new DefaultTrainingConfig(Loss.l2Loss()).optInitializer(Initializer.ONES);
+            try (Trainer trainer = model.newTrainer(config)) {
+                trainer.initialize(new Shape(2, 3));
+                NDManager manager = trainer.getManager();
+                NDArray data = manager.arange(6f).reshape(2, 3).div(10);
+                NDArray label = manager.ones(new Shape(2, 2));
+                try (GradientCollector collector = trainer.newGradientCollector()) {
+                    NDArray pred = trainer.forward(new NDList(data)).singletonOrThrow();
+                    NDArray loss = trainer.getLoss().evaluate(new NDList(label), new NDList(pred));
+                    collector.backward(loss);
+                }
+                NDList list = new NDList();
+                for (Parameter parameter : block.getParameters().values()) {
+                    list.add(parameter.getArray().getGradient().flatten());
+                }
+                return NDArrays.concat(list).toFloatArray();
+            }
+        }
+    }
 }
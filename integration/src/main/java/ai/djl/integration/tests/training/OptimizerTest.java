@@ -24,6 +24,7 @@ import ai.djl.nn.core.Linear;
 import ai.djl.testing.Assertions;
 import ai.djl.training.DefaultTrainingConfig;
 import ai.djl.training.EasyTrain;
+import ai.djl.training.MixedPrecision;
 import ai.djl.training.Trainer;
 import ai.djl.training.TrainingConfig;
 import ai.djl.training.dataset.Batch;
@@ -32,6 +33,7 @@ import ai.djl.training.loss.Loss;
 import ai.djl.training.optimizer.Optimizer;
 import ai.djl.training.tracker.Tracker;
 import ai.djl.translate.Batchifier;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 public class OptimizerTest {
@@ -295,6 +297,104 @@ public class OptimizerTest {
         }
     }
 
+    @Test
+    public void testGroupedUpdate() {
+        Optimizer[] optimizers = {
+            Optimizer.sgd().setLearningRateTracker(Tracker.fixed(0.1f)).optMomentum(0.9f).build(),
+            Optimizer.sgd().setLearningRateTracker(Tracker.fixed(0.1f)).build(),
+            Optimizer.nag().setLearningRateTracker(Tracker.fixed(0.1f)).setMomentum(0.9f).build(),
+            Optimizer.adam().build(),
+            Optimizer.adam().optWeightDecays(0.1f).build()
+        };
+        Optimizer[] references = {
+            Optimizer.sgd().setLearningRateTracker(Tracker.fixed(0.1f)).optMomentum(0.9f).build(),
+            Optimizer.sgd().setLearningRateTracker(Tracker.fixed(0.1f)).build(),
+            Optimizer.nag().setLearningRateTracker(Tracker.fixed(0.1f)).setMomentum(0.9f).build(),
+            Optimizer.adam().build(),
+            Optimizer.adam().optWeightDecays(0.1f).build()
+        };
+        String[] parameterIds = {"weight", "bias"};
+        try (NDManager manager = NDManager.newBaseManager()) {
+            for (int i = 0; i < optimizers.length; ++i) {
+                NDArray[] weights = {manager.ones(new Shape(3, 2)), manager.ones(new Shape(3))};
+                NDArray[] expected = {manager.ones(new Shape(3, 2)), manager.ones(new Shape(3))};
+                for (int step = 0; step < 2; ++step) {
+                    NDArray[] grads = {
+                        manager.arange(6f).reshape(3, 2), manager.create(new float[] {1, -1, 2})
+                    };
+                    optimizers[i].update(parameterIds, weights, grads);
+                    for (int j = 0; j < parameterIds.length; ++j) {
+                        references[i].update(parameterIds[j], expected[j], grads[j].duplicate());
+                    }
+                }
+                for (int j = 0; j < parameterIds.length; ++j) {
+                    Assertions.assertAlmostEquals(weights[j], expected[j]);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testMixedPrecision() {
+        Optimizer sgd = Optimizer.sgd().setLearningRateTracker(Tracker.fixed(0.1f)).build();
+        MixedPrecision mixedPrecision = MixedPrecision.builder().optInitialScale(1024).build();
+
+        Device[] devices = Device.getDevices(1);
+        TrainingConfig config =
+                new DefaultTrainingConfig(Loss.l2Loss())
+                        .optInitializer(Initializer.ONES)
+                        .optOptimizer(sgd)
+                        .optDevices(devices)
+                        .optMixedPrecision(mixedPrecision);
+        Block block = Linear.builder().setUnits(CHANNELS).build();
+        try (Model model = Model.newInstance("model", devices[0])) {
+            model.setBlock(block);
+
+            try (Trainer trainer = model.newTrainer(config)) {
+                int batchSize = config.getDevices().length * BATCH_SIZE;
+                trainer.initialize(new Shape(batchSize, CHANNELS));
+
+                NDManager manager = trainer.getManager();
+                NDArray result = runOptimizer(manager, trainer, block, batchSize);
+                // same result as testSgd within the precision of FLOAT16
+                Assertions.assertAlmostEquals(
+                        result, manager.create(new float[] {0.68f, -0.16f}), 1e-2, 1e-2);
+                Assert.assertEquals(mixedPrecision.getSkippedSteps(), 0);
+            }
+        }
+    }
+
+    @Test
+    public void testMixedPrecisionOverflow() {
+        Optimizer sgd = Optimizer.sgd().setLearningRateTracker(Tracker.fixed(0.1f)).build();
+        MixedPrecision mixedPrecision =
+                MixedPrecision.builder().optInitialScale(Float.MAX_VALUE).build();
+
+        Device[] devices = Device.getDevices(1);
+        TrainingConfig config =
+                new DefaultTrainingConfig(Loss.l2Loss())
+                        .optInitializer(Initializer.ONES)
+                        .optOptimizer(sgd)
+                        .optDevices(devices)
+                        .optMixedPrecision(mixedPrecision);
+        Block block = Linear.builder().setUnits(CHANNELS).build();
+        try (Model model = Model.newInstance("model", devices[0])) {
+            model.setBlock(block);
+
+            try (Trainer trainer = model.newTrainer(config)) {
+                int batchSize = config.getDevices().length * BATCH_SIZE;
+                trainer.initialize(new Shape(batchSize, CHANNELS));
+
+                NDManager manager = trainer.getManager();
+                NDArray result = runOptimizer(manager, trainer, block, batchSize);
+                // the overflowed step is skipped and the loss scale is reduced
+                Assertions.assertAlmostEquals(result, manager.create(new float[] {1f, 1f}));
+                Assert.assertEquals(mixedPrecision.getSkippedSteps(), 1);
+                Assert.assertEquals(mixedPrecision.getScale(), Float.MAX_VALUE / 2);
+            }
+        }
+    }
+
     private NDArray runOptimizer(NDManager manager, Trainer trainer, Block block, int batchSize) {
         NDArray data = manager.ones(new Shape(batchSize, CHANNELS)).mul(2);
         NDArray label = data.mul(2);
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2021 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.integration.tests.training;
+
+import ai.djl.Device;
+import ai.djl.engine.Engine;
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDArrays;
+import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.types.Shape;
+import ai.djl.testing.Assertions;
+import ai.djl.training.GradientCollector;
+import ai.djl.training.LocalParameterServer;
+import ai.djl.training.ParameterServer;
+import ai.djl.training.optimizer.Optimizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class ParameterServerTest {
+
+    private static final Shape[] SHAPES = {
+        new Shape(2, 3), new Shape(5), new Shape(3, 1), new Shape(1)
+    };
+
+    @Test
+    public void testLocalParameterServer() {
+        // 3 devices are not a power of two, the last device is added at the second level
+        int numDevices = 3;
+        // everything in one bucket, the last two parameters sharing a bucket, one bucket each
+        long[] bucketSizes = {Long.MAX_VALUE, 24, 1};
+        for (long bucketSize : bucketSizes) {
+            try (NDManager manager = NDManager.newBaseManager()) {
+                String[] parameterIds = new String[SHAPES.length];
+                NDArray[][] params = new NDArray[SHAPES.length][numDevices];
+                NDArray[][] grads = new NDArray[SHAPES.length][numDevices];
+                NDArray[] expected = new NDArray[SHAPES.length];
+                for (int i = 0; i < SHAPES.length; ++i) {
+                    parameterIds[i] = "param" + i;
+                    for (int d = 0; d < numDevices; ++d) {
+                        NDManager device = manager.newSubManager(Device.cpu());
+                        params[i][d] = device.zeros(SHAPES[i]);
+                        params[i][d].attachGradient();
+                        grads[i][d] = device.randomUniform(-1, 1, SHAPES[i]);
+                    }
+                    // the plain sum without buckets
+                    expected[i] = NDArrays.add(grads[i]);
+                }
+
+                try (GradientCollector collector = Engine.getInstance().newGradientCollector()) {
+                    // the gradient of each parameter is its coefficient
+                    List<NDArray> terms = new ArrayList<>();
+                    for (int i = 0; i < SHAPES.length; ++i) {
+                        for (int d = 0; d < numDevices; ++d) {
+                            terms.add(params[i][d].mul(grads[i][d]).sum());
+                        }
+                    }
+                    collector.backward(NDArrays.add(terms.toArray(new NDArray[0])));
+                }
+
+                RecordingOptimizer optimizer = new RecordingOptimizer();
+                try (ParameterServer ps = new LocalParameterServer(optimizer, bucketSize)) {
+                    ps.update(parameterIds, params);
+                }
+                for (int i = 0; i < SHAPES.length; ++i) {
+                    List<NDArray> updates = optimizer.updates.get(parameterIds[i]);
+                    Assert.assertEquals(updates.size(), numDevices);
+                    for (NDArray update : updates) {
+                        Assert.assertEquals(update.getShape(), SHAPES[i]);
+                        Assertions.assertAlmostEquals(update, expected[i]);
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class RecordingOptimizer extends Optimizer {
+
+        Map<String, List<NDArray>> updates = new ConcurrentHashMap<>();
+
+        RecordingOptimizer() {
+            super(new Builder());
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void update(String parameterId, NDArray weight, NDArray grad) {
+            // the gradients are closed after the update
+            updates.computeIfAbsent(parameterId, k -> new ArrayList<>()).add(grad.duplicate());
+        }
+
+        private static final class Builder extends OptimizerBuilder<Builder> {
+
+            /** {@inheritDoc} */
+            @Override
+            protected Builder self() {
+                return this;
+            }
+        }
+    }
+}
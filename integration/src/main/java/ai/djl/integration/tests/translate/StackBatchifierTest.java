@@ -12,9 +12,12 @@
  */
 package ai.djl.integration.tests.translate;
 
+import ai.djl.engine.Engine;
+import ai.djl.ndarray.NDArray;
 import ai.djl.ndarray.NDList;
 import ai.djl.ndarray.NDManager;
 import ai.djl.ndarray.types.Shape;
+import ai.djl.translate.BatchBuffer;
 import ai.djl.translate.Batchifier;
 import ai.djl.translate.StackBatchifier;
 import java.util.Arrays;
@@ -39,6 +42,43 @@ public class StackBatchifierTest {
         }
     }
 
+    @Test
+    public void testBatchifyWithBuffer() {
+        try (NDManager manager = NDManager.newBaseManager();
+                BatchBuffer buffer = new BatchBuffer(manager)) {
+            Batchifier batchifier = new StackBatchifier();
+            NDList first = null;
+            for (int i = 0; i < 2; ++i) {
+                NDList[] input = new NDList[3];
+                for (int j = 0; j < input.length; ++j) {
+                    NDArray data = manager.arange(6f).reshape(2, 3).add(i * 10 + j);
+                    data.setName("data");
+                    input[j] = new NDList(data, manager.create(j + i));
+                }
+                NDList expected = batchifier.batchify(input);
+                NDList actual = batchifier.batchify(input, buffer);
+
+                Assert.assertEquals(actual.size(), 2);
+                Assert.assertEquals(actual.get(0).getName(), "data");
+                Assert.assertEquals(actual.get(0), expected.get(0));
+                Assert.assertEquals(actual.get(1), expected.get(1));
+                if (first == null) {
+                    first = actual;
+                } else if (!"TensorFlow".equals(Engine.getInstance().getEngineName())) {
+                    // the arrays of the same shape are reused, TensorFlow cannot write into them
+                    Assert.assertSame(actual.get(0), first.get(0));
+                    Assert.assertSame(actual.get(1), first.get(1));
+                }
+            }
+
+            NDList[] mismatch = {
+                new NDList(manager.zeros(new Shape(2))), new NDList(manager.zeros(new Shape(3)))
+            };
+            Assert.assertThrows(
+                    IllegalArgumentException.class, () -> batchifier.batchify(mismatch, buffer));
+        }
+    }
+
     @Test
     public void testUnbatchify() {
         try (NDManager manager = NDManager.newBaseManager()) {
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2021 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.jmh;
+
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDList;
+import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.types.Shape;
+import ai.djl.translate.Batchifier;
+import ai.djl.translate.PaddingStackBatchifier;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks batching and unbatching {@link NDList}s. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BatchifierBenchmark {
+
+    private static final int MAX_SEQUENCE_LENGTH = 128;
+
+    @Param({"1", "32"})
+    int batchSize;
+
+    private NDManager manager;
+    private NDList[] images;
+    private NDList[] sequences;
+    private NDList batch;
+    private Batchifier padding;
+
+    /** Creates the arrays to batch. */
+    @Setup
+    public void setup() {
+        manager = NDManager.newBaseManager();
+        Random random = new Random(0);
+        images = new NDList[batchSize];
+        sequences = new NDList[batchSize];
+        for (int i = 0; i < batchSize; ++i) {
+            images[i] = new NDList(manager.ones(new Shape(3, 224, 224)));
+            int length = random.nextInt(MAX_SEQUENCE_LENGTH) + 1;
+            sequences[i] = new NDList(manager.ones(new Shape(length)));
+        }
+        batch = Batchifier.STACK.batchify(images);
+        padding =
+                PaddingStackBatchifier.builder()
+                        .optIncludeValidLengths(true)
+                        .addPad(0, 1, m -> m.zeros(new Shape(batchSize, 1)))
+                        .build();
+    }
+
+    /** Closes the arrays. */
+    @TearDown
+    public void tearDown() {
+        manager.close();
+    }
+
+    /**
+     * Stacks images of the same shape.
+     *
+     * @return the shape of the batch
+     */
+    @Benchmark
+    public Object stack() {
+        NDList list = Batchifier.STACK.batchify(images);
+        Object shape = list.head().getShape();
+        list.close();
+        return shape;
+    }
+
+    /**
+     * Splits a batch of images.
+     *
+     * @return the number of items
+     */
+    @Benchmark
+    public int unstack() {
+        NDList[] lists = Batchifier.STACK.unbatchify(batch);
+        for (NDList list : lists) {
+            list.close();
+        }
+        return lists.length;
+    }
+
+    /**
+     * Pads and stacks sequences of different lengths.
+     *
+     * @return the shape of the batch
+     */
+    @Benchmark
+    public Object paddingStack() {
+        NDList list = padding.batchify(sequences);
+        Object shape = list.head().getShape();
+        for (NDArray array : list) {
+            array.close();
+        }
+        return shape;
+    }
+}
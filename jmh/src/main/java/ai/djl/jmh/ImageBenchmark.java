@@ -0,0 +1,104 @@
+/*
+ * Copyright 2021 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.jmh;
+
+import ai.djl.modality.cv.BufferedImageFactory;
+import ai.djl.modality.cv.Image;
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDManager;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks converting a {@link BufferedImage} to an {@link NDArray}. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ImageBenchmark {
+
+    @Param({"224", "1024"})
+    int size;
+
+    @Param({"TYPE_INT_RGB", "TYPE_3BYTE_BGR"})
+    String imageType;
+
+    private static final float[] MEAN = {0.485f, 0.456f, 0.406f};
+    private static final float[] STD = {0.229f, 0.224f, 0.225f};
+
+    private NDManager manager;
+    private Image image;
+
+    /**
+     * Creates a random image.
+     *
+     * @throws ReflectiveOperationException if the image type is invalid
+     */
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        manager = NDManager.newBaseManager();
+        int type = BufferedImage.class.getField(imageType).getInt(null);
+        BufferedImage img = new BufferedImage(size, size, type);
+        Random random = new Random(0);
+        for (int y = 0; y < size; ++y) {
+            for (int x = 0; x < size; ++x) {
+                img.setRGB(x, y, random.nextInt());
+            }
+        }
+        image = new BufferedImageFactory().fromImage(img);
+    }
+
+    /** Closes the manager. */
+    @TearDown
+    public void tearDown() {
+        manager.close();
+    }
+
+    /**
+     * Converts the image to an {@link NDArray}.
+     *
+     * @return the shape of the array
+     */
+    @Benchmark
+    public Object toNDArray() {
+        try (NDArray array = image.toNDArray(manager)) {
+            return array.getShape();
+        }
+    }
+
+    /**
+     * Converts the image to a normalized CHW float tensor.
+     *
+     * @return the shape of the tensor
+     */
+    @Benchmark
+    public Object toTensor() {
+        try (NDArray array = image.toTensor(manager, Image.Flag.COLOR, MEAN, STD)) {
+            return array.getShape();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2021 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.jmh;
+
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.index.NDIndex;
+import ai.djl.ndarray.types.Shape;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks creating {@link Shape}s and parsing and applying {@link NDIndex}es. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IndexingBenchmark {
+
+    @Param({"0", ":, 1:3, ::2", "..., -1", "{}, :{}"})
+    String index;
+
+    private NDManager manager;
+    private NDArray array;
+    private Object[] args;
+
+    /** Creates the array to index. */
+    @Setup
+    public void setup() {
+        manager = NDManager.newBaseManager();
+        array = manager.ones(new Shape(8, 8, 8));
+        // the "{}" placeholders are replaced by the arguments
+        int count = index.split("\\{}", -1).length - 1;
+        args = new Object[count];
+        for (int i = 0; i < count; ++i) {
+            args[i] = i + 1;
+        }
+    }
+
+    /** Closes the array. */
+    @TearDown
+    public void tearDown() {
+        manager.close();
+    }
+
+    /**
+     * Parses the index.
+     *
+     * @return the index
+     */
+    @Benchmark
+    public NDIndex parse() {
+        return new NDIndex(index, args);
+    }
+
+    /**
+     * Parses the index and gets the indexed values.
+     *
+     * @return the shape of the values
+     */
+    @Benchmark
+    public Object get() {
+        try (NDArray result = array.get(new NDIndex(index, args))) {
+            return result.getShape();
+        }
+    }
+
+    /**
+     * Creates a shape and computes derived values.
+     *
+     * @return the number of elements
+     */
+    @Benchmark
+    public long shape() {
+        Shape shape = new Shape(32, 3, 224, 224);
+        return shape.size() + shape.slice(1).size() + shape.add(1).dimension();
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2021 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.jmh;
+
+import ai.djl.modality.Input;
+import ai.djl.serving.wlm.Job;
+import ai.djl.serving.wlm.ShardedJobQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the job queue of the model server under contention.
+ *
+ * <p>Four producers, like the netty event loops, offer jobs while four consumers, like the worker
+ * threads, poll them. The {@link ShardedJobQueue} is compared with the single lock {@link
+ * LinkedBlockingDeque} it replaces. Offers to a full queue and polls of an empty queue fail without
+ * blocking, and are counted as operations as well.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class JobQueueBenchmark {
+
+    private static final int CAPACITY = 1000;
+
+    @Param({"sharded", "deque"})
+    String queueType;
+
+    private BlockingQueue<Job> queue;
+    private Job job;
+
+    /** Creates the queue. */
+    @Setup
+    public void setup() {
+        if ("sharded".equals(queueType)) {
+            queue = new ShardedJobQueue(CAPACITY);
+        } else {
+            queue = new LinkedBlockingDeque<>(CAPACITY);
+        }
+        job = new Job(null, "", new Input("benchmark"));
+    }
+
+    /**
+     * Offers a job to the queue.
+     *
+     * @return {@code true} if the job was added
+     */
+    @Benchmark
+    @Group("contention")
+    @GroupThreads(4)
+    public boolean offer() {
+        return queue.offer(job);
+    }
+
+    /**
+     * Polls a job from the queue.
+     *
+     * @return the job, or {@code null} if the queue is empty
+     */
+    @Benchmark
+    @Group("contention")
+    @GroupThreads(4)
+    public Job poll() {
+        return queue.poll();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2021 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.jmh;
+
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDManager;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks copying data in and out of an {@link NDArray}. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NDArrayBenchmark {
+
+    @Param({"1024", "1048576"})
+    int size;
+
+    private NDManager manager;
+    private float[] data;
+    private NDArray array;
+    private byte[] encoded;
+
+    /** Creates the arrays to copy. */
+    @Setup
+    public void setup() {
+        manager = NDManager.newBaseManager();
+        data = new float[size];
+        array = manager.create(data);
+        encoded = array.encode();
+    }
+
+    /** Closes the arrays. */
+    @TearDown
+    public void tearDown() {
+        manager.close();
+    }
+
+    /**
+     * Creates an {@link NDArray} from a float array.
+     *
+     * @return the shape of the created array
+     */
+    @Benchmark
+    public Object create() {
+        try (NDArray result = manager.create(data)) {
+            return result.getShape();
+        }
+    }
+
+    /**
+     * Copies the data of an {@link NDArray} to a {@link ByteBuffer}.
+     *
+     * @return the data of the array
+     */
+    @Benchmark
+    public ByteBuffer toByteBuffer() {
+        return array.toByteBuffer();
+    }
+
+    /**
+     * Encodes an {@link NDArray}.
+     *
+     * @return the encoded array
+     */
+    @Benchmark
+    public byte[] encode() {
+        return array.encode();
+    }
+
+    /**
+     * Decodes an {@link NDArray}.
+     *
+     * @return the shape of the decoded array
+     */
+    @Benchmark
+    public Object decode() {
+        try (NDArray result = manager.decode(encoded)) {
+            return result.getShape();
+        }
+    }
+}
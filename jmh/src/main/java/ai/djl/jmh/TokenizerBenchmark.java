@@ -0,0 +1,120 @@
+/*
+ * Copyright 2021 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.jmh;
+
+import ai.djl.modality.nlp.SimpleVocabulary;
+import ai.djl.modality.nlp.bert.WordpieceTokenizer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks tokenizing text with the {@link WordpieceTokenizer}. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TokenizerBenchmark {
+
+    private static final String TEXT =
+            "When the documentation for a library is incomplete, developers often read the"
+                    + " source code of the library to understand its behaviour. Tokenizers split"
+                    + " unfamiliar words into known subwords, such as un ##fam ##iliar.";
+
+    @Param({"1", "16"})
+    int repeat;
+
+    private WordpieceTokenizer tokenizer;
+    private String text;
+
+    /** Creates the tokenizer and the text. */
+    @Setup
+    public void setup() {
+        List<String> tokens =
+                Arrays.asList(
+                        "[UNK]",
+                        "when",
+                        "the",
+                        "document",
+                        "##ation",
+                        "for",
+                        "a",
+                        "library",
+                        "is",
+                        "in",
+                        "##complete",
+                        ",",
+                        "develop",
+                        "##ers",
+                        "often",
+                        "read",
+                        "source",
+                        "code",
+                        "of",
+                        "to",
+                        "understand",
+                        "its",
+                        "behaviour",
+                        ".",
+                        "token",
+                        "##izer",
+                        "##s",
+                        "split",
+                        "un",
+                        "##fam",
+                        "##iliar",
+                        "words",
+                        "into",
+                        "known",
+                        "sub",
+                        "##word",
+                        "such",
+                        "as",
+                        "#");
+        tokenizer = new WordpieceTokenizer(new SimpleVocabulary(tokens), "[UNK]", 200);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < repeat; ++i) {
+            sb.append(TEXT.toLowerCase()).append(' ');
+        }
+        text = sb.toString();
+    }
+
+    /** Releases the text. */
+    @TearDown
+    public void tearDown() {
+        text = null;
+    }
+
+    /**
+     * Tokenizes the text.
+     *
+     * @return the tokens
+     */
+    @Benchmark
+    public List<String> tokenize() {
+        return tokenizer.tokenize(text);
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2021 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.jmh;
+
+import ai.djl.Model;
+import ai.djl.modality.Input;
+import ai.djl.modality.Output;
+import ai.djl.ndarray.NDList;
+import ai.djl.nn.Blocks;
+import ai.djl.repository.zoo.ModelNotFoundException;
+import ai.djl.repository.zoo.ZooModel;
+import ai.djl.serving.Arguments;
+import ai.djl.serving.util.ConfigManager;
+import ai.djl.serving.wlm.Job;
+import ai.djl.serving.wlm.ModelInfo;
+import ai.djl.serving.wlm.ModelManager;
+import ai.djl.translate.Batchifier;
+import ai.djl.translate.Translator;
+import ai.djl.translate.TranslatorContext;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.commons.cli.DefaultParser;
+import org.apache.commons.cli.ParseException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks dispatching requests through the work load manager of the model server.
+ *
+ * <p>The requests are sent to the {@link ModelManager} without the HTTP front end. The model
+ * returns its input, so the benchmark measures the overhead of queuing, batching and the worker
+ * threads rather than the inference.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WorkLoadManagerBenchmark {
+
+    private static final String MODEL_NAME = "identity";
+    private static final int REQUESTS = 64;
+    private static final long TIMEOUT = TimeUnit.SECONDS.toNanos(30);
+
+    @Param({"1", "8"})
+    int batchSize;
+
+    @Param({"1", "4"})
+    int workers;
+
+    private ModelManager modelManager;
+    private LongAdder completed;
+
+    /**
+     * Starts the workers of an identity model.
+     *
+     * @throws ParseException if the default arguments cannot be parsed
+     * @throws ModelNotFoundException if the model is not registered
+     * @throws InterruptedException if interrupted while waiting for the workers
+     */
+    @Setup
+    public void setup() throws ParseException, ModelNotFoundException, InterruptedException {
+        Arguments arguments =
+                new Arguments(new DefaultParser().parse(Arguments.getOptions(), new String[0]));
+        ConfigManager.init(arguments);
+        ModelManager.init(ConfigManager.getInstance());
+        modelManager = ModelManager.getInstance();
+
+        completed = new LongAdder();
+        Model model = Model.newInstance(MODEL_NAME);
+        model.setBlock(Blocks.identityBlock());
+        ZooModel<Input, Output> zooModel = new ZooModel<>(model, new IdentityTranslator(completed));
+        ModelInfo modelInfo =
+                new ModelInfo(MODEL_NAME, null, zooModel, REQUESTS * 2, 60, 1, batchSize)
+                        .scaleWorkers(workers, workers);
+        modelManager.getModels().put(MODEL_NAME, modelInfo);
+        modelManager.triggerModelUpdated(modelInfo);
+        long deadline = System.nanoTime() + TIMEOUT;
+        while (!"Healthy".equals(modelManager.describeModel(MODEL_NAME).getStatus())) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("Timed out waiting for the workers.");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    /** Stops the workers and closes the model. */
+    @TearDown
+    public void tearDown() {
+        modelManager.unregisterModel(MODEL_NAME);
+    }
+
+    /**
+     * Sends requests to the workers and waits until all of them are answered.
+     *
+     * @return the number of completed requests
+     * @throws ModelNotFoundException if the model is not registered
+     */
+    @Benchmark
+    public long dispatch() throws ModelNotFoundException {
+        long target = completed.sum() + REQUESTS;
+        for (int i = 0; i < REQUESTS; ++i) {
+            Input input = new Input(String.valueOf(i));
+            input.addData(new byte[] {1});
+            if (!modelManager.addJob(new Job(null, MODEL_NAME, input))) {
+                throw new IllegalStateException("Request rejected.");
+            }
+        }
+        // a failed job is never completed, so the benchmark fails instead of waiting forever
+        long deadline = System.nanoTime() + TIMEOUT;
+        while (completed.sum() < target) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException(
+                        "Timed out, " + (target - completed.sum()) + " requests not completed.");
+            }
+            Thread.yield();
+        }
+        return target;
+    }
+
+    private static final class IdentityTranslator implements Translator<Input, Output> {
+
+        private LongAdder completed;
+
+        IdentityTranslator(LongAdder completed) {
+            this.completed = completed;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public NDList processInput(TranslatorContext ctx, Input input) {
+            return new NDList(ctx.getNDManager().create(new float[] {1f}));
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Output processOutput(TranslatorContext ctx, NDList list) {
+            Output output = new Output("identity");
+            output.setContent(list.singletonOrThrow().toByteArray());
+            completed.increment();
+            return output;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Batchifier getBatchifier() {
+            return Batchifier.STACK;
+        }
+    }
+}
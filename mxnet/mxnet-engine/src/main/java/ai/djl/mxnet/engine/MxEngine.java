@@ -125,6 +125,23 @@ public final class MxEngine extends Engine {
         return new MxGradientCollector();
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean setGradientRecording(boolean recording) {
+        return MxGradientCollector.setRecording(recording);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The OpenMP threads are set for the current thread, which only affects operators that run
+     * on the calling thread, such as with the NaiveEngine ({@code MXNET_ENGINE_TYPE=NaiveEngine}).
+     */
+    @Override
+    public void setNumThreads(int numThreads) {
+        JnaUtils.setOmpThreads(numThreads);
+    }
+
     /** {@inheritDoc} */
     @Override
     public ParameterServer newParameterServer(Optimizer optimizer) {
@@ -34,6 +34,9 @@ class MxNDArrayEx implements NDArrayEx {
 
     private static final NDArrayIndexer INDEXER = new MxNDArrayIndexer();
 
+    // the maximum number of weights the multi-tensor optimizer kernels accept in one call
+    private static final int MAX_AGGREGATION_SIZE = 45;
+
     private MxNDArray array;
 
     /**
@@ -525,6 +528,103 @@ class MxNDArrayEx implements NDArrayEx {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void multiAdamUpdate(
+            NDList inputs,
+            NDList weights,
+            float[] learningRates,
+            float[] weightDecays,
+            float rescaleGrad,
+            float clipGrad,
+            float beta1,
+            float beta2,
+            float epsilon,
+            boolean lazyUpdate) {
+        // the fused kernel implements AdamW, which only matches Adam without weight decay
+        boolean fused = weights.get(0).getDataType() == DataType.FLOAT32;
+        for (float weightDecay : weightDecays) {
+            fused &= weightDecay == 0f;
+        }
+        if (!fused) {
+            NDArrayEx.super.multiAdamUpdate(
+                    inputs,
+                    weights,
+                    learningRates,
+                    weightDecays,
+                    rescaleGrad,
+                    clipGrad,
+                    beta1,
+                    beta2,
+                    epsilon,
+                    lazyUpdate);
+            return;
+        }
+        try (NDArray rescale =
+                getManager()
+                        .full(
+                                new Shape(1),
+                                rescaleGrad,
+                                DataType.FLOAT32,
+                                weights.get(0).getDevice())) {
+            for (int i = 0; i < weights.size(); i += MAX_AGGREGATION_SIZE) {
+                int end = Math.min(i + MAX_AGGREGATION_SIZE, weights.size());
+                float[] etas = new float[end - i];
+                Arrays.fill(etas, 1f);
+                MxOpParams params = new MxOpParams();
+                params.addTupleParam("lrs", Arrays.copyOfRange(learningRates, i, end));
+                params.addTupleParam("wds", Arrays.copyOfRange(weightDecays, i, end));
+                params.addTupleParam("etas", etas);
+                params.addParam("beta1", beta1);
+                params.addParam("beta2", beta2);
+                params.addParam("epsilon", epsilon);
+                params.addParam("clip_gradient", clipGrad);
+                params.addParam("num_weights", end - i);
+
+                NDList src = new NDList(inputs.subList(i * 4, end * 4));
+                src.add(rescale);
+                getManager()
+                        .invoke(
+                                "_multi_adamw_update",
+                                src,
+                                new NDList(weights.subList(i, end)),
+                                params);
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void multiSgdUpdate(
+            NDList inputs,
+            NDList weights,
+            float[] learningRates,
+            float[] weightDecays,
+            float rescaleGrad,
+            float clipGrad,
+            float momentum,
+            boolean lazyUpdate) {
+        int step = momentum == 0f ? 2 : 3;
+        for (int i = 0; i < weights.size(); i += MAX_AGGREGATION_SIZE) {
+            int end = Math.min(i + MAX_AGGREGATION_SIZE, weights.size());
+            MxOpParams params = new MxOpParams();
+            params.addTupleParam("lrs", Arrays.copyOfRange(learningRates, i, end));
+            params.addTupleParam("wds", Arrays.copyOfRange(weightDecays, i, end));
+            params.addParam("rescale_grad", rescaleGrad);
+            params.addParam("clip_gradient", clipGrad);
+            params.addParam("num_weights", end - i);
+
+            NDList src = new NDList(inputs.subList(i * step, end * step));
+            NDList dest = new NDList(weights.subList(i, end));
+            if (momentum != 0) {
+                params.addParam("momentum", momentum);
+                getManager().invoke("multi_sgd_mom_update", src, dest, params);
+            } else {
+                getManager().invoke("multi_sgd_update", src, dest, params);
+            }
+        }
+    }
+
     ////////////////////////////////////////
     // Neural network
     ////////////////////////////////////////
@@ -95,6 +95,18 @@ public class MxNDManager extends BaseNDManager {
         return new MxNDArray16(this, handle, device, shape, dataType, false);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public NDArray from(NDArray array) {
+        if (array == null || array instanceof MxNDArray) {
+            return array;
+        }
+        // MXNet copies the data of the buffer into its own memory
+        MxNDArray ret = create(array.getShape(), array.getDataType());
+        ret.set(array.asDirectByteBuffer());
+        return ret;
+    }
+
     /** {@inheritDoc} */
     @Override
     public MxSparseNDArray createCSR(Buffer data, long[] indptr, long[] indices, Shape shape) {
@@ -19,10 +19,14 @@ import ai.djl.ndarray.NDManager;
 import ai.djl.ndarray.types.DataType;
 import ai.onnxruntime.OrtEnvironment;
 import ai.onnxruntime.OrtException;
+import ai.onnxruntime.OrtSession.SessionOptions;
+import ai.onnxruntime.OrtSession.SessionOptions.ExecutionMode;
+import ai.onnxruntime.OrtSession.SessionOptions.OptLevel;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Locale;
 import java.util.Map;
 
 /**
@@ -50,7 +54,36 @@ public class OrtModel extends BaseModel {
         dataType = DataType.FLOAT32;
     }
 
-    /** {@inheritDoc} */
+    /**
+     * Loads the ONNX model from a specified location.
+     *
+     * <p>The ONNX Runtime session can be tuned with the following options:
+     *
+     * <ul>
+     *   <li>interOpNumThreads: the number of threads to run independent operators in parallel
+     *   <li>intraOpNumThreads: the number of threads to run an operator
+     *   <li>executionMode: SEQUENTIAL or PARALLEL
+     *   <li>optLevel: the graph optimization level, NO_OPT, BASIC_OPT, EXTENDED_OPT or ALL_OPT
+     *   <li>memoryPatternOptimization: true to pre-allocate memory for the shapes seen before
+     *   <li>cpuArenaAllocator: false to allocate CPU memory without the arena
+     *   <li>optimizedModelFilePath: the file to save the optimized model to, which can be loaded
+     *       later with optLevel NO_OPT to skip the optimization
+     * </ul>
+     *
+     * <pre>
+     * Criteria&lt;Input, Output&gt; criteria = Criteria.builder()
+     *         ...
+     *         <b>.optOption("intraOpNumThreads", "4")</b>
+     *         <b>.optOption("optLevel", "ALL_OPT")</b>
+     *         .build();
+     * </pre>
+     *
+     * @param modelPath the directory of the model
+     * @param prefix the model file name or path prefix
+     * @param options load model options, see documentation for the specific engine
+     * @throws IOException Exception for file loading
+     * @throws MalformedModelException if the model cannot be loaded
+     */
     @Override
     public void load(Path modelPath, String prefix, Map<String, ?> options)
             throws IOException, MalformedModelException {
@@ -65,14 +98,55 @@ public class OrtModel extends BaseModel {
                 throw new FileNotFoundException(".onnx file not found in: " + modelPath);
             }
         }
-        // TODO: Support SessionOption here for further optimization
-        try {
-            block = new OrtSymbolBlock(env.createSession(modelFile.toString()));
+        try (SessionOptions ortOptions = getSessionOptions(options)) {
+            block = new OrtSymbolBlock(env.createSession(modelFile.toString(), ortOptions));
         } catch (OrtException e) {
             throw new MalformedModelException("ONNX Model cannot be loaded", e);
         }
     }
 
+    private SessionOptions getSessionOptions(Map<String, ?> options) throws OrtException {
+        SessionOptions ortOptions = new SessionOptions();
+        if (options == null) {
+            return ortOptions;
+        }
+        String interOpNumThreads = getOption(options, "interOpNumThreads");
+        if (interOpNumThreads != null) {
+            ortOptions.setInterOpNumThreads(Integer.parseInt(interOpNumThreads));
+        }
+        String intraOpNumThreads = getOption(options, "intraOpNumThreads");
+        if (intraOpNumThreads != null) {
+            ortOptions.setIntraOpNumThreads(Integer.parseInt(intraOpNumThreads));
+        }
+        String executionMode = getOption(options, "executionMode");
+        if (executionMode != null) {
+            ortOptions.setExecutionMode(
+                    ExecutionMode.valueOf(executionMode.toUpperCase(Locale.ROOT)));
+        }
+        String optLevel = getOption(options, "optLevel");
+        if (optLevel != null) {
+            ortOptions.setOptimizationLevel(OptLevel.valueOf(optLevel.toUpperCase(Locale.ROOT)));
+        }
+        String memoryPattern = getOption(options, "memoryPatternOptimization");
+        if (memoryPattern != null) {
+            ortOptions.setMemoryPatternOptimization(Boolean.parseBoolean(memoryPattern));
+        }
+        String cpuArena = getOption(options, "cpuArenaAllocator");
+        if (cpuArena != null) {
+            ortOptions.setCPUArenaAllocator(Boolean.parseBoolean(cpuArena));
+        }
+        String optimizedModelFile = getOption(options, "optimizedModelFilePath");
+        if (optimizedModelFile != null) {
+            ortOptions.setOptimizedModelFilePath(optimizedModelFile);
+        }
+        return ortOptions;
+    }
+
+    private static String getOption(Map<String, ?> options, String key) {
+        Object value = options.get(key);
+        return value == null ? null : value.toString();
+    }
+
     private Path findModelFile(String prefix) {
         if (Files.isRegularFile(modelDir)) {
             Path file = modelDir;
@@ -19,6 +19,8 @@ import ai.djl.ndarray.NDManager;
 import ai.djl.ndarray.types.DataType;
 import ai.djl.ndarray.types.Shape;
 import ai.onnxruntime.OnnxTensor;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
 import java.util.UUID;
 
@@ -100,6 +102,17 @@ public class OrtNDArray implements NDArrayAdapter {
         return shape;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>ONNX Runtime only exposes copies of the data of an {@link OnnxTensor}, so passing an
+     * {@code OrtNDArray} to another engine costs one copy out of the tensor.
+     */
+    @Override
+    public ByteBuffer toByteBuffer() {
+        return tensor.getByteBuffer().order(ByteOrder.nativeOrder());
+    }
+
     /** {@inheritDoc} */
     @Override
     public NDManager attach(NDManager manager) {
@@ -33,9 +33,10 @@ import ai.onnxruntime.OrtSession;
 import ai.onnxruntime.SequenceInfo;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * {@code OrtSymbolBlock} is the ONNX Runtime implementation of {@link SymbolBlock}.
@@ -48,6 +49,8 @@ public class OrtSymbolBlock extends AbstractSymbolBlock implements AutoCloseable
     private static final byte VERSION = 1;
 
     private OrtSession session;
+    private OrtEnvironment env;
+    private String[] inputNames;
 
     /**
      * Constructs a {@code OrtSymbolBlock}.
@@ -60,6 +63,8 @@ public class OrtSymbolBlock extends AbstractSymbolBlock implements AutoCloseable
     public OrtSymbolBlock(OrtSession session) {
         super(VERSION);
         this.session = session;
+        env = OrtEnvironment.getEnvironment();
+        inputNames = session.getInputNames().toArray(new String[0]);
     }
 
     /** {@inheritDoc} */
@@ -78,21 +83,21 @@ public class OrtSymbolBlock extends AbstractSymbolBlock implements AutoCloseable
         NDManager inputManager = inputs.head().getManager();
         boolean foreignEngine =
                 !OrtEngine.ENGINE_NAME.equals(inputManager.getEngine().getEngineName());
-        List<String> inputNames = new ArrayList<>(session.getInputNames());
-        if (inputs.size() != inputNames.size()) {
-            throw new IllegalArgumentException("Input mismatch, looking for: " + inputNames);
+        if (inputs.size() != inputNames.length) {
+            throw new IllegalArgumentException(
+                    "Input mismatch, looking for: " + Arrays.toString(inputNames));
         }
-        Map<String, OnnxTensor> container = new ConcurrentHashMap<>();
-        // feed data in to match names
-        try (OrtEnvironment env = OrtEnvironment.getEnvironment()) {
-            for (int i = 0; i < inputNames.size(); ++i) {
+        Map<String, OnnxTensor> container = new HashMap<>(inputNames.length * 2);
+        try {
+            // feed data in to match names
+            for (int i = 0; i < inputNames.length; ++i) {
                 OnnxTensor tensor;
                 if (foreignEngine) {
                     tensor = OrtUtils.toTensor(env, inputs.get(i));
                 } else {
                     tensor = ((OrtNDArray) inputs.get(i)).getTensor();
                 }
-                container.put(inputNames.get(i), tensor);
+                container.put(inputNames[i], tensor);
             }
             // forward
             OrtSession.Result results = session.run(container);
@@ -23,7 +23,6 @@ import ai.onnxruntime.OrtEnvironment;
 import ai.onnxruntime.OrtException;
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.nio.DoubleBuffer;
 import java.nio.FloatBuffer;
 import java.nio.IntBuffer;
@@ -34,7 +33,8 @@ final class OrtUtils {
     private OrtUtils() {}
 
     public static OnnxTensor toTensor(OrtEnvironment env, NDArray array) throws OrtException {
-        ByteBuffer bb = array.toByteBuffer();
+        // ONNX Runtime uses a direct buffer in native order without copying it
+        ByteBuffer bb = array.asDirectByteBuffer();
         DataType dataType = array.getDataType();
         Buffer buf = dataType.asDataType(bb);
         return toTensor(env, buf, array.getShape(), dataType);
@@ -67,13 +67,12 @@ final class OrtUtils {
         if (manager instanceof OrtNDManager) {
             return ((OrtNDManager) manager).create(tensor);
         }
-        ByteBuffer bb = tensor.getByteBuffer();
-        bb.order(ByteOrder.nativeOrder());
-        DataType dataType = OrtUtils.toDataType(tensor.getInfo().type);
-        Shape shape = new Shape(tensor.getInfo().getShape());
-        Buffer buf = dataType.asDataType(bb);
-        tensor.close();
-        return manager.create(buf, shape, dataType);
+        try (OrtNDArray array = OrtNDManager.getSystemManager().create(tensor)) {
+            // the data is already a copy of the tensor, which the other engine can take as is
+            DataType dataType = array.getDataType();
+            Buffer buf = dataType.asDataType(array.toByteBuffer());
+            return manager.create(buf, array.getShape(), dataType);
+        }
     }
 
     public static DataType toDataType(OnnxJavaType javaType) {
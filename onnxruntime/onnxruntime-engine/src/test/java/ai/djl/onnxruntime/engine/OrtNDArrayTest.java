@@ -0,0 +1,79 @@
+/*
+ * Copyright 2021 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.onnxruntime.engine;
+
+import ai.djl.engine.Engine;
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.types.Shape;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+public class OrtNDArrayTest {
+
+    private static final float[] DATA = {1f, 2f, 3f, 4f, 5f, 6f};
+    private static final Shape SHAPE = new Shape(2, 3);
+
+    @Test
+    public void testFromSameEngine() {
+        try (NDManager manager = OrtNDManager.getSystemManager().newSubManager()) {
+            NDArray array = manager.create(DATA, SHAPE);
+            Assert.assertSame(manager.from(array), array);
+        } catch (UnsatisfiedLinkError e) {
+            throw new SkipException("Ignore missing libgomp.so.1 error.");
+        }
+    }
+
+    @Test
+    public void testAsDirectByteBuffer() {
+        try (NDManager manager = OrtNDManager.getSystemManager().newSubManager()) {
+            NDArray array = manager.create(DATA, SHAPE);
+            ByteBuffer bb = array.asDirectByteBuffer();
+            Assert.assertTrue(bb.isDirect());
+            Assert.assertEquals(bb.order(), ByteOrder.nativeOrder());
+            float[] values = new float[DATA.length];
+            bb.asFloatBuffer().get(values);
+            Assert.assertEquals(values, DATA);
+        } catch (UnsatisfiedLinkError e) {
+            throw new SkipException("Ignore missing libgomp.so.1 error.");
+        }
+    }
+
+    @Test
+    public void testFromOtherEngine() {
+        if (!Engine.hasEngine("PyTorch")) {
+            throw new SkipException("PyTorch is not available.");
+        }
+        try (NDManager manager = OrtNDManager.getSystemManager().newSubManager();
+                NDManager ptManager = Engine.getEngine("PyTorch").newBaseManager()) {
+            // the source can be closed once it is converted
+            NDArray pt = ptManager.create(DATA, SHAPE);
+            NDArray ort = manager.from(pt);
+            pt.close();
+            Assert.assertTrue(ort instanceof OrtNDArray);
+            Assert.assertEquals(ort.getShape(), SHAPE);
+            Assert.assertEquals(ort.toFloatArray(), DATA);
+
+            NDArray back = ptManager.from(ort);
+            ort.close();
+            Assert.assertEquals(back.getManager().getEngine().getEngineName(), "PyTorch");
+            Assert.assertEquals(back.getShape(), SHAPE);
+            Assert.assertEquals(back.toFloatArray(), DATA);
+        } catch (UnsatisfiedLinkError e) {
+            throw new SkipException("Ignore missing libgomp.so.1 error.");
+        }
+    }
+}
@@ -63,4 +63,30 @@ public class OrtTest {
             throw new SkipException("Ignore missing libgomp.so.1 error.");
         }
     }
+
+    @Test
+    public void testSessionOptions() throws TranslateException, ModelException, IOException {
+        try {
+            Criteria<IrisFlower, Classifications> criteria =
+                    Criteria.builder()
+                            .setTypes(IrisFlower.class, Classifications.class)
+                            .optEngine("OnnxRuntime")
+                            .optOption("interOpNumThreads", "1")
+                            .optOption("intraOpNumThreads", "1")
+                            .optOption("executionMode", "SEQUENTIAL")
+                            .optOption("optLevel", "all_opt")
+                            .optOption("memoryPatternOptimization", "true")
+                            .optOption("cpuArenaAllocator", "false")
+                            .build();
+
+            IrisFlower virginica = new IrisFlower(1.0f, 2.0f, 3.0f, 4.0f);
+            try (ZooModel<IrisFlower, Classifications> model = ModelZoo.loadModel(criteria);
+                    Predictor<IrisFlower, Classifications> predictor = model.newPredictor()) {
+                Classifications classifications = predictor.predict(virginica);
+                Assert.assertEquals(classifications.best().getClassName(), "virginica");
+            }
+        } catch (UnsatisfiedLinkError e) {
+            throw new SkipException("Ignore missing libgomp.so.1 error.");
+        }
+    }
 }
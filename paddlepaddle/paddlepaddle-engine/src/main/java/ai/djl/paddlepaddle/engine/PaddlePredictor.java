@@ -22,7 +22,13 @@ public class PaddlePredictor extends NativeResource<Long> {
         super(handle);
     }
 
-    /** {@inheritDoc} */
+    /**
+     * Creates a copy of this predictor that can run in parallel with it.
+     *
+     * <p>The copy shares the weights of this predictor and only allocates its own activations.
+     *
+     * @return a copy of this predictor
+     */
     public PaddlePredictor copy() {
         return new PaddlePredictor(JniUtils.clonePredictor(this));
     }
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2021 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.paddlepaddle.engine;
+
+import ai.djl.engine.EngineException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A bounded pool of {@link PaddlePredictor}s shared by the predictors of a {@link PpModel}.
+ *
+ * <p>The pooled predictors are clones of the predictor of the model. They share its weights and
+ * only hold their own activations, which are kept allocated between runs. Instead of a clone per
+ * predictor, the predictors borrow a clone for each forward pass. Clones are created on demand up
+ * to the pool size, after that a forward pass waits for a clone to be returned.
+ */
+final class PaddlePredictorPool implements AutoCloseable {
+
+    private PaddlePredictor source;
+    private int maxSize;
+    private AtomicInteger size;
+    private LinkedBlockingQueue<PaddlePredictor> idle;
+    private volatile boolean closed;
+
+    /**
+     * Constructs a {@code PaddlePredictorPool}.
+     *
+     * @param source the predictor of the model to clone
+     * @param maxSize the maximum number of clones
+     */
+    PaddlePredictorPool(PaddlePredictor source, int maxSize) {
+        this.source = source;
+        this.maxSize = maxSize;
+        size = new AtomicInteger();
+        idle = new LinkedBlockingQueue<>();
+    }
+
+    /**
+     * Borrows a predictor from the pool, waiting if all predictors are in use.
+     *
+     * @return the {@link PaddlePredictor}
+     */
+    PaddlePredictor borrow() {
+        if (closed) {
+            throw new IllegalStateException("The model has been closed.");
+        }
+        PaddlePredictor predictor = idle.poll();
+        if (predictor != null) {
+            return predictor;
+        }
+        if (size.getAndIncrement() < maxSize) {
+            try {
+                return source.copy();
+            } catch (RuntimeException e) {
+                size.decrementAndGet();
+                throw e;
+            }
+        }
+        size.decrementAndGet();
+        try {
+            return idle.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EngineException("Interrupted while waiting for a Paddle predictor", e);
+        }
+    }
+
+    /**
+     * Returns a predictor to the pool.
+     *
+     * @param predictor the predictor borrowed from this pool
+     */
+    synchronized void release(PaddlePredictor predictor) {
+        if (closed) {
+            predictor.close();
+            return;
+        }
+        idle.add(predictor);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        PaddlePredictor predictor;
+        while ((predictor = idle.poll()) != null) {
+            predictor.close();
+        }
+    }
+}
@@ -29,6 +29,7 @@ import java.util.Map;
 public class PpModel extends BaseModel {
 
     private PaddlePredictor paddlePredictor;
+    private PaddlePredictorPool predictorPool;
 
     /**
      * Constructs a new Model on a given device.
@@ -46,9 +47,14 @@ public class PpModel extends BaseModel {
     /**
      * Loads the PaddlePaddle model from a specified location.
      *
+     * <p>Each {@link Predictor} of a PaddlePaddle model runs on its own clone of the C++ Paddle
+     * Predictor, which shares the weights but keeps its activations allocated. To bound the memory
+     * used by many predictors, set the {@code handlePoolSize} option. The predictors then share a
+     * pool of at most that many clones, and a prediction waits when all of them are in use:
+     *
      * <pre>
      * Map&lt;String, String&gt; options = new HashMap&lt;&gt;()
-     * <b>options.put("epoch", "3");</b>
+     * <b>options.put("handlePoolSize", "2");</b>
      * model.load(modelPath, "squeezenet", options);
      * </pre>
      *
@@ -71,6 +77,12 @@ public class PpModel extends BaseModel {
         paddlePredictor = new PaddlePredictor(JniUtils.createPredictor(config));
         JniUtils.deleteConfig(config);
         setBlock(new PpSymbolBlock(paddlePredictor));
+        if (options != null && options.containsKey("handlePoolSize")) {
+            int poolSize = Integer.parseInt(options.get("handlePoolSize").toString());
+            if (poolSize > 0) {
+                predictorPool = new PaddlePredictorPool(paddlePredictor, poolSize);
+            }
+        }
     }
 
     private String[] findModelFile(Path dir) {
@@ -115,12 +127,19 @@ public class PpModel extends BaseModel {
     /** {@inheritDoc} */
     @Override
     public <I, O> Predictor<I, O> newPredictor(Translator<I, O> translator) {
+        if (predictorPool != null) {
+            return new PpPredictor<>(this, paddlePredictor, predictorPool, translator);
+        }
         return new PpPredictor<>(this, paddlePredictor.copy(), translator);
     }
 
     /** {@inheritDoc} */
     @Override
     public void close() {
+        if (predictorPool != null) {
+            predictorPool.close();
+            predictorPool = null;
+        }
         JniUtils.deletePredictor(paddlePredictor);
         super.close();
     }
@@ -19,7 +19,9 @@ import ai.djl.translate.Translator;
 /**
  * {@code PpPredictor} is special implementation of {@link Predictor} for PaddlePaddle.
  *
- * <p>When creating a new DlrPredictor, we clone Paddle predictor handle to workaround the issue.
+ * <p>When creating a new PpPredictor, we clone Paddle predictor handle to workaround the issue. If
+ * the model is loaded with the {@code handlePoolSize} option, the predictors share a bounded pool
+ * of cloned handles instead.
  */
 public class PpPredictor<I, O> extends Predictor<I, O> {
 
@@ -38,10 +40,29 @@ public class PpPredictor<I, O> extends Predictor<I, O> {
         block = new PpSymbolBlock(predictor);
     }
 
+    /**
+     * Creates a new instance of {@code PpPredictor} that shares a pool of C++ Paddle Predictors.
+     *
+     * @param model the model on which the predictions are based
+     * @param predictor the C++ Paddle Predictor handle of the model
+     * @param pool the pool of C++ Paddle Predictor handles
+     * @param translator the translator to be used
+     */
+    PpPredictor(
+            Model model,
+            PaddlePredictor predictor,
+            PaddlePredictorPool pool,
+            Translator<I, O> translator) {
+        super(model, translator, false);
+        block = new PpSymbolBlock(predictor, pool);
+    }
+
     /** {@inheritDoc} */
     @Override
     public void close() {
         super.close();
-        this.predictor.close();
+        if (predictor != null) {
+            predictor.close();
+        }
     }
 }
@@ -12,7 +12,6 @@
  */
 package ai.djl.paddlepaddle.engine;
 
-import ai.djl.ndarray.NDArray;
 import ai.djl.ndarray.NDList;
 import ai.djl.ndarray.NDManager;
 import ai.djl.ndarray.types.Shape;
@@ -29,6 +28,7 @@ public class PpSymbolBlock extends AbstractSymbolBlock {
     private static final byte VERSION = 1;
 
     private PaddlePredictor predictor;
+    private PaddlePredictorPool pool;
     private String[] inputNames;
 
     /**
@@ -42,6 +42,18 @@ public class PpSymbolBlock extends AbstractSymbolBlock {
         inputNames = JniUtils.getInputNames(predictor);
     }
 
+    /**
+     * Constructs a new {@code PpSymbolBlock} instance that borrows a {@link PaddlePredictor} from a
+     * shared pool for each forward pass.
+     *
+     * @param predictor {@link PaddlePredictor} that holds the model information.
+     * @param pool the pool of {@link PaddlePredictor}s to run the model
+     */
+    PpSymbolBlock(PaddlePredictor predictor, PaddlePredictorPool pool) {
+        this(predictor);
+        this.pool = pool;
+    }
+
     /** {@inheritDoc} */
     @Override
     protected NDList forwardInternal(
@@ -57,9 +69,18 @@ public class PpSymbolBlock extends AbstractSymbolBlock {
         try (PpNDManager tempManager = PpNDManager.getSystemManager().newSubManager()) {
             boolean foreignEngine =
                     !PpEngine.ENGINE_NAME.equals(inputManager.getEngine().getEngineName());
-            PpNDArray[] result =
-                    JniUtils.predictorForward(
-                            predictor, getInputs(inputs, foreignEngine, tempManager), inputNames);
+            PpNDArray[] inputArray = getInputs(inputs, foreignEngine, tempManager);
+            PpNDArray[] result;
+            if (pool == null) {
+                result = JniUtils.predictorForward(predictor, inputArray, inputNames);
+            } else {
+                PaddlePredictor pooled = pool.borrow();
+                try {
+                    result = JniUtils.predictorForward(pooled, inputArray, inputNames);
+                } finally {
+                    pool.release(pooled);
+                }
+            }
             return getOutputs(result, foreignEngine, inputManager);
         }
     }
@@ -68,10 +89,7 @@ public class PpSymbolBlock extends AbstractSymbolBlock {
         PpNDArray[] inputArray = new PpNDArray[inputs.size()];
         for (int i = 0; i < inputArray.length; i++) {
             if (foreignEngine) {
-                NDArray array = inputs.get(i);
-                inputArray[i] =
-                        tempManager.create(
-                                array.toByteBuffer(), array.getShape(), array.getDataType());
+                inputArray[i] = (PpNDArray) tempManager.from(inputs.get(i));
             } else {
                 inputArray[i] = (PpNDArray) inputs.get(i);
             }
@@ -83,9 +101,7 @@ public class PpSymbolBlock extends AbstractSymbolBlock {
         NDList list = new NDList(outputs.length);
         for (PpNDArray output : outputs) {
             if (foreignEngine) {
-                list.add(
-                        inputManager.create(
-                                output.toByteBuffer(), output.getShape(), output.getDataType()));
+                list.add(inputManager.from(output));
             } else {
                 list.add(output);
             }
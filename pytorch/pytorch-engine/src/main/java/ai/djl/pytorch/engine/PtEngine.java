@@ -105,6 +105,19 @@ public final class PtEngine extends Engine {
         return new PtGradientCollector();
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean setGradientRecording(boolean recording) {
+        return JniUtils.setGradMode(recording);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setNumThreads(int numThreads) {
+        // PyTorch shares the intra-op thread setting across the process
+        JniUtils.setNumThreads(numThreads);
+    }
+
     /** {@inheritDoc} */
     @Override
     public void setRandomSeed(int seed) {
@@ -112,6 +125,25 @@ public final class PtEngine extends Engine {
         RandomUtils.RANDOM.setSeed(seed);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public byte[] getRandomState(Device device) {
+        // only the state of the CPU generator is captured
+        if (!Device.Type.CPU.equals(device.getDeviceType())) {
+            return null;
+        }
+        return JniUtils.getRngState();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setRandomState(Device device, byte[] state) {
+        if (!Device.Type.CPU.equals(device.getDeviceType())) {
+            throw new UnsupportedOperationException("Only the CPU random state is supported.");
+        }
+        JniUtils.setRngState(state);
+    }
+
     /** {@inheritDoc} */
     @Override
     public String toString() {
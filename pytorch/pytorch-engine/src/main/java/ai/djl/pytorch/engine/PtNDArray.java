@@ -56,7 +56,7 @@ public class PtNDArray extends NativeResource<Long> implements NDArray {
 
     // keep a reference to direct buffer to avoid GC release the memory
     @SuppressWarnings("PMD.UnusedPrivateField")
-    private ByteBuffer dataRef;
+    private Buffer dataRef;
 
     /**
      * Constructs a PyTorch {@code NDArray} from a native handle (internal. Use {@link NDManager}
@@ -80,7 +80,7 @@ public class PtNDArray extends NativeResource<Long> implements NDArray {
      * @param handle the pointer to the native PyTorch memory
      * @param data the direct buffer of the data
      */
-    public PtNDArray(PtNDManager manager, long handle, ByteBuffer data) {
+    public PtNDArray(PtNDManager manager, long handle, Buffer data) {
         super(handle);
         this.manager = manager;
         this.ptNDArrayEx = new PtNDArrayEx(this);
@@ -202,7 +202,7 @@ public class PtNDArray extends NativeResource<Long> implements NDArray {
     /** {@inheritDoc} */
     @Override
     public NDArray stopGradient() {
-        throw new UnsupportedOperationException("Not supported");
+        return JniUtils.detachGradient(this);
     }
 
     /** {@inheritDoc} */
@@ -211,6 +211,78 @@ public class PtNDArray extends NativeResource<Long> implements NDArray {
         return JniUtils.getByteBuffer(this);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The buffer shares the memory of this {@code NDArray} when it is dense and contiguous on
+     * CPU, other arrays are copied.
+     */
+    @Override
+    public ByteBuffer asDirectByteBuffer() {
+        ByteBuffer bb = JniUtils.getDirectByteBuffer(this);
+        return bb == null ? NDArray.super.asDirectByteBuffer() : bb;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] toDoubleArray() {
+        ByteBuffer bb = getDirectByteBuffer(DataType.FLOAT64);
+        if (bb == null) {
+            return NDArray.super.toDoubleArray();
+        }
+        DoubleBuffer db = bb.asDoubleBuffer();
+        double[] ret = new double[db.remaining()];
+        db.get(ret);
+        return ret;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public float[] toFloatArray() {
+        ByteBuffer bb = getDirectByteBuffer(DataType.FLOAT32);
+        if (bb == null) {
+            return NDArray.super.toFloatArray();
+        }
+        FloatBuffer fb = bb.asFloatBuffer();
+        float[] ret = new float[fb.remaining()];
+        fb.get(ret);
+        return ret;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int[] toIntArray() {
+        ByteBuffer bb = getDirectByteBuffer(DataType.INT32);
+        if (bb == null) {
+            return NDArray.super.toIntArray();
+        }
+        IntBuffer ib = bb.asIntBuffer();
+        int[] ret = new int[ib.remaining()];
+        ib.get(ret);
+        return ret;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long[] toLongArray() {
+        ByteBuffer bb = getDirectByteBuffer(DataType.INT64);
+        if (bb == null) {
+            return NDArray.super.toLongArray();
+        }
+        LongBuffer lb = bb.asLongBuffer();
+        long[] ret = new long[lb.remaining()];
+        lb.get(ret);
+        return ret;
+    }
+
+    private ByteBuffer getDirectByteBuffer(DataType dataType) {
+        // copies the data into the Java array without the intermediate byte array
+        if (getDataType() != dataType) {
+            return null;
+        }
+        return JniUtils.getDirectByteBuffer(this);
+    }
+
     /** {@inheritDoc} */
     @Override
     public void set(Buffer data) {
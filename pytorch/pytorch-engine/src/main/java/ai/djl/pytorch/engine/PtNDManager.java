@@ -57,9 +57,11 @@ public class PtNDManager extends BaseNDManager {
     /** {@inheritDoc} */
     @Override
     public PtNDArray create(Buffer data, Shape shape, DataType dataType) {
-        if (data.isDirect() && data instanceof ByteBuffer) {
+        Buffer direct = asNativeBuffer(data, dataType);
+        if (direct != null) {
+            // the array shares the memory of the buffer
             return JniUtils.createNdFromByteBuffer(
-                    this, (ByteBuffer) data, shape, dataType, SparseFormat.DENSE, device);
+                    this, direct, shape, dataType, SparseFormat.DENSE, device);
         }
         int size = data.remaining();
         // int8, uint8, boolean use ByteBuffer, so need to explicitly input DataType
@@ -95,6 +97,40 @@ public class PtNDManager extends BaseNDManager {
                 this, buf, shape, dataType, SparseFormat.DENSE, device);
     }
 
+    /**
+     * Returns a direct buffer in native byte order that starts at the position of the data, or
+     * {@code null} if the data must be copied.
+     */
+    private static Buffer asNativeBuffer(Buffer data, DataType dataType) {
+        if (!data.isDirect()) {
+            return null;
+        }
+        // the slices share the memory and keep the buffer alive
+        if (data instanceof ByteBuffer) {
+            return ((ByteBuffer) data).slice();
+        }
+        if (DataType.fromBuffer(data) != dataType) {
+            return null;
+        }
+        ByteOrder order = ByteOrder.nativeOrder();
+        switch (dataType) {
+            case FLOAT32:
+                FloatBuffer fb = (FloatBuffer) data;
+                return fb.order() == order ? fb.slice() : null;
+            case FLOAT64:
+                DoubleBuffer db = (DoubleBuffer) data;
+                return db.order() == order ? db.slice() : null;
+            case INT32:
+                IntBuffer ib = (IntBuffer) data;
+                return ib.order() == order ? ib.slice() : null;
+            case INT64:
+                LongBuffer lb = (LongBuffer) data;
+                return lb.order() == order ? lb.slice() : null;
+            default:
+                return null;
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public NDArray createCoo(Buffer data, long[][] indices, Shape shape) {
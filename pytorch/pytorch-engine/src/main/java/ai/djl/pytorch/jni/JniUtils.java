@@ -22,6 +22,7 @@ import ai.djl.pytorch.engine.PtDeviceType;
 import ai.djl.pytorch.engine.PtNDArray;
 import ai.djl.pytorch.engine.PtNDManager;
 import ai.djl.pytorch.engine.PtSymbolBlock;
+import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.file.Path;
@@ -92,6 +93,14 @@ public final class JniUtils {
         PyTorchLibrary.LIB.torchManualSeed(seed);
     }
 
+    public static byte[] getRngState() {
+        return PyTorchLibrary.LIB.torchGetRngState();
+    }
+
+    public static void setRngState(byte[] state) {
+        PyTorchLibrary.LIB.torchSetRngState(state);
+    }
+
     /**
      * Calls this method to start profile the area you are interested in.
      *
@@ -120,7 +129,7 @@ public final class JniUtils {
     // TODO: Unchecked Datatype and device mapping
     public static PtNDArray createNdFromByteBuffer(
             PtNDManager manager,
-            ByteBuffer data,
+            Buffer data,
             Shape shape,
             DataType dType,
             SparseFormat fmt,
@@ -1316,6 +1325,12 @@ public final class JniUtils {
                 .order(ByteOrder.nativeOrder());
     }
 
+    public static ByteBuffer getDirectByteBuffer(PtNDArray ndArray) {
+        // null if the array is not a dense contiguous CPU tensor
+        ByteBuffer bb = PyTorchLibrary.LIB.torchDirectByteBuffer(ndArray.getHandle());
+        return bb == null ? null : bb.order(ByteOrder.nativeOrder());
+    }
+
     public static void deleteNDArray(long handle) {
         PyTorchLibrary.LIB.torchDeleteTensor(handle);
     }
@@ -1328,6 +1343,10 @@ public final class JniUtils {
         return PyTorchLibrary.LIB.torchGradFnName(ndArray.getHandle());
     }
 
+    public static boolean setGradMode(boolean enable) {
+        return PyTorchLibrary.LIB.torchSetGradMode(enable);
+    }
+
     public static void attachGradient(PtNDArray ndArray) {
         PyTorchLibrary.LIB.torchAttachGrad(ndArray.getHandle());
     }
@@ -12,6 +12,7 @@
  */
 package ai.djl.pytorch.jni;
 
+import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.util.Set;
 
@@ -32,6 +33,12 @@ final class PyTorchLibrary {
 
     native void torchManualSeed(long seed);
 
+    native byte[] torchGetRngState();
+
+    native void torchSetRngState(byte[] state);
+
+    native boolean torchSetGradMode(boolean enable);
+
     native void torchShowConfig(Set<String> set);
 
     native void torchStartProfile(boolean useCuda, boolean recordShape, boolean profileMemory);
@@ -42,6 +49,8 @@ final class PyTorchLibrary {
 
     native byte[] torchDataPtr(long handle);
 
+    native ByteBuffer torchDirectByteBuffer(long handle);
+
     native int torchDType(long handle);
 
     native int[] torchDevice(long handle);
@@ -172,12 +181,7 @@ final class PyTorchLibrary {
     native boolean contentEqual(long handle1, long handle2);
 
     native long torchFromBlob(
-            ByteBuffer data,
-            long[] shape,
-            int dType,
-            int layout,
-            int[] device,
-            boolean requiredGrad);
+            Buffer data, long[] shape, int dType, int layout, int[] device, boolean requiredGrad);
 
     native long torchIndex(long handle, long[] minIndices, long[] maxIndices, long[] stepIndices);
 
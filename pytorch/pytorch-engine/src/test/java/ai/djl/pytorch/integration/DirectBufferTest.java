@@ -0,0 +1,90 @@
+/*
+ * Copyright 2021 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.pytorch.integration;
+
+import ai.djl.Device;
+import ai.djl.ndarray.MappedNDList;
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDList;
+import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.types.Shape;
+import ai.djl.pytorch.engine.PtNDArray;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/** The file is for testing the zero-copy buffers of PyTorch {@code NDArray}s. */
+public class DirectBufferTest {
+
+    @Test
+    public void testDirectByteBuffer() {
+        try (NDManager manager = NDManager.newBaseManager(Device.cpu())) {
+            PtNDArray array = (PtNDArray) manager.arange(6f).reshape(2, 3);
+            ByteBuffer bb = array.asDirectByteBuffer();
+            Assert.assertTrue(bb.isDirect());
+            Assert.assertEquals(bb.asFloatBuffer().get(4), 4f);
+
+            // the buffer shares the memory of the array
+            array.muli(2);
+            Assert.assertEquals(bb.asFloatBuffer().get(4), 8f);
+            Assert.assertEquals(array.toFloatArray(), new float[] {0f, 2f, 4f, 6f, 8f, 10f});
+
+            // non-contiguous arrays are copied
+            PtNDArray transposed = (PtNDArray) array.transpose();
+            Assert.assertEquals(transposed.toFloatArray(), new float[] {0f, 6f, 2f, 8f, 4f, 10f});
+        }
+    }
+
+    @Test
+    public void testCreateFromDirectBuffer() {
+        try (NDManager manager = NDManager.newBaseManager(Device.cpu())) {
+            FloatBuffer data =
+                    ByteBuffer.allocateDirect(20)
+                            .order(ByteOrder.nativeOrder())
+                            .asFloatBuffer()
+                            .put(new float[] {9f, 1f, 2f, 3f, 4f});
+            data.position(1);
+            NDArray array = manager.create(data, new Shape(2, 2));
+            Assert.assertEquals(array.toFloatArray(), new float[] {1f, 2f, 3f, 4f});
+
+            // the array shares the memory of the buffer
+            data.put(1, 5f);
+            Assert.assertEquals(array.getFloat(0, 0), 5f);
+        }
+    }
+
+    @Test
+    public void testWriteMappedArray() throws IOException {
+        Path file = Files.createTempFile("ndlist", ".ndlm");
+        try (NDManager manager = NDManager.newBaseManager(Device.cpu())) {
+            MappedNDList.write(new NDList(manager.arange(6f)), file);
+            try (MappedNDList mapped = MappedNDList.open(file)) {
+                // the array may share the mapped memory, which must accept in-place changes
+                NDArray array = mapped.get(manager, 0);
+                array.addi(1);
+                Assert.assertEquals(array.toFloatArray(), new float[] {1f, 2f, 3f, 4f, 5f, 6f});
+            }
+            // the changes are not written to the file
+            try (MappedNDList mapped = MappedNDList.open(file)) {
+                Assert.assertEquals(mapped.get(manager, 0), manager.arange(6f));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -10,6 +10,7 @@
  * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
  * and limitations under the License.
  */
+#include <ATen/CPUGeneratorImpl.h>
 #include <torch/torch.h>
 // clang-format off
 #include <torch/csrc/jit/frontend/code_template.h>
@@ -75,6 +76,69 @@ JNIEXPORT void JNICALL Java_ai_djl_pytorch_jni_PyTorchLibrary_torchManualSeed(JN
   API_END()
 }
 
+// The state of the default CPU generator, the same fields as torch.get_rng_state() in python
+struct CPUGeneratorState {
+  at::mt19937_data_pod engine;
+  float next_float_normal_sample;
+  bool is_next_float_normal_sample_valid;
+  double next_double_normal_sample;
+  bool is_next_double_normal_sample_valid;
+};
+
+JNIEXPORT jbyteArray JNICALL Java_ai_djl_pytorch_jni_PyTorchLibrary_torchGetRngState(JNIEnv* env, jobject jthis) {
+  API_BEGIN()
+  auto gen = at::detail::getDefaultCPUGenerator();
+  CPUGeneratorState state{};
+  {
+    // See Note [Acquire lock when using random generators]
+    std::lock_guard<std::mutex> lock(gen.mutex());
+    auto* cpu_gen = gen.get<at::CPUGeneratorImpl>();
+    state.engine = cpu_gen->engine().data();
+    auto next_float = cpu_gen->next_float_normal_sample();
+    state.is_next_float_normal_sample_valid = next_float.has_value();
+    state.next_float_normal_sample = next_float.value_or(0);
+    auto next_double = cpu_gen->next_double_normal_sample();
+    state.is_next_double_normal_sample_valid = next_double.has_value();
+    state.next_double_normal_sample = next_double.value_or(0);
+  }
+  jbyteArray result = env->NewByteArray(sizeof(CPUGeneratorState));
+  env->SetByteArrayRegion(result, 0, sizeof(CPUGeneratorState), reinterpret_cast<const jbyte*>(&state));
+  return result;
+  API_END_RETURN()
+}
+
+JNIEXPORT void JNICALL Java_ai_djl_pytorch_jni_PyTorchLibrary_torchSetRngState(
+    JNIEnv* env, jobject jthis, jbyteArray jstate) {
+  API_BEGIN()
+  TORCH_CHECK(env->GetArrayLength(jstate) == sizeof(CPUGeneratorState), "Invalid random generator state");
+  CPUGeneratorState state{};
+  env->GetByteArrayRegion(jstate, 0, sizeof(CPUGeneratorState), reinterpret_cast<jbyte*>(&state));
+  auto gen = at::detail::getDefaultCPUGenerator();
+  // See Note [Acquire lock when using random generators]
+  std::lock_guard<std::mutex> lock(gen.mutex());
+  auto* cpu_gen = gen.get<at::CPUGeneratorImpl>();
+  at::mt19937 engine;
+  engine.set_data(state.engine);
+  cpu_gen->set_engine(engine);
+  cpu_gen->set_next_float_normal_sample(state.is_next_float_normal_sample_valid
+                                            ? c10::optional<float>(state.next_float_normal_sample)
+                                            : c10::optional<float>());
+  cpu_gen->set_next_double_normal_sample(state.is_next_double_normal_sample_valid
+                                             ? c10::optional<double>(state.next_double_normal_sample)
+                                             : c10::optional<double>());
+  API_END()
+}
+
+JNIEXPORT jboolean JNICALL Java_ai_djl_pytorch_jni_PyTorchLibrary_torchSetGradMode(
+    JNIEnv* env, jobject jthis, jboolean jenable) {
+  API_BEGIN()
+  // grad mode is thread local
+  bool previous = torch::autograd::GradMode::is_enabled();
+  torch::autograd::GradMode::set_enabled(jenable);
+  return previous;
+  API_END_RETURN()
+}
+
 JNIEXPORT void JNICALL Java_ai_djl_pytorch_jni_PyTorchLibrary_torchShowConfig(
     JNIEnv* env, jobject jthis, jobject jset) {
   API_BEGIN()
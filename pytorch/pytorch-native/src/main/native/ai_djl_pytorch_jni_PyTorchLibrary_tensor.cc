@@ -209,6 +209,18 @@ JNIEXPORT jbyteArray JNICALL Java_ai_djl_pytorch_jni_PyTorchLibrary_torchDataPtr
   API_END_RETURN()
 }
 
+JNIEXPORT jobject JNICALL Java_ai_djl_pytorch_jni_PyTorchLibrary_torchDirectByteBuffer(
+    JNIEnv* env, jobject jthis, jlong jhandle) {
+  API_BEGIN()
+  const auto* tensor_ptr = reinterpret_cast<torch::Tensor*>(jhandle);
+  // only the storage of a dense contiguous CPU tensor can be shared without a copy
+  if (!tensor_ptr->device().is_cpu() || tensor_ptr->layout() != torch::kStrided || !tensor_ptr->is_contiguous()) {
+    return nullptr;
+  }
+  return env->NewDirectByteBuffer(tensor_ptr->data_ptr(), tensor_ptr->nbytes());
+  API_END_RETURN()
+}
+
 JNIEXPORT void JNICALL Java_ai_djl_pytorch_jni_PyTorchLibrary_torchDeleteTensor(
     JNIEnv* env, jobject jthis, jlong jhandle) {
   API_BEGIN()
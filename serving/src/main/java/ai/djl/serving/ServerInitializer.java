@@ -15,6 +15,7 @@ package ai.djl.serving;
 import ai.djl.serving.http.InferenceRequestHandler;
 import ai.djl.serving.http.InvalidRequestHandler;
 import ai.djl.serving.http.ManagementRequestHandler;
+import ai.djl.serving.http.MetricsRequestHandler;
 import ai.djl.serving.util.ConfigManager;
 import ai.djl.serving.util.Connector;
 import io.netty.channel.Channel;
@@ -58,6 +59,7 @@ public class ServerInitializer extends ChannelInitializer<Channel> {
         switch (connectorType) {
             case MANAGEMENT:
                 pipeline.addLast("management", new ManagementRequestHandler());
+                pipeline.addLast("metrics", new MetricsRequestHandler());
                 break;
             case INFERENCE:
                 pipeline.addLast("inference", new InferenceRequestHandler());
@@ -66,6 +68,7 @@ public class ServerInitializer extends ChannelInitializer<Channel> {
             default:
                 pipeline.addLast("inference", new InferenceRequestHandler());
                 pipeline.addLast("management", new ManagementRequestHandler());
+                pipeline.addLast("metrics", new MetricsRequestHandler());
                 break;
         }
         pipeline.addLast("badRequest", new InvalidRequestHandler());
@@ -26,6 +26,8 @@ public class DescribeModelResponse {
     private int batchSize;
     private int maxBatchDelay;
     private int maxIdleTime;
+    private boolean adaptiveBatching;
+    private int jobTimeout;
     private String status;
     private boolean loadedAtStartup;
 
@@ -162,6 +164,42 @@ public class DescribeModelResponse {
         this.maxBatchDelay = maxBatchDelay;
     }
 
+    /**
+     * Returns if the model uses adaptive batching.
+     *
+     * @return {@code true} if the model uses adaptive batching
+     */
+    public boolean isAdaptiveBatching() {
+        return adaptiveBatching;
+    }
+
+    /**
+     * Sets if the model uses adaptive batching.
+     *
+     * @param adaptiveBatching {@code true} if the model uses adaptive batching
+     */
+    public void setAdaptiveBatching(boolean adaptiveBatching) {
+        this.adaptiveBatching = adaptiveBatching;
+    }
+
+    /**
+     * Returns the job timeout in milliseconds.
+     *
+     * @return the job timeout in milliseconds
+     */
+    public int getJobTimeout() {
+        return jobTimeout;
+    }
+
+    /**
+     * Sets the job timeout in milliseconds.
+     *
+     * @param jobTimeout the job timeout in milliseconds
+     */
+    public void setJobTimeout(int jobTimeout) {
+        this.jobTimeout = jobTimeout;
+    }
+
     /**
      * Returns the model's status.
      *
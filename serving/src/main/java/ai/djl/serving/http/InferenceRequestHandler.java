@@ -25,7 +25,10 @@ import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.QueryStringDecoder;
+import io.netty.util.ReferenceCounted;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.regex.Pattern;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -96,14 +99,36 @@ public class InferenceRequestHandler extends HttpRequestHandler {
         if (segments.length < 3) {
             throw new ResourceNotFoundException();
         }
-        Input input = requestParser.parseRequest(ctx, req, decoder);
-        predict(ctx, req, input, segments[2]);
+        List<ReferenceCounted> resources = new ArrayList<>();
+        try {
+            Input input = requestParser.parseRequest(ctx, req, decoder, resources);
+            predict(ctx, req, input, segments[2], resources);
+        } catch (RuntimeException | ModelNotFoundException e) {
+            NettyUtils.release(resources);
+            throw e;
+        }
     }
 
     private void handleInvocations(
             ChannelHandlerContext ctx, FullHttpRequest req, QueryStringDecoder decoder)
             throws ModelNotFoundException {
-        Input input = requestParser.parseRequest(ctx, req, decoder);
+        List<ReferenceCounted> resources = new ArrayList<>();
+        try {
+            Input input = requestParser.parseRequest(ctx, req, decoder, resources);
+            handleInvocations(ctx, req, decoder, input, resources);
+        } catch (RuntimeException | ModelNotFoundException e) {
+            NettyUtils.release(resources);
+            throw e;
+        }
+    }
+
+    private void handleInvocations(
+            ChannelHandlerContext ctx,
+            FullHttpRequest req,
+            QueryStringDecoder decoder,
+            Input input,
+            List<ReferenceCounted> resources)
+            throws ModelNotFoundException {
         String modelName = NettyUtils.getParameter(decoder, "model_name", null);
         if ((modelName == null || modelName.isEmpty())) {
             modelName = input.getProperty("model_name", null);
@@ -122,11 +147,15 @@ public class InferenceRequestHandler extends HttpRequestHandler {
                 throw new BadRequestException("Parameter model_name is required.");
             }
         }
-        predict(ctx, req, input, modelName);
+        predict(ctx, req, input, modelName, resources);
     }
 
     private void predict(
-            ChannelHandlerContext ctx, FullHttpRequest req, Input input, String modelName)
+            ChannelHandlerContext ctx,
+            FullHttpRequest req,
+            Input input,
+            String modelName,
+            List<ReferenceCounted> resources)
             throws ModelNotFoundException {
         ModelManager modelManager = ModelManager.getInstance();
         ModelInfo model = modelManager.getModels().get(modelName);
@@ -159,20 +188,23 @@ public class InferenceRequestHandler extends HttpRequestHandler {
                     .thenAccept(m -> modelManager.triggerModelUpdated(m.scaleWorkers(1, 1)))
                     .thenAccept(
                             p -> {
+                                Job job = new Job(ctx, modelName, input, resources);
                                 try {
-                                    if (!modelManager.addJob(new Job(ctx, modelName, input))) {
+                                    if (!modelManager.addJob(job)) {
                                         throw new ServiceUnavailableException(
                                                 "No worker is available to serve request: "
                                                         + modelName);
                                     }
                                 } catch (ModelNotFoundException e) {
                                     logger.warn("Unexpected error", e);
+                                    NettyUtils.release(resources);
                                     NettyUtils.sendError(ctx, e);
                                 }
                             })
                     .exceptionally(
                             t -> {
                                 logger.warn("Unexpected error", t);
+                                NettyUtils.release(resources);
                                 NettyUtils.sendError(ctx, t);
                                 return null;
                             });
@@ -180,11 +212,12 @@ public class InferenceRequestHandler extends HttpRequestHandler {
         }
 
         if (HttpMethod.OPTIONS.equals(req.method())) {
+            NettyUtils.release(resources);
             NettyUtils.sendJsonResponse(ctx, "{}");
             return;
         }
 
-        Job job = new Job(ctx, modelName, input);
+        Job job = new Job(ctx, modelName, input, resources);
         if (!ModelManager.getInstance().addJob(job)) {
             logger.error("unable to process prediction. no free worker available.");
             throw new ServiceUnavailableException(
@@ -14,6 +14,7 @@ package ai.djl.serving.http;
 
 import ai.djl.ModelException;
 import ai.djl.repository.zoo.ModelNotFoundException;
+import ai.djl.serving.util.ConfigManager;
 import ai.djl.serving.util.NettyUtils;
 import ai.djl.serving.wlm.ModelInfo;
 import ai.djl.serving.wlm.ModelManager;
@@ -49,6 +50,10 @@ public class ManagementRequestHandler extends HttpRequestHandler {
     private static final String MAX_BATCH_DELAY_PARAMETER = "max_batch_delay";
     /** HTTP Paramater "max_idle_time". */
     private static final String MAX_IDLE_TIME__PARAMETER = "max_idle_time";
+    /** HTTP Paramater "adaptive_batching". */
+    private static final String ADAPTIVE_BATCHING_PARAMETER = "adaptive_batching";
+    /** HTTP Paramater "job_timeout". */
+    private static final String JOB_TIMEOUT_PARAMETER = "job_timeout";
     /** HTTP Paramater "max_worker". */
     private static final String MAX_WORKER_PARAMETER = "max_worker";
     /** HTTP Paramater "min_worker". */
@@ -147,6 +152,16 @@ public class ManagementRequestHandler extends HttpRequestHandler {
         int batchSize = NettyUtils.getIntParameter(decoder, BATCH_SIZE_PARAMETER, 1);
         int maxBatchDelay = NettyUtils.getIntParameter(decoder, MAX_BATCH_DELAY_PARAMETER, 100);
         int maxIdleTime = NettyUtils.getIntParameter(decoder, MAX_IDLE_TIME__PARAMETER, 60);
+        ConfigManager configManager = ConfigManager.getInstance();
+        boolean adaptiveBatching =
+                Boolean.parseBoolean(
+                        NettyUtils.getParameter(
+                                decoder,
+                                ADAPTIVE_BATCHING_PARAMETER,
+                                String.valueOf(configManager.isAdaptiveBatching())));
+        int jobTimeout =
+                NettyUtils.getIntParameter(
+                        decoder, JOB_TIMEOUT_PARAMETER, configManager.getJobTimeout());
         final int initialWorkers =
                 NettyUtils.getIntParameter(decoder, INITIAL_WORKERS_PARAMETER, 1);
         boolean synchronous =
@@ -164,7 +179,8 @@ public class ManagementRequestHandler extends HttpRequestHandler {
                                         modelInfo
                                                 .scaleWorkers(initialWorkers, initialWorkers)
                                                 .configurePool(maxIdleTime, maxBatchDelay)
-                                                .configureModelBatch(batchSize)));
+                                                .configureModelBatch(batchSize)
+                                                .configureBatchMode(adaptiveBatching, jobTimeout)));
 
         if (synchronous) {
             final String msg = "Model \"" + modelName + "\" registered.";
@@ -218,10 +234,21 @@ public class ManagementRequestHandler extends HttpRequestHandler {
                     NettyUtils.getIntParameter(
                             decoder, MAX_BATCH_DELAY_PARAMETER, modelInfo.getMaxBatchDelay());
 
+            boolean adaptiveBatching =
+                    Boolean.parseBoolean(
+                            NettyUtils.getParameter(
+                                    decoder,
+                                    ADAPTIVE_BATCHING_PARAMETER,
+                                    String.valueOf(modelInfo.isAdaptiveBatching())));
+            int jobTimeout =
+                    NettyUtils.getIntParameter(
+                            decoder, JOB_TIMEOUT_PARAMETER, modelInfo.getJobTimeout());
+
             modelInfo =
                     modelInfo
                             .scaleWorkers(minWorkers, maxWorkers)
-                            .configurePool(maxIdleTime, maxBatchDelay);
+                            .configurePool(maxIdleTime, maxBatchDelay)
+                            .configureBatchMode(adaptiveBatching, jobTimeout);
             modelManager.triggerModelUpdated(modelInfo);
 
             String msg =
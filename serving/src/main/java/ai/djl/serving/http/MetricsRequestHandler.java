@@ -0,0 +1,185 @@
+/*
+ * Copyright 2021 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.serving.http;
+
+import ai.djl.Device;
+import ai.djl.metric.Histogram;
+import ai.djl.serving.util.NettyUtils;
+import ai.djl.serving.wlm.ModelInfo;
+import ai.djl.serving.wlm.ModelManager;
+import ai.djl.serving.wlm.ModelMetrics;
+import ai.djl.serving.wlm.WorkerState;
+import ai.djl.util.cuda.CudaUtils;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * A class handling inbound HTTP requests to the metrics API.
+ *
+ * <p>The metrics are rendered in the Prometheus text exposition format. They are read from counters
+ * that the workers update on the request path, so scraping does not slow down inference.
+ */
+public class MetricsRequestHandler extends HttpRequestHandler {
+
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99};
+
+    private static final Pattern PATTERN = Pattern.compile("^/metrics([?].*)?");
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean acceptInboundMessage(Object msg) throws Exception {
+        if (super.acceptInboundMessage(msg)) {
+            FullHttpRequest req = (FullHttpRequest) msg;
+            return PATTERN.matcher(req.uri()).matches();
+        }
+        return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void handleRequest(
+            ChannelHandlerContext ctx,
+            FullHttpRequest req,
+            QueryStringDecoder decoder,
+            String[] segments) {
+        if (!HttpMethod.GET.equals(req.method())) {
+            throw new MethodNotAllowedException();
+        }
+        NettyUtils.sendTextResponse(ctx, collectMetrics(), CONTENT_TYPE);
+    }
+
+    private String collectMetrics() {
+        ModelManager modelManager = ModelManager.getInstance();
+        Map<String, ModelInfo> models = modelManager.getModels();
+        List<String> names = new ArrayList<>(models.keySet());
+        Collections.sort(names);
+
+        StringBuilder sb = new StringBuilder();
+        header(sb, "djl_serving_queue_length", "gauge", "Number of jobs waiting in the queue.");
+        for (String name : names) {
+            sample(sb, "djl_serving_queue_length", model(name), modelManager.getQueueLength(name));
+        }
+
+        header(sb, "djl_serving_workers", "gauge", "Number of workers in each state.");
+        for (String name : names) {
+            Map<WorkerState, Integer> states = modelManager.getWorkerStates(name);
+            for (Map.Entry<WorkerState, Integer> entry : states.entrySet()) {
+                String labels = model(name) + ",state=\"" + entry.getKey().name() + '"';
+                sample(sb, "djl_serving_workers", labels, entry.getValue());
+            }
+        }
+
+        header(sb, "djl_serving_requests_total", "counter", "Number of requests sent to models.");
+        for (String name : names) {
+            long value = models.get(name).getMetrics().getRequests();
+            sample(sb, "djl_serving_requests_total", model(name), value);
+        }
+
+        header(sb, "djl_serving_errors_total", "counter", "Number of failed requests.");
+        for (String name : names) {
+            long value = models.get(name).getMetrics().getErrors();
+            sample(sb, "djl_serving_errors_total", model(name), value);
+        }
+
+        header(sb, "djl_serving_rejected_total", "counter", "Number of rejected requests.");
+        for (String name : names) {
+            long value = models.get(name).getMetrics().getRejected();
+            sample(sb, "djl_serving_rejected_total", model(name), value);
+        }
+
+        header(sb, "djl_serving_batch_size", "summary", "Number of requests per batch.");
+        for (String name : names) {
+            ModelMetrics metrics = models.get(name).getMetrics();
+            Histogram histogram = metrics.getBatchSize();
+            summary(sb, "djl_serving_batch_size", name, histogram, 1);
+            sample(sb, "djl_serving_batch_size_sum", model(name), metrics.getRequests());
+            sample(sb, "djl_serving_batch_size_count", model(name), metrics.getBatches());
+        }
+
+        header(sb, "djl_serving_queue_wait_seconds", "summary", "Time requests spent queued.");
+        for (String name : names) {
+            ModelMetrics metrics = models.get(name).getMetrics();
+            Histogram histogram = metrics.getQueueWait();
+            summary(sb, "djl_serving_queue_wait_seconds", name, histogram, 1e-6);
+            double sum = metrics.getQueueWaitSum() * 1e-6;
+            sample(sb, "djl_serving_queue_wait_seconds_sum", model(name), sum);
+            sample(sb, "djl_serving_queue_wait_seconds_count", model(name), metrics.getRequests());
+        }
+
+        header(sb, "djl_serving_inference_seconds", "summary", "Inference time per batch.");
+        for (String name : names) {
+            ModelMetrics metrics = models.get(name).getMetrics();
+            Histogram histogram = metrics.getInferenceLatency();
+            summary(sb, "djl_serving_inference_seconds", name, histogram, 1e-6);
+            double sum = metrics.getInferenceSum() * 1e-6;
+            sample(sb, "djl_serving_inference_seconds_sum", model(name), sum);
+            sample(sb, "djl_serving_inference_seconds_count", model(name), metrics.getBatches());
+        }
+
+        collectMemory(sb);
+        return sb.toString();
+    }
+
+    private void collectMemory(StringBuilder sb) {
+        header(sb, "djl_serving_memory_bytes", "gauge", "Memory used by the server.");
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        MemoryUsage nonHeap = ManagementFactory.getMemoryMXBean().getNonHeapMemoryUsage();
+        sample(sb, "djl_serving_memory_bytes", "area=\"heap\"", heap.getUsed());
+        sample(sb, "djl_serving_memory_bytes", "area=\"nonheap\"", nonHeap.getUsed());
+        // NDArray data that is copied through the JVM lives in direct buffers
+        for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+            if ("direct".equals(pool.getName())) {
+                sample(sb, "djl_serving_memory_bytes", "area=\"direct\"", pool.getMemoryUsed());
+            }
+        }
+        int gpuCount = Device.getGpuCount();
+        for (int i = 0; i < gpuCount; ++i) {
+            MemoryUsage mem = CudaUtils.getGpuMemory(Device.gpu(i));
+            String labels = "area=\"gpu\",device=\"" + i + '"';
+            sample(sb, "djl_serving_memory_bytes", labels, mem.getCommitted());
+        }
+    }
+
+    private static void header(StringBuilder sb, String name, String type, String help) {
+        sb.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        sb.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void summary(
+            StringBuilder sb, String metric, String modelName, Histogram histogram, double scale) {
+        for (double quantile : QUANTILES) {
+            String labels = model(modelName) + ",quantile=\"" + quantile + '"';
+            double value = histogram.getPercentile(quantile * 100) * scale;
+            sample(sb, metric, labels, value);
+        }
+    }
+
+    private static void sample(StringBuilder sb, String metric, String labels, Number value) {
+        sb.append(metric).append('{').append(labels).append("} ").append(value).append('\n');
+    }
+
+    private static String model(String modelName) {
+        return "model=\"" + modelName.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+}
@@ -22,6 +22,7 @@ import io.netty.handler.codec.http.QueryStringDecoder;
 import io.netty.handler.codec.http.multipart.DefaultHttpDataFactory;
 import io.netty.handler.codec.http.multipart.HttpDataFactory;
 import io.netty.handler.codec.http.multipart.HttpPostRequestDecoder;
+import io.netty.util.ReferenceCounted;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
@@ -47,6 +48,27 @@ public class RequestParser {
      */
     public Input parseRequest(
             ChannelHandlerContext ctx, FullHttpRequest req, QueryStringDecoder decoder) {
+        return parseRequest(ctx, req, decoder, null);
+    }
+
+    /**
+     * parsing a request without copying the request body.
+     *
+     * <p>If {@code resources} is not {@code null}, the request body and file uploads are added to
+     * the input as views of the network buffers. The buffers are retained and added to {@code
+     * resources}, they must be released once the input is no longer used.
+     *
+     * @param ctx the context.
+     * @param req the full request.
+     * @param decoder a decoder to decode the query string.
+     * @param resources the list retained buffers are added to, or {@code null} to copy the data
+     * @return parsed input object.
+     */
+    public Input parseRequest(
+            ChannelHandlerContext ctx,
+            FullHttpRequest req,
+            QueryStringDecoder decoder,
+            List<ReferenceCounted> resources) {
         String requestId = NettyUtils.getRequestId(ctx.channel());
         Input input = new Input(requestId);
         if (decoder != null) {
@@ -66,11 +88,12 @@ public class RequestParser {
         if (HttpPostRequestDecoder.isMultipart(req)
                 || HttpHeaderValues.APPLICATION_X_WWW_FORM_URLENCODED.contentEqualsIgnoreCase(
                         contentType)) {
-            HttpDataFactory factory = new DefaultHttpDataFactory(6553500);
+            // the request is already aggregated in memory, don't spill uploads to disk
+            HttpDataFactory factory = new DefaultHttpDataFactory(false);
             HttpPostRequestDecoder form = new HttpPostRequestDecoder(factory, req);
             try {
                 while (form.hasNext()) {
-                    NettyUtils.addFormData(form.next(), input);
+                    NettyUtils.addFormData(form.next(), input, resources);
                 }
             } catch (HttpPostRequestDecoder.EndOfDataDecoderException ignore) {
                 logger.trace("End of multipart items.");
@@ -78,9 +101,11 @@ public class RequestParser {
                 form.cleanFiles();
                 form.destroy();
             }
-        } else {
+        } else if (resources == null) {
             byte[] content = NettyUtils.getBytes(req.content());
             input.addData("body", content);
+        } else {
+            input.addData("body", NettyUtils.getByteBuffer(req.content(), resources));
         }
         return input;
     }
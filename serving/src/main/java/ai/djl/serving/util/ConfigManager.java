@@ -51,10 +51,15 @@ public final class ConfigManager {
     private static final String NUMBER_OF_NETTY_THREADS = "number_of_netty_threads";
     private static final String NETTY_CLIENT_THREADS = "netty_client_threads";
     private static final String JOB_QUEUE_SIZE = "job_queue_size";
+    private static final String MODEL_CACHE_SIZE = "model_cache_size";
     private static final String MAX_IDLE_TIME = "max_idle_time";
     private static final String NUMBER_OF_GPU = "number_of_gpu";
+    private static final String INTRA_OP_THREADS = "intra_op_threads";
+    private static final String CPU_AFFINITY = "cpu_affinity";
     private static final String BATCH_SIZE = "batch_size";
     private static final String MAX_BATCH_DELAY = "max_batch_delay";
+    private static final String ADAPTIVE_BATCHING = "adaptive_batching";
+    private static final String JOB_TIMEOUT = "job_timeout";
     private static final String CORS_ALLOWED_ORIGIN = "cors_allowed_origin";
     private static final String CORS_ALLOWED_METHODS = "cors_allowed_methods";
     private static final String CORS_ALLOWED_HEADERS = "cors_allowed_headers";
@@ -175,6 +180,15 @@ public final class ConfigManager {
         return getIntProperty(JOB_QUEUE_SIZE, 100);
     }
 
+    /**
+     * Returns the number of unregistered models to keep loaded for a later registration.
+     *
+     * @return the number of unregistered models to keep loaded
+     */
+    public int getModelCacheSize() {
+        return getIntProperty(MODEL_CACHE_SIZE, 0);
+    }
+
     /**
      * Returns the default max idle time for workers.
      *
@@ -202,6 +216,24 @@ public final class ConfigManager {
         return getIntProperty(MAX_BATCH_DELAY, 300);
     }
 
+    /**
+     * Returns if workers wait up to the max batch delay for batches to fill by default.
+     *
+     * @return {@code true} if adaptive batching is enabled by default
+     */
+    public boolean isAdaptiveBatching() {
+        return Boolean.parseBoolean(prop.getProperty(ADAPTIVE_BATCHING, "false"));
+    }
+
+    /**
+     * Returns the default time in milliseconds a job may wait before it is rejected.
+     *
+     * @return the default job timeout, 0 if jobs never time out
+     */
+    public int getJobTimeout() {
+        return getIntProperty(JOB_TIMEOUT, 0);
+    }
+
     /**
      * Returns the number of GPUs to be used.
      *
@@ -211,6 +243,28 @@ public final class ConfigManager {
         return getIntProperty(NUMBER_OF_GPU, 0);
     }
 
+    /**
+     * Returns the number of threads each CPU worker uses to run an operator.
+     *
+     * <p>The value applies to the CPU workers of all models alike, a budget per model is not
+     * supported because PyTorch sets the number of threads for the whole process.
+     *
+     * @return the number of intra-op threads per worker, 0 to divide the CPU cores between the
+     *     running CPU workers, a negative value (the default) to keep the engine default
+     */
+    public int getIntraOpThreads() {
+        return getIntProperty(INTRA_OP_THREADS, -1);
+    }
+
+    /**
+     * Returns if each CPU worker is pinned to its own CPU cores.
+     *
+     * @return {@code true} if each CPU worker is pinned to its own CPU cores
+     */
+    public boolean isCpuAffinity() {
+        return Boolean.parseBoolean(prop.getProperty(CPU_AFFINITY, "false"));
+    }
+
     /**
      * Returns the default number of workers for a new registered model.
      *
@@ -419,6 +473,10 @@ public final class ConfigManager {
                 + getNettyClientThreads()
                 + "\nDefault workers per model: "
                 + getDefaultWorkers()
+                + "\nIntra-op threads per worker: "
+                + getIntraOpThreads()
+                + "\nCPU affinity: "
+                + isCpuAffinity()
                 + "\nMaximum Request Size: "
                 + prop.getProperty(MAX_REQUEST_SIZE, "6553500");
     }
@@ -43,8 +43,10 @@ import io.netty.handler.codec.http.multipart.FileUpload;
 import io.netty.handler.codec.http.multipart.InterfaceHttpData;
 import io.netty.util.AttributeKey;
 import io.netty.util.CharsetUtil;
+import io.netty.util.ReferenceCounted;
 import java.io.IOException;
 import java.net.SocketAddress;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import org.slf4j.Logger;
@@ -144,6 +146,22 @@ public final class NettyUtils {
         sendHttpResponse(ctx, resp, true);
     }
 
+    /**
+     * Sends the plain text to client.
+     *
+     * @param ctx the connection context
+     * @param text the text to send
+     * @param contentType the content type of the text
+     */
+    public static void sendTextResponse(
+            ChannelHandlerContext ctx, String text, String contentType) {
+        FullHttpResponse resp =
+                new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK, false);
+        resp.headers().set(HttpHeaderNames.CONTENT_TYPE, contentType);
+        resp.content().writeCharSequence(text, CharsetUtil.UTF_8);
+        sendHttpResponse(ctx, resp, true);
+    }
+
     /**
      * Sends error to client with exception.
      *
@@ -272,6 +290,34 @@ public final class NettyUtils {
         return ret;
     }
 
+    /**
+     * Returns a retained {@link ByteBuffer} view of the readable bytes of the {@code ByteBuf}.
+     *
+     * <p>The {@code ByteBuf} is retained and added to {@code resources}, it must be released with
+     * {@link #release(List)} once the view is no longer used. The view only copies the data if the
+     * {@code ByteBuf} is composed of multiple buffers.
+     *
+     * @param buf the {@code ByteBuf} to read
+     * @param resources the list the retained {@code ByteBuf} is added to
+     * @return a {@link ByteBuffer} view of the {@code ByteBuf}
+     */
+    public static ByteBuffer getByteBuffer(ByteBuf buf, List<ReferenceCounted> resources) {
+        resources.add(buf.retain());
+        return buf.nioBuffer();
+    }
+
+    /**
+     * Releases all the resources in the list and clears it.
+     *
+     * @param resources the resources to release
+     */
+    public static void release(List<? extends ReferenceCounted> resources) {
+        for (ReferenceCounted resource : resources) {
+            resource.release();
+        }
+        resources.clear();
+    }
+
     /**
      * Reads the parameter's value for the key from the uri.
      *
@@ -312,6 +358,21 @@ public final class NettyUtils {
      * @param input the {@link Input} object to be added to
      */
     public static void addFormData(InterfaceHttpData data, Input input) {
+        addFormData(data, input, null);
+    }
+
+    /**
+     * Parses form data and added to the {@link Input} object.
+     *
+     * <p>If {@code resources} is not {@code null}, file uploads are added as {@link ByteBuffer}
+     * views instead of being copied, and their retained buffers are added to {@code resources}.
+     *
+     * @param data the form data
+     * @param input the {@link Input} object to be added to
+     * @param resources the list retained buffers are added to, or {@code null} to copy the data
+     */
+    public static void addFormData(
+            InterfaceHttpData data, Input input, List<ReferenceCounted> resources) {
         if (data == null) {
             return;
         }
@@ -324,7 +385,11 @@ public final class NettyUtils {
                     break;
                 case FileUpload:
                     FileUpload fileUpload = (FileUpload) data;
-                    input.addData(name, getBytes(fileUpload.getByteBuf()));
+                    if (resources == null) {
+                        input.addData(name, getBytes(fileUpload.getByteBuf()));
+                    } else {
+                        input.addData(name, getByteBuffer(fileUpload.getByteBuf(), resources));
+                    }
                     break;
                 default:
                     throw new IllegalArgumentException(
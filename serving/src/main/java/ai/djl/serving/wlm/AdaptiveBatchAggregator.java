@@ -0,0 +1,221 @@
+/*
+ * Copyright 2021 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.serving.wlm;
+
+import ai.djl.modality.Input;
+import ai.djl.modality.Output;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A batch aggregator that waits up to the model's max batch delay for a batch to fill.
+ *
+ * <p>The aggregator keeps a target batch size between 1 and the configured batch size. The target
+ * grows when batches fill up before the delay expires or when the queue backlog cannot be drained
+ * within the delay budget at the observed inference latency, and it shrinks when batches are
+ * flushed by the deadline. When a job timeout is configured, the batch is flushed early so that the
+ * oldest job can still finish in time, and jobs that can no longer meet their deadline are
+ * rejected.
+ */
+public class AdaptiveBatchAggregator extends BatchAggregator {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveBatchAggregator.class);
+
+    private static final double LATENCY_DECAY = 0.2;
+
+    private boolean permanent;
+    private long maxIdleTime;
+    private long maxBatchDelay;
+    private long jobTimeout;
+    private long idleSince;
+
+    private int targetBatchSize;
+    private boolean flushedByDeadline;
+    private long batchStart;
+    private double[] latencies;
+
+    /**
+     * Constructs an {@code AdaptiveBatchAggregator} instance.
+     *
+     * @param model the model to use.
+     * @param jobQueue the job queue for polling data from.
+     * @param permanent {@code true} if the aggregator never terminates by itself, {@code false} if
+     *     it terminates after the model's maximum idle time
+     */
+    public AdaptiveBatchAggregator(
+            ModelInfo model, BlockingQueue<Job> jobQueue, boolean permanent) {
+        super(model, jobQueue);
+        this.permanent = permanent;
+        this.maxIdleTime = model.getMaxIdleTime();
+        this.maxBatchDelay = model.getMaxBatchDelay();
+        this.jobTimeout = model.getJobTimeout();
+        this.idleSince = System.currentTimeMillis();
+        targetBatchSize = batchSize;
+        latencies = new double[batchSize + 1];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<Input> getRequest() throws InterruptedException {
+        List<Input> list = super.getRequest();
+        batchStart = System.currentTimeMillis();
+        return list;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendResponse(List<Output> outputs) {
+        int size = jobs.size();
+        if (size > 0) {
+            updateLatency(size, System.currentTimeMillis() - batchStart);
+            adaptBatchSize(size);
+        }
+        super.sendResponse(outputs);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected List<Job> pollBatch() throws InterruptedException {
+        List<Job> list = new ArrayList<>(batchSize);
+        Job job = pollFirst();
+        if (job == null) {
+            return list;
+        }
+        list.add(job);
+
+        long flushTime = getFlushTime(job);
+        flushedByDeadline = false;
+        while (list.size() < targetBatchSize) {
+            long wait = flushTime - System.currentTimeMillis();
+            if (wait > 0) {
+                job = jobQueue.poll(wait, TimeUnit.MILLISECONDS);
+            } else {
+                job = jobQueue.poll();
+            }
+            if (job == null) {
+                flushedByDeadline = true;
+                break;
+            }
+            if (!isExpired(job)) {
+                list.add(job);
+                // the queue does not guarantee that the first job is the oldest one
+                flushTime = Math.min(flushTime, getFlushTime(job));
+            }
+        }
+        logger.trace("sending jobs, size: {}, target: {}", list.size(), targetBatchSize);
+        idleSince = System.currentTimeMillis();
+        return list;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isFinished() {
+        if (permanent) {
+            return false;
+        }
+        return System.currentTimeMillis() - idleSince > maxIdleTime * 1000;
+    }
+
+    /**
+     * Returns the current target batch size.
+     *
+     * @return the current target batch size
+     */
+    int getTargetBatchSize() {
+        return targetBatchSize;
+    }
+
+    private Job pollFirst() throws InterruptedException {
+        while (true) {
+            Job job;
+            if (permanent) {
+                job = jobQueue.take();
+            } else {
+                job = jobQueue.poll(maxIdleTime, TimeUnit.SECONDS);
+                if (job == null) {
+                    return null;
+                }
+            }
+            if (!isExpired(job)) {
+                return job;
+            }
+        }
+    }
+
+    private long getFlushTime(Job oldest) {
+        long flushTime = oldest.getBegin() + maxBatchDelay;
+        if (jobTimeout > 0) {
+            long deadline = oldest.getBegin() + jobTimeout - estimateLatency(targetBatchSize);
+            flushTime = Math.min(flushTime, deadline);
+        }
+        return flushTime;
+    }
+
+    private boolean isExpired(Job job) {
+        if (jobTimeout <= 0) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        if (now + estimateLatency(1) <= job.getBegin() + jobTimeout) {
+            return false;
+        }
+        logger.debug("Rejecting job {}, waited {} ms.", job.getRequestId(), now - job.getBegin());
+        job.sendError(HttpResponseStatus.SERVICE_UNAVAILABLE, "Job timed out in queue");
+        metrics.recordErrors(1);
+        return true;
+    }
+
+    private void updateLatency(int size, long latency) {
+        if (latencies[size] == 0) {
+            latencies[size] = latency;
+        } else {
+            latencies[size] += LATENCY_DECAY * (latency - latencies[size]);
+        }
+    }
+
+    private long estimateLatency(int size) {
+        if (latencies[size] > 0) {
+            return (long) latencies[size];
+        }
+        // assume latency grows linearly from the closest smaller batch size we have seen
+        for (int i = size - 1; i > 0; --i) {
+            if (latencies[i] > 0) {
+                return (long) (latencies[i] * size / i);
+            }
+        }
+        return 0;
+    }
+
+    private void adaptBatchSize(int size) {
+        if (size < targetBatchSize) {
+            // not enough jobs arrived within the delay budget
+            targetBatchSize = Math.max(1, (targetBatchSize + size) / 2);
+            return;
+        }
+
+        int depth = jobQueue.size();
+        long drainTime = (depth + targetBatchSize - 1) / targetBatchSize;
+        drainTime *= estimateLatency(targetBatchSize);
+        if (depth > 0 && drainTime > maxBatchDelay) {
+            // backlog cannot be served within the delay budget, use larger batches
+            targetBatchSize = Math.min(batchSize, targetBatchSize * 2);
+        } else if (!flushedByDeadline) {
+            targetBatchSize = Math.min(batchSize, targetBatchSize + 1);
+        }
+    }
+}
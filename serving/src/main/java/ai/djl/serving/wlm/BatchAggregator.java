@@ -17,7 +17,7 @@ import ai.djl.modality.Output;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.BlockingQueue;
 
 /**
  * abstract class for all BatchAggregators. A batch aggregator check working queue and combines
@@ -29,7 +29,8 @@ abstract class BatchAggregator {
 
     protected int batchSize;
     protected List<Job> jobs;
-    protected LinkedBlockingDeque<Job> jobQueue;
+    protected BlockingQueue<Job> jobQueue;
+    protected ModelMetrics metrics;
 
     /**
      * Constructs a new {@code BbatchAggregator} instance.
@@ -37,9 +38,10 @@ abstract class BatchAggregator {
      * @param model the model to use.
      * @param jobQueue the job queue for polling data from.
      */
-    public BatchAggregator(ModelInfo model, LinkedBlockingDeque<Job> jobQueue) {
+    public BatchAggregator(ModelInfo model, BlockingQueue<Job> jobQueue) {
         this.batchSize = model.getBatchSize();
         this.jobQueue = jobQueue;
+        metrics = model.getMetrics();
         jobs = new ArrayList<>();
     }
 
@@ -52,6 +54,7 @@ abstract class BatchAggregator {
      */
     public List<Input> getRequest() throws InterruptedException {
         jobs = pollBatch();
+        metrics.recordBatch(jobs);
         List<Input> list = new ArrayList<>(jobs.size());
         for (Job job : jobs) {
             job.setScheduled();
@@ -84,6 +87,7 @@ abstract class BatchAggregator {
 
     /** Sends an internal server error. */
     public void sendError() {
+        metrics.recordErrors(jobs.size());
         for (Job job : jobs) {
             job.sendError(HttpResponseStatus.INTERNAL_SERVER_ERROR, "Internal server error");
         }
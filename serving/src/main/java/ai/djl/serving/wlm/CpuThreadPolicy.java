@@ -0,0 +1,233 @@
+/*
+ * Copyright 2021 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.serving.wlm;
+
+import ai.djl.engine.Engine;
+import ai.djl.serving.util.ConfigManager;
+import com.sun.jna.Library;
+import com.sun.jna.Native;
+import com.sun.jna.NativeLong;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@code CpuThreadPolicy} keeps the threads of the CPU workers of all models within the CPU cores.
+ *
+ * <p>The policy is opt-in. With {@code intra_op_threads=0}, the CPU cores are divided evenly
+ * between the running CPU workers of all models, and each worker sets the number of intra-op
+ * threads of its engine to its share. The share is recomputed whenever a CPU worker starts or
+ * stops, and every worker applies the new share before its next batch. With a positive {@code
+ * intra_op_threads}, every worker uses that many threads. Workers on a GPU are neither counted nor
+ * resized.
+ *
+ * <p>With {@code cpu_affinity} enabled, each CPU worker also holds a slot and is pinned to the
+ * cores of its slot, so the threads the engine starts from the worker stay on these cores. Pinning
+ * is only supported on Linux.
+ *
+ * <p>The budget is the same for all models: PyTorch sets the number of intra-op threads for the
+ * whole process, so a budget per model cannot be honoured there.
+ */
+public class CpuThreadPolicy {
+
+    private static final Logger logger = LoggerFactory.getLogger(CpuThreadPolicy.class);
+
+    private static final int MASK_SIZE = 16;
+
+    private int intraOpThreads;
+    private int[] cores;
+    private BitSet slots;
+    private int workers;
+    private AtomicInteger version;
+    private CLibrary lib;
+
+    /**
+     * Constructs a {@code CpuThreadPolicy}.
+     *
+     * @param configManager the configuration of the model server
+     */
+    public CpuThreadPolicy(ConfigManager configManager) {
+        intraOpThreads = configManager.getIntraOpThreads();
+        slots = new BitSet();
+        version = new AtomicInteger();
+        if (configManager.isCpuAffinity()) {
+            lib = loadLibrary();
+        }
+        cores = getAvailableCores();
+    }
+
+    /**
+     * Registers a starting CPU worker.
+     *
+     * @return the slot of the worker, used to pick the cores it is pinned to
+     */
+    public synchronized int register() {
+        int slot = slots.nextClearBit(0);
+        slots.set(slot);
+        ++workers;
+        version.incrementAndGet();
+        return slot;
+    }
+
+    /**
+     * Unregisters a stopped CPU worker.
+     *
+     * @param slot the slot returned by {@link #register()}
+     */
+    public synchronized void unregister(int slot) {
+        if (slots.get(slot)) {
+            slots.clear(slot);
+            --workers;
+            version.incrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the version of the policy, which changes whenever a CPU worker starts or stops.
+     *
+     * @return the version of the policy
+     */
+    public int getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Returns the number of intra-op threads each CPU worker should use now.
+     *
+     * @return the number of intra-op threads, 0 to keep the engine default
+     */
+    public int getIntraOpThreads() {
+        if (intraOpThreads < 0) {
+            return 0;
+        }
+        return intraOpThreads > 0 ? intraOpThreads : getCoresPerWorker();
+    }
+
+    /**
+     * Returns the number of CPU cores each running CPU worker gets.
+     *
+     * @return the number of CPU cores per worker
+     */
+    public synchronized int getCoresPerWorker() {
+        return Math.max(1, cores.length / Math.max(1, workers));
+    }
+
+    /**
+     * Applies the current budget to the calling worker thread.
+     *
+     * @param engine the engine of the model of the worker
+     * @param slot the slot returned by {@link #register()}
+     * @return the version of the policy that was applied
+     */
+    public int apply(Engine engine, int slot) {
+        int applied = getVersion();
+        int numThreads = getIntraOpThreads();
+        if (lib != null) {
+            int count = numThreads > 0 ? numThreads : getCoresPerWorker();
+            pin(slot * count, count);
+        }
+        if (numThreads > 0) {
+            try {
+                engine.setNumThreads(numThreads);
+                logger.debug("{} uses {} intra-op threads.", getThreadName(), numThreads);
+            } catch (UnsupportedOperationException e) {
+                logger.debug(
+                        "{} does not support setting the number of threads.",
+                        engine.getEngineName());
+            }
+        }
+        return applied;
+    }
+
+    private void pin(int first, int count) {
+        long[] mask = new long[MASK_SIZE];
+        for (int i = 0; i < Math.min(count, cores.length); ++i) {
+            int core = cores[Math.floorMod(first + i, cores.length)];
+            mask[core / 64] |= 1L << (core % 64);
+        }
+        // pid 0 is the calling thread
+        if (lib.sched_setaffinity(0, new NativeLong(mask.length * 8L), mask) != 0) {
+            logger.warn("Failed to pin {}: errno {}", getThreadName(), Native.getLastError());
+        }
+    }
+
+    private int[] getAvailableCores() {
+        if (lib != null) {
+            long[] mask = new long[MASK_SIZE];
+            if (lib.sched_getaffinity(0, new NativeLong(mask.length * 8L), mask) == 0) {
+                List<Integer> list = new ArrayList<>();
+                for (int i = 0; i < mask.length * 64; ++i) {
+                    if ((mask[i / 64] & (1L << (i % 64))) != 0) {
+                        list.add(i);
+                    }
+                }
+                if (!list.isEmpty()) {
+                    return list.stream().mapToInt(Integer::intValue).toArray();
+                }
+            }
+            logger.warn("Failed to read the CPU affinity, workers are not pinned.");
+            lib = null;
+        }
+        int[] ret = new int[Runtime.getRuntime().availableProcessors()];
+        for (int i = 0; i < ret.length; ++i) {
+            ret[i] = i;
+        }
+        return ret;
+    }
+
+    private static String getThreadName() {
+        return Thread.currentThread().getName();
+    }
+
+    private static CLibrary loadLibrary() {
+        if (!System.getProperty("os.name").startsWith("Linux")) {
+            logger.warn("cpu_affinity is only supported on Linux.");
+            return null;
+        }
+        try {
+            return Native.load("c", CLibrary.class);
+        } catch (UnsatisfiedLinkError e) {
+            logger.warn("Failed to load libc, workers are not pinned.", e);
+            return null;
+        }
+    }
+
+    /** The CPU affinity functions of the C library. */
+    interface CLibrary extends Library {
+
+        /**
+         * Sets the CPU affinity mask of a thread.
+         *
+         * @param pid the thread id, 0 for the calling thread
+         * @param cpusetsize the size of the mask in bytes
+         * @param mask the CPU affinity mask
+         * @return 0 on success, -1 on error
+         */
+        @SuppressWarnings({"checkstyle:MethodName", "PMD.MethodNamingConventions"})
+        int sched_setaffinity(int pid, NativeLong cpusetsize, long[] mask);
+
+        /**
+         * Gets the CPU affinity mask of a thread.
+         *
+         * @param pid the thread id, 0 for the calling thread
+         * @param cpusetsize the size of the mask in bytes
+         * @param mask the returned CPU affinity mask
+         * @return 0 on success, -1 on error
+         */
+        @SuppressWarnings({"checkstyle:MethodName", "PMD.MethodNamingConventions"})
+        int sched_getaffinity(int pid, NativeLong cpusetsize, long[] mask);
+    }
+}
@@ -21,6 +21,9 @@ import io.netty.handler.codec.http.DefaultFullHttpResponse;
 import io.netty.handler.codec.http.FullHttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpVersion;
+import io.netty.util.ReferenceCounted;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,6 +39,7 @@ public class Job {
     private Input input;
     private long begin;
     private long scheduled;
+    private List<ReferenceCounted> resources;
 
     /**
      * Constructs an new {@code Job} instance.
@@ -45,9 +49,27 @@ public class Job {
      * @param input the input data
      */
     public Job(ChannelHandlerContext ctx, String modelName, Input input) {
+        this(ctx, modelName, input, new ArrayList<>());
+    }
+
+    /**
+     * Constructs an new {@code Job} instance that owns the buffers backing its input data.
+     *
+     * @param ctx the {@code ChannelHandlerContext}
+     * @param modelName the model name
+     * @param input the input data
+     * @param resources the retained buffers backing the input data, they are released once the
+     *     response is sent
+     */
+    public Job(
+            ChannelHandlerContext ctx,
+            String modelName,
+            Input input,
+            List<ReferenceCounted> resources) {
         this.ctx = ctx;
         this.modelName = modelName;
         this.input = input;
+        this.resources = resources;
 
         begin = System.currentTimeMillis();
         scheduled = begin;
@@ -80,6 +102,15 @@ public class Job {
         return input;
     }
 
+    /**
+     * Returns the time in milliseconds when this job was received.
+     *
+     * @return the time in milliseconds when this job was received
+     */
+    public long getBegin() {
+        return begin;
+    }
+
     /** Marks the job has been scheduled. */
     public void setScheduled() {
         scheduled = System.currentTimeMillis();
@@ -97,6 +128,7 @@ public class Job {
             resp.headers().set(entry.getKey(), entry.getValue());
         }
         resp.content().writeBytes(output.getContent());
+        NettyUtils.release(resources);
 
         /*
          * We can load the models based on the configuration file.Since this Job is
@@ -121,6 +153,7 @@ public class Job {
      * @param error the error message
      */
     public void sendError(HttpResponseStatus status, String error) {
+        NettyUtils.release(resources);
         /*
          * We can load the models based on the configuration file.Since this Job is
          * not driven by the external connections, we could have a empty context for
@@ -33,8 +33,11 @@ public final class ModelInfo implements AutoCloseable, Cloneable {
     private int batchSize;
     private int maxBatchDelay;
     private int maxIdleTime;
+    private boolean adaptiveBatching;
+    private int jobTimeout;
 
     private ZooModel<Input, Output> model;
+    private ModelMetrics metrics;
 
     /**
      * Constructs a new {@code ModelInfo} instance.
@@ -62,6 +65,7 @@ public final class ModelInfo implements AutoCloseable, Cloneable {
         this.maxIdleTime = maxIdleTime; // default max idle time 60s
         this.queueSize = queueSize;
         this.batchSize = batchSize;
+        metrics = new ModelMetrics();
     }
 
     /**
@@ -127,6 +131,29 @@ public final class ModelInfo implements AutoCloseable, Cloneable {
         return clone;
     }
 
+    /**
+     * Sets the batching mode for this model and returns a new configured ModelInfo object. You have
+     * to triggerUpdates in the {@code ModelManager} using this new model.
+     *
+     * @param adaptiveBatching {@code true} to let workers wait up to maxBatchDelay for a batch to
+     *     fill and adapt the batch size to the observed load
+     * @param jobTimeout the maximum time in milliseconds a job may spend in the server before it is
+     *     rejected, 0 to never reject jobs
+     * @return new configured ModelInfo.
+     */
+    public ModelInfo configureBatchMode(boolean adaptiveBatching, int jobTimeout) {
+        ModelInfo clone;
+        try {
+            clone = (ModelInfo) this.clone();
+            clone.adaptiveBatching = adaptiveBatching;
+            clone.jobTimeout = jobTimeout;
+        } catch (CloneNotSupportedException e) {
+            // this should never happen, cause we know we are cloneable.
+            throw new AssertionError(e);
+        }
+        return clone;
+    }
+
     /**
      * Returns the loaded {@link ZooModel}.
      *
@@ -208,6 +235,24 @@ public final class ModelInfo implements AutoCloseable, Cloneable {
         return maxBatchDelay;
     }
 
+    /**
+     * Returns if workers of this model use adaptive batching.
+     *
+     * @return {@code true} if workers of this model use adaptive batching
+     */
+    public boolean isAdaptiveBatching() {
+        return adaptiveBatching;
+    }
+
+    /**
+     * Returns the maximum time in milliseconds a job may spend in the server before it is rejected.
+     *
+     * @return the job timeout in milliseconds, 0 if jobs never time out
+     */
+    public int getJobTimeout() {
+        return jobTimeout;
+    }
+
     /**
      * returns the configured size of the workers queue.
      *
@@ -217,6 +262,15 @@ public final class ModelInfo implements AutoCloseable, Cloneable {
         return queueSize;
     }
 
+    /**
+     * Returns the runtime statistics of the model, which are shared by all configurations of it.
+     *
+     * @return the runtime statistics of the model
+     */
+    public ModelMetrics getMetrics() {
+        return metrics;
+    }
+
     /** {@inheritDoc} */
     @Override
     public void close() {
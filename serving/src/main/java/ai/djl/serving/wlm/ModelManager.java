@@ -13,16 +13,20 @@
 package ai.djl.serving.wlm;
 
 import ai.djl.ModelException;
+import ai.djl.inference.PredictorPool;
 import ai.djl.modality.Input;
 import ai.djl.modality.Output;
 import ai.djl.repository.zoo.Criteria;
+import ai.djl.repository.zoo.ModelCache;
 import ai.djl.repository.zoo.ModelNotFoundException;
 import ai.djl.repository.zoo.ModelZoo;
 import ai.djl.repository.zoo.ZooModel;
 import ai.djl.serving.http.BadRequestException;
 import ai.djl.serving.http.DescribeModelResponse;
 import ai.djl.serving.util.ConfigManager;
+import ai.djl.translate.TranslateException;
 import java.io.IOException;
+import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -30,6 +34,7 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -44,10 +49,13 @@ public final class ModelManager {
     private WorkLoadManager wlm;
     private ConcurrentHashMap<String, ModelInfo> models;
     private Set<String> startupModels;
+    private ModelCache modelCache;
 
     private ModelManager(ConfigManager configManager) {
         this.configManager = configManager;
         wlm = new WorkLoadManager(configManager);
+        // models registered more than once share their weights
+        modelCache = new ModelCache(configManager.getModelCacheSize());
         models = new ConcurrentHashMap<>();
         startupModels = new HashSet<>();
     }
@@ -93,8 +101,21 @@ public final class ModelManager {
                                 Criteria.builder()
                                         .setTypes(Input.class, Output.class)
                                         .optModelUrls(modelUrl)
+                                        .optModelCache(modelCache)
                                         .build();
                         ZooModel<Input, Output> model = ModelZoo.loadModel(criteria);
+                        try {
+                            // prepare the translator once, scaled up workers reuse the predictors
+                            model.setPredictorPool(
+                                    PredictorPool.builder(model, model.getTranslator())
+                                            .optMaxSize(Integer.MAX_VALUE)
+                                            .optMaxIdleTime(maxIdleTime, TimeUnit.SECONDS)
+                                            .optWarmup(1)
+                                            .build());
+                        } catch (TranslateException e) {
+                            model.close();
+                            throw new CompletionException(e);
+                        }
                         String actualModelName;
                         if (modelName == null || modelName.isEmpty()) {
                             actualModelName = model.getName();
@@ -112,6 +133,10 @@ public final class ModelManager {
                                         maxIdleTime,
                                         maxBatchDelay,
                                         batchSize);
+                        modelInfo =
+                                modelInfo.configureBatchMode(
+                                        configManager.isAdaptiveBatching(),
+                                        configManager.getJobTimeout());
 
                         ModelInfo existingModel = models.putIfAbsent(actualModelName, modelInfo);
                         if (existingModel != null) {
@@ -219,6 +244,8 @@ public final class ModelManager {
         resp.setMaxWorkers(model.getMaxWorkers());
         resp.setMinWorkers(model.getMinWorkers());
         resp.setMaxIdleTime(model.getMaxIdleTime());
+        resp.setAdaptiveBatching(model.isAdaptiveBatching());
+        resp.setJobTimeout(model.getJobTimeout());
         resp.setLoadedAtStartup(startupModels.contains(modelName));
 
         int activeWorker = wlm.getNumRunningWorkers(modelName);
@@ -236,6 +263,40 @@ public final class ModelManager {
         return resp;
     }
 
+    /**
+     * Returns the number of jobs waiting in the job queue of the specified model.
+     *
+     * @param modelName the model to be queried
+     * @return the number of jobs waiting in the job queue
+     */
+    public int getQueueLength(String modelName) {
+        return wlm.getQueueLength(modelName);
+    }
+
+    /**
+     * Returns the number of workers of the specified model in each {@link WorkerState}.
+     *
+     * @param modelName the model to be queried
+     * @return the number of workers of the specified model in each {@link WorkerState}
+     */
+    public Map<WorkerState, Integer> getWorkerStates(String modelName) {
+        Map<WorkerState, Integer> states = new EnumMap<>(WorkerState.class);
+        for (WorkerState state : WorkerState.values()) {
+            states.put(state, 0);
+        }
+        List<WorkerThread> workers = wlm.getWorkers(modelName);
+        // the list is synchronized, workers are added and removed while it is iterated
+        synchronized (workers) {
+            for (WorkerThread worker : workers) {
+                WorkerState state = worker.getState();
+                if (state != null) {
+                    states.merge(state, 1, Integer::sum);
+                }
+            }
+        }
+        return states;
+    }
+
     /**
      * Sends model server health status to client.
      *
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2021 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.serving.wlm;
+
+import ai.djl.metric.Histogram;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runtime statistics of a model collected on the request path.
+ *
+ * <p>Counters are cumulative since the model was registered, while the {@link Histogram}s only
+ * cover the last one to two minutes so that percentiles follow the current load. Recording only
+ * updates lock-free counters.
+ */
+public final class ModelMetrics {
+
+    private static final int PRECISION = 7;
+    private static final long WINDOW_MINUTES = 1;
+
+    private LongAdder requests = new LongAdder();
+    private LongAdder errors = new LongAdder();
+    private LongAdder rejected = new LongAdder();
+    private LongAdder batches = new LongAdder();
+    private LongAdder queueWaitSum = new LongAdder();
+    private LongAdder inferenceSum = new LongAdder();
+
+    private Histogram batchSize = newHistogram();
+    private Histogram queueWait = newHistogram();
+    private Histogram inferenceLatency = newHistogram();
+
+    void recordBatch(List<Job> jobs) {
+        if (jobs.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        batches.increment();
+        requests.add(jobs.size());
+        batchSize.record(jobs.size());
+        for (Job job : jobs) {
+            long wait = TimeUnit.MILLISECONDS.toMicros(now - job.getBegin());
+            queueWait.record(wait);
+            queueWaitSum.add(wait);
+        }
+    }
+
+    void recordInference(long nanos) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+        inferenceLatency.record(micros);
+        inferenceSum.add(micros);
+    }
+
+    void recordErrors(int count) {
+        errors.add(count);
+    }
+
+    void recordRejected() {
+        rejected.increment();
+    }
+
+    /**
+     * Returns the number of requests that were sent to the model.
+     *
+     * @return the number of requests that were sent to the model
+     */
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    /**
+     * Returns the number of requests that failed or timed out in the queue.
+     *
+     * @return the number of requests that failed or timed out in the queue
+     */
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    /**
+     * Returns the number of requests rejected because the job queue was full or no worker was
+     * running.
+     *
+     * @return the number of requests rejected by the job queue
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * Returns the number of batches that were sent to the model.
+     *
+     * @return the number of batches that were sent to the model
+     */
+    public long getBatches() {
+        return batches.sum();
+    }
+
+    /**
+     * Returns the total time the requests spent in the job queue in microseconds.
+     *
+     * @return the total time the requests spent in the job queue in microseconds
+     */
+    public long getQueueWaitSum() {
+        return queueWaitSum.sum();
+    }
+
+    /**
+     * Returns the total inference time of all batches in microseconds.
+     *
+     * @return the total inference time of all batches in microseconds
+     */
+    public long getInferenceSum() {
+        return inferenceSum.sum();
+    }
+
+    /**
+     * Returns the distribution of batch sizes.
+     *
+     * @return the distribution of batch sizes
+     */
+    public Histogram getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Returns the distribution of the time requests spent in the job queue in microseconds.
+     *
+     * @return the distribution of the time requests spent in the job queue in microseconds
+     */
+    public Histogram getQueueWait() {
+        return queueWait;
+    }
+
+    /**
+     * Returns the distribution of the inference time per batch in microseconds.
+     *
+     * @return the distribution of the inference time per batch in microseconds
+     */
+    public Histogram getInferenceLatency() {
+        return inferenceLatency;
+    }
+
+    private static Histogram newHistogram() {
+        return new Histogram(PRECISION, WINDOW_MINUTES, TimeUnit.MINUTES);
+    }
+}
@@ -14,7 +14,7 @@ package ai.djl.serving.wlm;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.BlockingQueue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,7 +34,7 @@ public class PermanentBatchAggregator extends BatchAggregator {
      * @param model the model to use.
      * @param jobQueue the job queue for polling data from.
      */
-    public PermanentBatchAggregator(ModelInfo model, LinkedBlockingDeque<Job> jobQueue) {
+    public PermanentBatchAggregator(ModelInfo model, BlockingQueue<Job> jobQueue) {
         super(model, jobQueue);
     }
 
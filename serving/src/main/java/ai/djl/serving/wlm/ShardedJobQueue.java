@@ -0,0 +1,360 @@
+/*
+ * Copyright 2021 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.serving.wlm;
+
+import java.util.AbstractQueue;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded {@link BlockingQueue} that spreads jobs over several lock-free shards.
+ *
+ * <p>Every thread that touches the queue is assigned a home shard. Producers (the netty event
+ * loops) append to their home shard, and consumers (the {@link WorkerThread}s) take from their home
+ * shard, so threads on different shards never touch the same memory. A consumer steals from the
+ * other shards only when its home shard is empty, and now and then starts at another shard, so that
+ * the jobs of a shard without a consumer are not starved.
+ *
+ * <p>The capacity is split among the shards, and each shard counts its own jobs. A producer whose
+ * home shard is full adds the job to the next shard with space. Threads only lock the queue to wait
+ * when it is full or empty.
+ *
+ * <p>Jobs are returned in FIFO order per shard, but not across shards. {@link #size()} and {@link
+ * #remainingCapacity()} sum the counts of all shards.
+ */
+public final class ShardedJobQueue extends AbstractQueue<Job> implements BlockingQueue<Job> {
+
+    private static final int FAIR_INTERVAL = 64;
+
+    private static final AtomicInteger NEXT_SHARD = new AtomicInteger();
+    private static final ThreadLocal<Cursor> CURSOR = ThreadLocal.withInitial(Cursor::new);
+
+    private Shard[] shards;
+    private int capacity;
+
+    private ReentrantLock lock;
+    private Condition notEmpty;
+    private Condition notFull;
+    private AtomicInteger waitingConsumers;
+    private AtomicInteger waitingProducers;
+
+    /**
+     * Constructs a {@code ShardedJobQueue} with one shard per available processor.
+     *
+     * @param capacity the maximum number of jobs in the queue
+     */
+    public ShardedJobQueue(int capacity) {
+        this(capacity, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a {@code ShardedJobQueue} with the specified number of shards.
+     *
+     * @param capacity the maximum number of jobs in the queue
+     * @param numShards the number of shards
+     */
+    public ShardedJobQueue(int capacity, int numShards) {
+        if (capacity <= 0 || numShards <= 0) {
+            throw new IllegalArgumentException("capacity and numShards must be positive.");
+        }
+        this.capacity = capacity;
+        shards = new Shard[numShards];
+        for (int i = 0; i < numShards; ++i) {
+            int limit = capacity / numShards + (i < capacity % numShards ? 1 : 0);
+            shards[i] = new Shard(limit);
+        }
+        lock = new ReentrantLock();
+        notEmpty = lock.newCondition();
+        notFull = lock.newCondition();
+        waitingConsumers = new AtomicInteger();
+        waitingProducers = new AtomicInteger();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean offer(Job job) {
+        checkNotNull(job);
+        return enqueue(job);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean offer(Job job, long timeout, TimeUnit unit) throws InterruptedException {
+        checkNotNull(job);
+        if (enqueue(job)) {
+            return true;
+        }
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        waitingProducers.incrementAndGet();
+        try {
+            while (!enqueue(job)) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            return true;
+        } finally {
+            waitingProducers.decrementAndGet();
+            lock.unlock();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void put(Job job) throws InterruptedException {
+        checkNotNull(job);
+        if (enqueue(job)) {
+            return;
+        }
+        lock.lockInterruptibly();
+        waitingProducers.incrementAndGet();
+        try {
+            while (!enqueue(job)) {
+                notFull.await();
+            }
+        } finally {
+            waitingProducers.decrementAndGet();
+            lock.unlock();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Job poll() {
+        return dequeue();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Job poll(long timeout, TimeUnit unit) throws InterruptedException {
+        Job job = dequeue();
+        if (job != null) {
+            return job;
+        }
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        waitingConsumers.incrementAndGet();
+        try {
+            while ((job = dequeue()) == null) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return job;
+        } finally {
+            waitingConsumers.decrementAndGet();
+            lock.unlock();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Job take() throws InterruptedException {
+        Job job = dequeue();
+        if (job != null) {
+            return job;
+        }
+        lock.lockInterruptibly();
+        waitingConsumers.incrementAndGet();
+        try {
+            while ((job = dequeue()) == null) {
+                notEmpty.await();
+            }
+            return job;
+        } finally {
+            waitingConsumers.decrementAndGet();
+            lock.unlock();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Job peek() {
+        int home = CURSOR.get().home % shards.length;
+        for (int i = 0; i < shards.length; ++i) {
+            Job job = shards[(home + i) % shards.length].jobs.peek();
+            if (job != null) {
+                return job;
+            }
+        }
+        return null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int drainTo(Collection<? super Job> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int drainTo(Collection<? super Job> c, int maxElements) {
+        if (c == this) {
+            throw new IllegalArgumentException("Cannot drain to itself.");
+        }
+        int count = 0;
+        Job job;
+        while (count < maxElements && (job = dequeue()) != null) {
+            c.add(job);
+            ++count;
+        }
+        return count;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int size() {
+        int size = 0;
+        for (Shard shard : shards) {
+            size += shard.count.get();
+        }
+        return size;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int remainingCapacity() {
+        return capacity - size();
+    }
+
+    /**
+     * Returns a weakly consistent iterator over the jobs in this queue. The iterator does not
+     * support removal.
+     *
+     * @return an iterator over the jobs in this queue
+     */
+    @Override
+    public Iterator<Job> iterator() {
+        return new Iterator<Job>() {
+
+            private int shard;
+            private Iterator<Job> it = shards[0].jobs.iterator();
+
+            /** {@inheritDoc} */
+            @Override
+            public boolean hasNext() {
+                while (!it.hasNext()) {
+                    if (++shard >= shards.length) {
+                        return false;
+                    }
+                    it = shards[shard].jobs.iterator();
+                }
+                return true;
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public Job next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return it.next();
+            }
+        };
+    }
+
+    private boolean enqueue(Job job) {
+        int home = CURSOR.get().home % shards.length;
+        for (int i = 0; i < shards.length; ++i) {
+            Shard shard = shards[(home + i) % shards.length];
+            if (shard.reserve()) {
+                shard.jobs.offer(job);
+                // a consumer registers as waiting before it checks the shards again
+                if (waitingConsumers.get() > 0) {
+                    signal(notEmpty);
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Job dequeue() {
+        Cursor cursor = CURSOR.get();
+        int start = cursor.home % shards.length;
+        cursor.polls = (cursor.polls + 1) & Integer.MAX_VALUE;
+        if (cursor.polls % FAIR_INTERVAL == 0) {
+            // rotates the first shard, so that every shard is visited first now and then
+            start = (start + cursor.polls / FAIR_INTERVAL) % shards.length;
+        }
+        for (int i = 0; i < shards.length; ++i) {
+            Shard shard = shards[(start + i) % shards.length];
+            Job job = shard.jobs.poll();
+            if (job != null) {
+                shard.count.decrementAndGet();
+                if (waitingProducers.get() > 0) {
+                    signal(notFull);
+                }
+                return job;
+            }
+        }
+        return null;
+    }
+
+    private void signal(Condition condition) {
+        lock.lock();
+        try {
+            condition.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static void checkNotNull(Job job) {
+        if (job == null) {
+            throw new NullPointerException("job must not be null.");
+        }
+    }
+
+    /** A shard of the queue with its own count of jobs. */
+    private static final class Shard {
+
+        Queue<Job> jobs = new ConcurrentLinkedQueue<>();
+        AtomicInteger count = new AtomicInteger();
+        int limit;
+
+        Shard(int limit) {
+            this.limit = limit;
+        }
+
+        boolean reserve() {
+            while (true) {
+                int current = count.get();
+                if (current >= limit) {
+                    return false;
+                }
+                if (count.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+    }
+
+    /** The home shard of a thread and the number of its polls. */
+    private static final class Cursor {
+
+        int home = NEXT_SHARD.getAndIncrement() & Integer.MAX_VALUE;
+        int polls;
+    }
+}
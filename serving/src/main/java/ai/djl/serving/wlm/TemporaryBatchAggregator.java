@@ -14,7 +14,7 @@ package ai.djl.serving.wlm;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,7 +37,7 @@ public class TemporaryBatchAggregator extends BatchAggregator {
      * @param model the model to run for.
      * @param jobQueue reference to external job queue for polling.
      */
-    public TemporaryBatchAggregator(ModelInfo model, LinkedBlockingDeque<Job> jobQueue) {
+    public TemporaryBatchAggregator(ModelInfo model, BlockingQueue<Job> jobQueue) {
         super(model, jobQueue);
         this.idleSince = System.currentTimeMillis();
         this.maxIdleTime = model.getMaxIdleTime();
@@ -16,11 +16,12 @@ import ai.djl.serving.util.ConfigManager;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,6 +36,7 @@ class WorkLoadManager {
 
     private static final Logger logger = LoggerFactory.getLogger(WorkLoadManager.class);
     private GpuAssignmentStrategy gpuAssignmentStrategy;
+    private CpuThreadPolicy cpuThreadPolicy;
     private ExecutorService threadPool;
 
     private ConcurrentHashMap<String, WorkerPool> workerPools;
@@ -46,6 +48,7 @@ class WorkLoadManager {
      */
     public WorkLoadManager(ConfigManager configManager) {
         this.gpuAssignmentStrategy = new RoundRobinGpuAssignmentStrategy(configManager);
+        this.cpuThreadPolicy = new CpuThreadPolicy(configManager);
         threadPool = Executors.newCachedThreadPool();
         workerPools = new ConcurrentHashMap<>();
     }
@@ -103,10 +106,14 @@ class WorkLoadManager {
                         "Worker Queue Capacity Exceeded. cannot add to worker queue in appropriate time. You can configure max batch delay time for this model.");
             }
         }
+        if (!accepted) {
+            modelInfo.getMetrics().recordRejected();
+        }
         return accepted;
     }
 
     private void scaleUpWorkers(ModelInfo modelInfo, WorkerPool pool) {
+        pool.cleanup();
         int currentWorkers = getNumRunningWorkers(modelInfo.getModelName());
         if (currentWorkers < modelInfo.getMaxWorkers()) {
             logger.debug("scaling up workers for model {} to {} ", modelInfo, currentWorkers + 1);
@@ -126,20 +133,25 @@ class WorkLoadManager {
      * @return number of running workers.
      */
     public int getNumRunningWorkers(String modelName) {
-        int numWorking = 0;
         WorkerPool pool = workerPools.get(modelName);
-        if (pool != null) {
-            pool.cleanup();
-            List<WorkerThread> threads = pool.getWorkers();
-            for (WorkerThread thread : threads) {
-                if ((thread.getState() != WorkerState.WORKER_STOPPED)
-                        && (thread.getState() != WorkerState.WORKER_ERROR)
-                        && (thread.getState() != WorkerState.WORKER_SCALED_DOWN)) {
-                    ++numWorking;
-                }
-            }
+        if (pool == null) {
+            return 0;
+        }
+        return pool.getRunningWorkers().get();
+    }
+
+    /**
+     * Returns the number of jobs waiting in the job queue of a model.
+     *
+     * @param modelName the model we are interested in.
+     * @return the number of jobs waiting in the job queue.
+     */
+    public int getQueueLength(String modelName) {
+        WorkerPool pool = workerPools.get(modelName);
+        if (pool == null) {
+            return 0;
         }
-        return numWorking;
+        return pool.getJobQueue().size();
     }
 
     /**
@@ -194,13 +206,16 @@ class WorkLoadManager {
     private void addThreads(
             List<WorkerThread> threads, ModelInfo model, int count, boolean permanent) {
 
+        WorkerPool pool = getWorkerPoolForModel(model);
         for (int i = 0; i < count; ++i) {
 
             WorkerThread thread =
                     WorkerThread.builder()
                             .setModel(model)
-                            .setJobQueue(getWorkerPoolForModel(model).getJobQueue())
+                            .setJobQueue(pool.getJobQueue())
+                            .optRunningWorkers(pool.getRunningWorkers())
                             .optGpuAssignmentStrategy(gpuAssignmentStrategy)
+                            .optCpuThreadPolicy(cpuThreadPolicy)
                             .optFixPoolThread(permanent)
                             .build();
 
@@ -217,7 +232,8 @@ class WorkLoadManager {
     private static final class WorkerPool {
 
         private List<WorkerThread> workers;
-        private LinkedBlockingDeque<Job> jobQueue;
+        private BlockingQueue<Job> jobQueue;
+        private AtomicInteger runningWorkers;
         private String modelName;
 
         /**
@@ -227,7 +243,8 @@ class WorkLoadManager {
          */
         public WorkerPool(ModelInfo model) {
             workers = Collections.synchronizedList(new ArrayList<>());
-            jobQueue = new LinkedBlockingDeque<>(model.getQueueSize());
+            jobQueue = new ShardedJobQueue(model.getQueueSize());
+            runningWorkers = new AtomicInteger();
             modelName = model.getModelName();
         }
 
@@ -245,10 +262,19 @@ class WorkLoadManager {
          *
          * @return the jobQueue
          */
-        public LinkedBlockingDeque<Job> getJobQueue() {
+        public BlockingQueue<Job> getJobQueue() {
             return jobQueue;
         }
 
+        /**
+         * Returns the counter of running workers in this pool.
+         *
+         * @return the counter of running workers
+         */
+        public AtomicInteger getRunningWorkers() {
+            return runningWorkers;
+        }
+
         /**
          * Logs the current state of this {@code WorkerPool} when level "Debug" is enabled.
          *
@@ -12,13 +12,16 @@
  */
 package ai.djl.serving.wlm;
 
+import ai.djl.engine.Engine;
 import ai.djl.inference.Predictor;
+import ai.djl.inference.PredictorPool;
 import ai.djl.modality.Input;
 import ai.djl.modality.Output;
 import ai.djl.translate.TranslateException;
 import java.util.List;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,7 +31,8 @@ final class WorkerThread implements Runnable {
     private static final Logger logger = LoggerFactory.getLogger(WorkerThread.class);
 
     private String workerName;
-    private Predictor<Input, Output> predictor;
+    private PredictorPool<Input, Output> predictorPool;
+    private ModelMetrics metrics;
 
     private AtomicBoolean running = new AtomicBoolean(true);
 
@@ -39,6 +43,9 @@ final class WorkerThread implements Runnable {
     private int workerId;
     private long startTime;
     private boolean fixPoolThread;
+    private AtomicInteger runningWorkers;
+    private CpuThreadPolicy cpuThreadPolicy;
+    private ModelInfo model;
 
     /**
      * Builds a workerThread with this builder.
@@ -51,8 +58,15 @@ final class WorkerThread implements Runnable {
         this.gpuId = builder.gpuId;
         this.workerId = new WorkerIdGenerator().generate();
         this.startTime = System.currentTimeMillis();
-        predictor = builder.model.getModel().newPredictor();
+        predictorPool = builder.model.getModel().getPredictorPool();
+        metrics = builder.model.getMetrics();
         this.fixPoolThread = builder.fixPoolThread;
+        this.runningWorkers = builder.runningWorkers;
+        this.cpuThreadPolicy = builder.cpuThreadPolicy;
+        this.model = builder.model;
+        if (runningWorkers != null) {
+            runningWorkers.incrementAndGet();
+        }
     }
 
     /** {@inheritDoc} */
@@ -62,13 +76,25 @@ final class WorkerThread implements Runnable {
         thread.setName(workerName);
         currentThread.set(thread);
         this.state = WorkerState.WORKER_STARTED;
+        Engine engine = model.getModel().getNDManager().getEngine();
+        boolean cpuWorker = cpuThreadPolicy != null && gpuId < 0;
+        int cpuSlot = cpuWorker ? cpuThreadPolicy.register() : -1;
+        int policyVersion = cpuWorker ? cpuThreadPolicy.apply(engine, cpuSlot) : 0;
         List<Input> req = null;
+        Predictor<Input, Output> predictor = null;
         try {
+            predictor = predictorPool.borrow();
             while (isRunning() && !aggregator.isFinished()) {
                 req = aggregator.getRequest();
                 if (req != null && !req.isEmpty()) {
+                    if (cpuWorker && policyVersion != cpuThreadPolicy.getVersion()) {
+                        // CPU workers were added or removed since the last batch
+                        policyVersion = cpuThreadPolicy.apply(engine, cpuSlot);
+                    }
                     try {
+                        long begin = System.nanoTime();
                         List<Output> reply = predictor.batchPredict(req);
+                        metrics.recordInference(System.nanoTime() - begin);
                         aggregator.sendResponse(reply);
                     } catch (TranslateException e) {
                         logger.warn("Failed to predict", e);
@@ -86,9 +112,16 @@ final class WorkerThread implements Runnable {
             logger.debug("Shutting down worker thread .. {}", currentThread.get().getName());
             currentThread.set(null);
             shutdown(WorkerState.WORKER_STOPPED);
+            if (cpuWorker) {
+                cpuThreadPolicy.unregister(cpuSlot);
+            }
             if (req != null) {
                 aggregator.sendError();
             }
+            if (predictor != null) {
+                // keep the prepared predictor for the next worker of this model
+                predictorPool.release(predictor);
+            }
         }
     }
 
@@ -113,14 +146,15 @@ final class WorkerThread implements Runnable {
     }
 
     public void shutdown(WorkerState state) {
-        running.set(false);
+        if (running.getAndSet(false) && runningWorkers != null) {
+            runningWorkers.decrementAndGet();
+        }
         setState(state);
         Thread thread = currentThread.getAndSet(null);
         if (thread != null) {
             thread.interrupt();
             aggregator.sendError();
         }
-        predictor.close();
     }
 
     private String buildWorkerName(ModelInfo model) {
@@ -164,10 +198,12 @@ final class WorkerThread implements Runnable {
 
         private ModelInfo model;
         private BatchAggregator aggregator;
-        private LinkedBlockingDeque<Job> jobQueue;
+        private BlockingQueue<Job> jobQueue;
         private int gpuId;
         private boolean fixPoolThread;
         private GpuAssignmentStrategy gpuAssignmentStrategy;
+        private AtomicInteger runningWorkers;
+        private CpuThreadPolicy cpuThreadPolicy;
 
         Builder() {
             this.gpuId = -1;
@@ -185,7 +221,9 @@ final class WorkerThread implements Runnable {
 
         protected void preBuildProcessing() {
             if (aggregator == null) {
-                if (fixPoolThread) {
+                if (model.isAdaptiveBatching()) {
+                    aggregator = new AdaptiveBatchAggregator(model, jobQueue, fixPoolThread);
+                } else if (fixPoolThread) {
                     aggregator = new PermanentBatchAggregator(model, jobQueue);
                 } else {
                     aggregator = new TemporaryBatchAggregator(model, jobQueue);
@@ -248,7 +286,7 @@ final class WorkerThread implements Runnable {
          * @param jobQueue the jobQueue to set
          * @return self-reference to this builder.
          */
-        public Builder setJobQueue(LinkedBlockingDeque<Job> jobQueue) {
+        public Builder setJobQueue(BlockingQueue<Job> jobQueue) {
             this.jobQueue = jobQueue;
             return self();
         }
@@ -279,6 +317,18 @@ final class WorkerThread implements Runnable {
             return self();
         }
 
+        /**
+         * Sets an optional counter of running workers. The counter is incremented when the worker
+         * is created and decremented once when it is shut down.
+         *
+         * @param runningWorkers the counter of running workers
+         * @return self-reference to this builder.
+         */
+        public Builder optRunningWorkers(AtomicInteger runningWorkers) {
+            this.runningWorkers = runningWorkers;
+            return self();
+        }
+
         /**
          * sets an optional strategy to assign gpuId to this workerThread. doesn't use any gpu
          * (gpuId=-1) when no {@code GpuAssignmentStrategy} is set.
@@ -290,5 +340,17 @@ final class WorkerThread implements Runnable {
             this.gpuAssignmentStrategy = gpuAssignmentStrategy;
             return self();
         }
+
+        /**
+         * Sets an optional policy to size the intra-op threads of this worker and pin it to CPU
+         * cores. The policy is not used for GPU workers.
+         *
+         * @param cpuThreadPolicy the cpuThreadPolicy to set
+         * @return self-reference to this builder.
+         */
+        public Builder optCpuThreadPolicy(CpuThreadPolicy cpuThreadPolicy) {
+            this.cpuThreadPolicy = cpuThreadPolicy;
+            return self();
+        }
     }
 }
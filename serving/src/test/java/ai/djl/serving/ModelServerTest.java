@@ -162,6 +162,7 @@ public class ModelServerTest {
         testRegisterModelAsync(channel);
         testScaleModel(channel);
         testDescribeModel(channel);
+        testMetrics(channel);
         testUnregisterModel(channel);
 
         testPredictionsInvalidRequestSize(channel);
@@ -383,6 +384,21 @@ public class ModelServerTest {
         Assert.assertEquals(worker.isGpu(), CudaUtils.hasCuda());
     }
 
+    private void testMetrics(Channel channel) throws InterruptedException {
+        result = null;
+        latch = new CountDownLatch(1);
+        HttpRequest req =
+                new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/metrics");
+        channel.writeAndFlush(req);
+        latch.await();
+
+        Assert.assertTrue(result.contains("# TYPE djl_serving_queue_length gauge"));
+        Assert.assertTrue(result.contains("djl_serving_workers{model=\"mlp_2\",state="));
+        Assert.assertTrue(result.contains("djl_serving_requests_total{model=\"mlp\"}"));
+        Assert.assertTrue(result.contains("djl_serving_inference_seconds{model=\"mlp\",quantile="));
+        Assert.assertTrue(result.contains("djl_serving_memory_bytes{area=\"heap\"}"));
+    }
+
     private void testUnregisterModel(Channel channel) throws InterruptedException {
         result = null;
         latch = new CountDownLatch(1);
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2021 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.serving.wlm;
+
+import ai.djl.modality.Input;
+import ai.djl.modality.Output;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingDeque;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class AdaptiveBatchAggregatorTest {
+
+    @Test
+    public void testWaitForBatch() throws InterruptedException {
+        ModelInfo modelInfo =
+                new ModelInfo("", "", null, 10, 1, 200, 4).configureBatchMode(true, 0);
+        LinkedBlockingDeque<Job> queue = new LinkedBlockingDeque<>(10);
+        AdaptiveBatchAggregator aggregator = new AdaptiveBatchAggregator(modelInfo, queue, true);
+
+        queue.offer(new Job(null, "", new Input("1")));
+        Thread producer =
+                new Thread(
+                        () -> {
+                            try {
+                                Thread.sleep(50);
+                            } catch (InterruptedException ignore) {
+                                return;
+                            }
+                            queue.offer(new Job(null, "", new Input("2")));
+                        });
+        producer.start();
+
+        List<Input> batch = aggregator.getRequest();
+        Assert.assertEquals(batch.size(), 2);
+        producer.join();
+    }
+
+    @Test
+    public void testShrinkTarget() throws InterruptedException {
+        ModelInfo modelInfo = new ModelInfo("", "", null, 10, 1, 10, 8).configureBatchMode(true, 0);
+        LinkedBlockingDeque<Job> queue = new LinkedBlockingDeque<>(10);
+        AdaptiveBatchAggregator aggregator = new AdaptiveBatchAggregator(modelInfo, queue, false);
+        Assert.assertEquals(aggregator.getTargetBatchSize(), 8);
+
+        queue.offer(new Job(null, "", new Input("1")));
+        queue.offer(new Job(null, "", new Input("2")));
+        List<Input> batch = aggregator.getRequest();
+        Assert.assertEquals(batch.size(), 2);
+        List<Output> outputs = new ArrayList<>();
+        for (Input input : batch) {
+            Output output = new Output(input.getRequestId());
+            output.setContent(new byte[0]);
+            outputs.add(output);
+        }
+        aggregator.sendResponse(outputs);
+        Assert.assertEquals(aggregator.getTargetBatchSize(), 5);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2021 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.serving.wlm;
+
+import ai.djl.serving.ConfigManagerTest;
+import ai.djl.serving.util.ConfigManager;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.commons.cli.ParseException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class CpuThreadPolicyTest {
+
+    @Test
+    public void testIntraOpThreads() throws ParseException, ReflectiveOperationException {
+        ConfigManager.init(ConfigManagerTest.parseArguments(new String[0]));
+        ConfigManager config = ConfigManager.getInstance();
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        // the engine default is kept unless configured
+        CpuThreadPolicy policy = new CpuThreadPolicy(config);
+        policy.register();
+        Assert.assertEquals(policy.getIntraOpThreads(), 0);
+
+        ConfigManagerTest.setConfiguration(config, "intra_op_threads", "0");
+        policy = new CpuThreadPolicy(config);
+        int slot = policy.register();
+        Assert.assertEquals(slot, 0);
+        Assert.assertEquals(policy.getIntraOpThreads(), cores);
+
+        // the cores are shared by the running workers, each worker keeps at least one thread
+        List<Integer> slots = new ArrayList<>();
+        for (int i = 0; i < cores; ++i) {
+            slots.add(policy.register());
+        }
+        Assert.assertEquals(policy.getIntraOpThreads(), 1);
+
+        // the budget is recomputed when workers stop and their slots are reused
+        int version = policy.getVersion();
+        for (int s : slots) {
+            policy.unregister(s);
+        }
+        Assert.assertNotEquals(policy.getVersion(), version);
+        Assert.assertEquals(policy.getIntraOpThreads(), cores);
+        Assert.assertEquals(policy.register(), 1);
+
+        ConfigManagerTest.setConfiguration(config, "intra_op_threads", "3");
+        policy = new CpuThreadPolicy(config);
+        policy.register();
+        policy.register();
+        Assert.assertEquals(policy.getIntraOpThreads(), 3);
+
+        ConfigManagerTest.setConfiguration(config, "intra_op_threads", "-1");
+    }
+}
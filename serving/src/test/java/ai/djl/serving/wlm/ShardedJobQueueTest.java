@@ -0,0 +1,139 @@
+/*
+ * Copyright 2021 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.serving.wlm;
+
+import ai.djl.modality.Input;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class ShardedJobQueueTest {
+
+    @Test
+    public void testCapacity() throws InterruptedException {
+        ShardedJobQueue queue = new ShardedJobQueue(2, 4);
+        Assert.assertTrue(queue.offer(new Job(null, "", new Input("1"))));
+        Assert.assertTrue(queue.offer(new Job(null, "", new Input("2"))));
+        Assert.assertFalse(queue.offer(new Job(null, "", new Input("3"))));
+        Assert.assertFalse(
+                queue.offer(new Job(null, "", new Input("3")), 1, TimeUnit.MILLISECONDS));
+        Assert.assertEquals(queue.size(), 2);
+        Assert.assertEquals(queue.remainingCapacity(), 0);
+
+        List<Job> list = new ArrayList<>();
+        Assert.assertEquals(queue.drainTo(list, 5), 2);
+        Assert.assertEquals(queue.size(), 0);
+        Assert.assertEquals(queue.remainingCapacity(), 2);
+        Assert.assertNull(queue.poll(1, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testWorkStealing() throws InterruptedException {
+        ShardedJobQueue queue = new ShardedJobQueue(100, 4);
+        int producers = 4;
+        int jobsPerProducer = 20;
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < producers; ++i) {
+            int id = i;
+            Thread thread =
+                    new Thread(
+                            () -> {
+                                for (int j = 0; j < jobsPerProducer; ++j) {
+                                    String requestId = id + "-" + j;
+                                    queue.offer(new Job(null, "", new Input(requestId)));
+                                }
+                            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Set<String> ids = new HashSet<>();
+        Job job;
+        while ((job = queue.poll()) != null) {
+            ids.add(job.getRequestId());
+        }
+        Assert.assertEquals(ids.size(), producers * jobsPerProducer);
+        Assert.assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testHomeShardFirst() throws InterruptedException {
+        ShardedJobQueue queue = new ShardedJobQueue(10, 4);
+        Job other = new Job(null, "", new Input("other"));
+        Job own = new Job(null, "", new Input("own"));
+
+        // threads that touch the queue one after the other are assigned different shards
+        Thread producer = new Thread(() -> queue.offer(other));
+        producer.start();
+        producer.join();
+        List<Job> jobs = new ArrayList<>();
+        Thread consumer =
+                new Thread(
+                        () -> {
+                            queue.offer(own);
+                            jobs.add(queue.poll());
+                            // the job of the other shard is stolen once the home shard is empty
+                            jobs.add(queue.poll());
+                            jobs.add(queue.poll());
+                        });
+        consumer.start();
+        consumer.join();
+
+        Assert.assertSame(jobs.get(0), own);
+        Assert.assertSame(jobs.get(1), other);
+        Assert.assertNull(jobs.get(2));
+    }
+
+    @Test
+    public void testSpillToOtherShards() {
+        // the capacity of 2 shards is 1 each, a full home shard uses the other one
+        ShardedJobQueue queue = new ShardedJobQueue(2, 2);
+        Assert.assertTrue(queue.offer(new Job(null, "", new Input("1"))));
+        Assert.assertTrue(queue.offer(new Job(null, "", new Input("2"))));
+        Assert.assertFalse(queue.offer(new Job(null, "", new Input("3"))));
+        Assert.assertNotNull(queue.poll());
+        Assert.assertTrue(queue.offer(new Job(null, "", new Input("3"))));
+    }
+
+    @Test
+    public void testBlocking() throws InterruptedException {
+        ShardedJobQueue queue = new ShardedJobQueue(1, 4);
+        List<Job> jobs = new ArrayList<>();
+        Thread consumer =
+                new Thread(
+                        () -> {
+                            try {
+                                for (int i = 0; i < 3; ++i) {
+                                    jobs.add(queue.take());
+                                }
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        });
+        consumer.start();
+        // the producer waits for the consumer when the queue is full
+        for (int i = 0; i < 3; ++i) {
+            queue.put(new Job(null, "", new Input(String.valueOf(i))));
+        }
+        consumer.join(10000);
+        Assert.assertEquals(jobs.size(), 3);
+        Assert.assertTrue(queue.isEmpty());
+    }
+}
@@ -270,6 +270,17 @@ public class TfNDArray implements NDArray {
         return ByteBuffer.wrap(buf);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public ByteBuffer asDirectByteBuffer() {
+        long len = getDataType().getNumOfBytes() * getShape().size();
+        ByteBuffer bb = manager.allocateDirect(Math.toIntExact(len));
+        try (Tensor<?> tensor = operand.asTensor()) {
+            tensor.rawData().copyTo(DataBuffers.of(bb), len);
+        }
+        return bb;
+    }
+
     /** {@inheritDoc} */
     @Override
     public void set(Buffer data) {
@@ -182,6 +182,14 @@ public class TfNDManager extends BaseNDManager {
     /** {@inheritDoc} */
     @Override
     public TfNDArray create(Buffer data, Shape shape, DataType dataType) {
+        if (data.isDirect() && data instanceof ByteBuffer) {
+            // TensorFlow copies the data into the tensor, no need for an intermediate buffer
+            ByteDataBuffer db = DataBuffers.of(((ByteBuffer) data).slice());
+            try (Tensor<?> tensor =
+                    Tensor.of(TfDataType.toTf(dataType), TfNDArray.toTfShape(shape), db)) {
+                return new TfNDArray(this, tensor);
+            }
+        }
         int size = data.remaining();
         // int8, uint8, boolean use ByteBuffer, so need to explicitly input DataType
         DataType inputType = DataType.fromBuffer(data);
@@ -220,6 +228,16 @@ public class TfNDManager extends BaseNDManager {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public NDArray from(NDArray array) {
+        if (array == null || array instanceof TfNDArray) {
+            return array;
+        }
+        // TensorFlow copies the data of the buffer into the tensor
+        return create(array.asDirectByteBuffer(), array.getShape(), array.getDataType());
+    }
+
     /** {@inheritDoc} */
     @Override
     public final Engine getEngine() {